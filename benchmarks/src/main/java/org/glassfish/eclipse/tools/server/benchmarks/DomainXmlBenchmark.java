@@ -0,0 +1,74 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.eclipse.tools.server.sdk.server.parser.HttpListenerReader;
+import org.glassfish.eclipse.tools.server.sdk.server.parser.NetworkListenerReader;
+import org.glassfish.eclipse.tools.server.sdk.server.parser.TargetConfigNameReader;
+import org.glassfish.eclipse.tools.server.sdk.server.parser.TreeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Local domain configuration reading.
+ * <p/>
+ * Mirrors <code>GlassFishServer.readServerConfiguration</code>: target configuration name is read
+ * in first pass over <code>domain.xml</code>, HTTP and network listeners of this configuration are
+ * read in second pass.
+ * <p/>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class DomainXmlBenchmark {
+
+    /** Recorded domain configuration name. */
+    @Param({ "domain", "domain-large" })
+    public String domain;
+
+    /** Domain configuration file. */
+    private File domainXml;
+
+    @Setup
+    public void setup() throws IOException {
+        Fixtures.quietLogging();
+        domainXml = Fixtures.extract("domain/" + domain + ".xml").toFile();
+    }
+
+    @Benchmark
+    public void readServerConfiguration(final Blackhole bh) {
+        TargetConfigNameReader configNameReader = new TargetConfigNameReader();
+        TreeParser.readXml(domainXml, configNameReader);
+        String configName = configNameReader.getTargetConfigName();
+        HttpListenerReader httpListenerReader = new HttpListenerReader(configName);
+        NetworkListenerReader networkListenerReader = new NetworkListenerReader(configName);
+        TreeParser.readXml(domainXml, httpListenerReader, networkListenerReader);
+        bh.consume(httpListenerReader.getResult());
+        bh.consume(networkListenerReader.getResult());
+    }
+
+}
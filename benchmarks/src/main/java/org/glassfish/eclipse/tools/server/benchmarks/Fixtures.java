@@ -0,0 +1,76 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.benchmarks;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Recorded benchmark input data.
+ * <p/>
+ * Fixtures are stored as class path resources under <code>/fixtures</code>.
+ * <p/>
+ */
+final class Fixtures {
+
+    /** Fixtures class path root. */
+    private static final String ROOT = "/fixtures/";
+
+    private Fixtures() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Load fixture content.
+     * <p/>
+     *
+     * @param name Fixture name relative to fixtures root, e.g. <code>rest/locations.xml</code>.
+     * @return Fixture content.
+     * @throws IOException when fixture does not exist or could not be read.
+     */
+    static byte[] load(final String name) throws IOException {
+        try (InputStream in = Fixtures.class.getResourceAsStream(ROOT + name)) {
+            if (in == null) {
+                throw new FileNotFoundException(ROOT + name);
+            }
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Copy fixture into temporary file for code reading files from disk.
+     * <p/>
+     * File is deleted when JVM exits.
+     * <p/>
+     *
+     * @param name Fixture name relative to fixtures root.
+     * @return Temporary file containing fixture content.
+     * @throws IOException when fixture could not be read or file could not be written.
+     */
+    static Path extract(final String name) throws IOException {
+        Path file = Files.createTempFile("fixture-", "-" + name.substring(name.lastIndexOf('/') + 1));
+        file.toFile().deleteOnExit();
+        return Files.write(file, load(name));
+    }
+
+    /**
+     * Suppress informational messages of benchmarked code so console output does not distort
+     * measurements.
+     */
+    static void quietLogging() {
+        Logger.getLogger("").setLevel(Level.WARNING);
+    }
+
+}
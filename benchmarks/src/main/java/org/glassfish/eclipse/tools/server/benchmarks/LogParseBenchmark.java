@@ -0,0 +1,90 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.eclipse.tools.server.log.LogRecordParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Server log record parsing.
+ * <p/>
+ * <code>parseRecords</code> runs {@link LogRecordParser} used by <code>StreamingLogFilter</code> on
+ * both recorded log formats. Pattern log filters depend on Eclipse platform and are not covered.
+ * <p/>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class LogParseBenchmark {
+
+    /**
+     * Recorded log lines in both formats.
+     */
+    @State(Scope.Benchmark)
+    public static class Log {
+
+        /** Recorded log name: ODL format of GlassFish 5+ or uniform format of GlassFish 4. */
+        @Param({ "server", "server-ulf" })
+        public String log;
+
+        /** Recorded log lines. */
+        private String[] lines;
+
+        @Setup
+        public void setup() throws IOException {
+            lines = lines("log/" + log + ".log");
+        }
+
+    }
+
+    /**
+     * Load fixture split into lines the same way as log lines are passed to log filter.
+     * <p/>
+     *
+     * @param name Fixture name.
+     * @return Fixture lines.
+     * @throws IOException when fixture could not be read.
+     */
+    private static String[] lines(final String name) throws IOException {
+        return new String(Fixtures.load(name), StandardCharsets.UTF_8).split("\r?\n", -1);
+    }
+
+    @Benchmark
+    public void parseRecords(final Log log, final Blackhole bh) {
+        LogRecordParser parser = new LogRecordParser();
+        for (String line : log.lines) {
+            if (parser.parse(line) == LogRecordParser.Result.RECORD) {
+                bh.consume(parser.getTime());
+                bh.consume(parser.getLevel());
+                bh.consume(parser.getLogger());
+                bh.consume(parser.getThread());
+                bh.consume(parser.getMessage());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Server log decoding and line splitting.
+ * <p/>
+ * Mirrors <code>LogReader.run</code> reading lines from log fetcher stream before they are passed
+ * to log filter. Log filters depend on Eclipse platform so they are not benchmarked yet.
+ * <p/>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class LogReadBenchmark {
+
+    /** Recorded log name: ODL format of GlassFish 5+ or uniform format of GlassFish 4. */
+    @Param({ "server", "server-ulf" })
+    public String log;
+
+    /** Recorded log content. */
+    private byte[] content;
+
+    @Setup
+    public void setup() throws IOException {
+        content = Fixtures.load("log/" + log + ".log");
+    }
+
+    @Benchmark
+    public void readLines(final Blackhole bh) throws IOException {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8));
+        for (String line = null; (line = reader.readLine()) != null;) {
+            bh.consume(line);
+        }
+    }
+
+}
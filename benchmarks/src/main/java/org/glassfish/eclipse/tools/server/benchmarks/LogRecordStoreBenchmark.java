@@ -0,0 +1,116 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.eclipse.tools.server.log.LogRecordParser;
+import org.glassfish.eclipse.tools.server.log.LogRecordStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Indexed log record store.
+ * <p/>
+ * Store is filled with records of recorded ODL <code>server.log</code> repeated <code>copies</code>
+ * times. <code>add</code> measures filling of the store including message spilling,
+ * <code>query*</code> measure filtered queries of the log records view.
+ * <p/>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Benchmark)
+public class LogRecordStoreBenchmark {
+
+    /** Number of copies of recorded log records in the store. */
+    @Param({ "100" })
+    public int copies;
+
+    /** Parsed records: time, level, logger, thread and message. */
+    private String[][] records;
+
+    /** Store filled with all records. */
+    private LogRecordStore store;
+
+    /** Time of the last record. */
+    private long lastTime;
+
+    @Setup
+    public void setup() throws IOException {
+        String[] lines = new String(Fixtures.load("log/server.log"), StandardCharsets.UTF_8).split("\r?\n", -1);
+        LogRecordParser parser = new LogRecordParser();
+        List<String[]> parsed = new ArrayList<>();
+        for (String line : lines) {
+            if (parser.parse(line) == LogRecordParser.Result.RECORD) {
+                parsed.add(new String[] { parser.getTime(), parser.getLevel(), parser.getLogger(),
+                        parser.getThread(), parser.getMessage() });
+            }
+        }
+        records = parsed.toArray(new String[0][]);
+        store = fill();
+        lastTime = store.getTime(store.size() - 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        store.close();
+    }
+
+    private LogRecordStore fill() {
+        LogRecordStore result = new LogRecordStore(Integer.MAX_VALUE, 8_000_000);
+        for (int copy = 0; copy < copies; copy++) {
+            for (String[] r : records) {
+                result.add(r[0], r[1], r[2], r[3], r[4]);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public LogRecordStore add() {
+        LogRecordStore result = fill();
+        result.close();
+        return result;
+    }
+
+    @Benchmark
+    public long[] queryLevel() {
+        return store.query(new LogRecordStore.Query(900, null, null, null, null, null));
+    }
+
+    @Benchmark
+    public long[] queryLoggerAndTime() {
+        return store.query(new LogRecordStore.Query(null, "jakarta.enterprise", null, lastTime - 60_000, null,
+                null));
+    }
+
+    @Benchmark
+    public long[] queryText() {
+        return store.query(new LogRecordStore.Query(800, null, null, null, null, "deploy"));
+    }
+
+}
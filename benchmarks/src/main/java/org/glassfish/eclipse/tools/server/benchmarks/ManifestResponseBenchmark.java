@@ -0,0 +1,69 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.Manifest;
+
+import org.glassfish.eclipse.tools.server.sdk.admin.ManifestResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * HTTP administration interface manifest response reading.
+ * <p/>
+ * Manifest is read from response stream as in <code>RunnerHttp.readResponse</code>, exit code is
+ * checked and message is decoded by {@link ManifestResponse} used by <code>RunnerHttp</code>. Runner
+ * itself depends on Eclipse platform through <code>GlassFishServer</code> so it can't be used here
+ * directly.
+ * <p/>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class ManifestResponseBenchmark {
+
+    /** Recorded response name. */
+    @Param({ "version", "list-applications" })
+    public String response;
+
+    /** Recorded response content. */
+    private byte[] content;
+
+    @Setup
+    public void setup() throws IOException {
+        content = Fixtures.load("http/" + response + ".mf");
+    }
+
+    @Benchmark
+    public void read(final Blackhole bh) throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.read(new ByteArrayInputStream(content));
+        bh.consume(ManifestResponse.successExitCode(manifest));
+        bh.consume(ManifestResponse.getMessage(manifest));
+        bh.consume(manifest.getEntries());
+    }
+
+}
@@ -0,0 +1,75 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.eclipse.tools.server.sdk.admin.ProcessIOContent;
+import org.glassfish.eclipse.tools.server.sdk.admin.ProcessIOParser;
+import org.glassfish.eclipse.tools.server.sdk.admin.ProcessIOResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Local <code>asadmin</code> process output verification.
+ * <p/>
+ * Output of recorded <code>asadmin start-domain --verbose</code> execution is repeated to requested
+ * number of lines and verified the same way as <code>RunnerAsadmin</code> does.
+ * <p/>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class ProcessIOParserBenchmark {
+
+    /** Number of process output lines before final status line. */
+    @Param({ "10", "1000" })
+    public int lines;
+
+    /** Process output. */
+    private String output;
+
+    @Setup
+    public void setup() throws IOException {
+        String[] recorded = new String(Fixtures.load("asadmin/start-domain.txt"), "UTF-8").split("\n");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            sb.append(recorded[i % (recorded.length - 1)]).append('\n');
+        }
+        sb.append(recorded[recorded.length - 1]).append('\n');
+        output = sb.toString();
+    }
+
+    @Benchmark
+    public ProcessIOResult verify() throws IOException {
+        ProcessIOContent content = new ProcessIOContent();
+        content.addOutput(
+                new String[] { "Command", "executed successfully" },
+                new String[] { "Command start-domain failed" });
+        ProcessIOParser parser = new ProcessIOParser(Writer.nullWriter(), new StringReader(output), content);
+        return parser.verify();
+    }
+
+}
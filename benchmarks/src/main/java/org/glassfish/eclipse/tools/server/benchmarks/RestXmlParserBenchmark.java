@@ -0,0 +1,68 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.eclipse.tools.server.sdk.admin.response.ResponseContentType;
+import org.glassfish.eclipse.tools.server.sdk.admin.response.ResponseParserFactory;
+import org.glassfish.eclipse.tools.server.sdk.admin.response.RestActionReport;
+import org.glassfish.eclipse.tools.server.sdk.admin.response.RestResponseParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * REST administration interface XML response parsing.
+ * <p/>
+ * Recorded responses range from small <code>__locations</code> report to large
+ * <code>list-jdbc-resources</code> report with hundreds of child messages and sub reports.
+ * <p/>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class RestXmlParserBenchmark {
+
+    /** Recorded response name. */
+    @Param({ "locations", "list-applications", "list-jdbc-resources" })
+    public String response;
+
+    /** Recorded response content. */
+    private byte[] content;
+
+    /** Parser used by REST command runners. */
+    private RestResponseParser parser;
+
+    @Setup
+    public void setup() throws IOException {
+        content = Fixtures.load("rest/" + response + ".xml");
+        parser = ResponseParserFactory.getRestParser(ResponseContentType.APPLICATION_XML);
+    }
+
+    @Benchmark
+    public RestActionReport parse() {
+        return parser.parse(new ByteArrayInputStream(content));
+    }
+
+}
@@ -0,0 +1,111 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.eclipse.tools.server.sdk.utils.StringPrefixTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Prefix tree matching used by process output verification.
+ * <p/>
+ * Tree is filled with typical <code>asadmin</code> success and error strings and matched against
+ * process output lines, both as strings and through cyclic buffer.
+ * <p/>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class StringPrefixTreeBenchmark {
+
+    /** Strings stored in tree. */
+    private static final String[] KEYS = {
+            "Command", "Command start-domain failed", "Command stop-domain failed",
+            "Command deploy failed", "Command undeploy failed", "executed successfully",
+            "Enter admin user name>", "Enter admin password>", "Enter the new admin password>",
+            "Enter the new admin password again>", "Enter the admin password>", "Waiting for",
+            "Successfully started the domain", "Admin Port:", "Command Port:", "Debugging is enabled",
+            "There is a process already using the admin port", "No such domain" };
+
+    /** Process output lines matched against tree. */
+    private static final String[] LINES = {
+            "Waiting for domain1 to start ...",
+            "Successfully started the domain : domain1",
+            "domain  Location: /opt/glassfish7/glassfish/domains/domain1",
+            "Log File: /opt/glassfish7/glassfish/domains/domain1/logs/server.log",
+            "Admin Port: 4848",
+            "Command start-domain executed successfully.",
+            "Enter the new admin password again>" };
+
+    /** Tree with stored strings. */
+    private StringPrefixTree<String> tree;
+
+    /** Cyclic buffers containing process output lines wrapped around buffer end. */
+    private char[][] buffers;
+
+    /** Beginning of process output line in cyclic buffer. */
+    private int[] starts;
+
+    @Setup
+    public void setup() {
+        tree = new StringPrefixTree<>(false);
+        for (String key : KEYS) {
+            tree.add(key, key);
+        }
+        buffers = new char[LINES.length][];
+        starts = new int[LINES.length];
+        for (int i = 0; i < LINES.length; i++) {
+            String line = LINES[i];
+            char[] buff = new char[line.length() + 8];
+            int start = buff.length - 5;
+            for (int j = 0; j < line.length(); j++) {
+                buff[(start + j) % buff.length] = line.charAt(j);
+            }
+            buffers[i] = buff;
+            starts[i] = start;
+        }
+    }
+
+    @Benchmark
+    public void prefixMatch(final Blackhole bh) {
+        for (String line : LINES) {
+            bh.consume(tree.prefixMatch(line));
+        }
+    }
+
+    @Benchmark
+    public void match(final Blackhole bh) {
+        for (String line : LINES) {
+            bh.consume(tree.match(line));
+        }
+    }
+
+    @Benchmark
+    public void matchCyclicBuffer(final Blackhole bh) {
+        for (int i = 0; i < buffers.length; i++) {
+            bh.consume(tree.matchCyclicBuffer(buffers[i], LINES[i].length(), starts[i]));
+        }
+    }
+
+}
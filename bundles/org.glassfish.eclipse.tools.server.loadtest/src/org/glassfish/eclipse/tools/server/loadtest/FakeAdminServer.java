@@ -0,0 +1,409 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process stand-in of GlassFish server administration interface.
+ * <p/>
+ * Serves any number of simulated servers, each of them listening on its own loopback port. HTTP
+ * interface commands (<code>/__asadmin/</code>) are answered with manifest responses.
+ * <code>version</code>, <code>__locations</code> and <code>list-components</code> commands return
+ * realistic content, any other command just succeeds.
+ * <p/>
+ * Response latency, failure rate and size of listing responses are configurable. Responses are
+ * delayed without blocking any thread, so thousands of commands may be pending at once. Single
+ * servers can be stopped and started again to simulate unreachable servers.
+ * <p/>
+ * Class depends on JDK only and can be launched directly as a single source file program:
+ * <pre>
+ * java FakeAdminServer.java -servers 10 -latency 20
+ * </pre>
+ * <p/>
+ */
+public class FakeAdminServer {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** HTTP command interface path. */
+    public static final String HTTP_PATH = "/__asadmin/";
+
+    /** Default simulated GlassFish version. */
+    public static final String DEFAULT_VERSION = "7.0.9";
+
+    /** Approximate size of single listed application in listing response (in bytes). */
+    private static final int LISTED_ITEM_SIZE = 24;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Run fake administration interface until process is terminated.
+     * <p/>
+     * Supported arguments: <code>-servers &lt;count&gt;</code>, <code>-latency &lt;ms&gt;</code>,
+     * <code>-jitter &lt;ms&gt;</code>, <code>-errorRate &lt;0..1&gt;</code>,
+     * <code>-payload &lt;bytes&gt;</code> and <code>-version &lt;version&gt;</code>.
+     * <p/>
+     *
+     * @param args Command line arguments.
+     * @throws Exception when server could not be started.
+     */
+    public static void main(final String[] args) throws Exception {
+        Map<String, String> options = new TreeMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i], args[i + 1]);
+        }
+        FakeAdminServer server = new FakeAdminServer(Integer.parseInt(options.getOrDefault("-servers", "1")));
+        server.setLatency(Integer.parseInt(options.getOrDefault("-latency", "0")));
+        server.setJitter(Integer.parseInt(options.getOrDefault("-jitter", "0")));
+        server.setErrorRate(Double.parseDouble(options.getOrDefault("-errorRate", "0")));
+        server.setPayloadSize(Integer.parseInt(options.getOrDefault("-payload", "0")));
+        server.setVersion(options.getOrDefault("-version", DEFAULT_VERSION));
+        server.start();
+        for (int i = 0; i < server.size(); i++) {
+            System.out.println("Server " + i + " listening on port " + server.getPort(i));
+        }
+        Thread.currentThread().join();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** HTTP servers of individual simulated servers, <code>null</code> for stopped server. */
+    private final HttpServer[] servers;
+
+    /** Ports of individual simulated servers. */
+    private final int[] ports;
+
+    /** Executor handling requests and delayed responses. */
+    private final ScheduledThreadPoolExecutor executor;
+
+    /** Number of received requests. */
+    private final LongAdder requests = new LongAdder();
+
+    /** Number of simulated failures. */
+    private final LongAdder failures = new LongAdder();
+
+    /** Response latency (in miliseconds). */
+    private volatile int latency;
+
+    /** Maximum random response latency addition (in miliseconds). */
+    private volatile int jitter;
+
+    /** Probability of command failure. */
+    private volatile double errorRate;
+
+    /** Approximate size of listing responses content (in bytes). */
+    private volatile int payloadSize;
+
+    /** Simulated GlassFish version. */
+    private volatile String version = DEFAULT_VERSION;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of fake administration interface.
+     * <p/>
+     *
+     * @param count Number of simulated servers.
+     */
+    public FakeAdminServer(final int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.servers = new HttpServer[count];
+        this.ports = new int[count];
+        this.executor = new ScheduledThreadPoolExecutor(Math.max(2, Runtime.getRuntime().availableProcessors()),
+                r -> {
+                    Thread t = new Thread(r, "Fake GlassFish Admin");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters and Setters //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get number of simulated servers.
+     * <p/>
+     *
+     * @return Number of simulated servers.
+     */
+    public int size() {
+        return servers.length;
+    }
+
+    /**
+     * Get administration port of simulated server.
+     * <p/>
+     *
+     * @param index Simulated server index.
+     * @return Administration port or <code>0</code> when server was never started.
+     */
+    public int getPort(final int index) {
+        return ports[index];
+    }
+
+    /**
+     * Get number of received requests.
+     * <p/>
+     *
+     * @return Number of received requests.
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Get number of simulated command failures.
+     * <p/>
+     *
+     * @return Number of simulated command failures.
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Set response latency.
+     * <p/>
+     *
+     * @param latency Response latency (in miliseconds).
+     */
+    public void setLatency(final int latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Set maximum random response latency addition.
+     * <p/>
+     *
+     * @param jitter Maximum random latency addition (in miliseconds).
+     */
+    public void setJitter(final int jitter) {
+        this.jitter = jitter;
+    }
+
+    /**
+     * Set probability of command failure.
+     * <p/>
+     * Failed commands are answered with <code>FAILURE</code> exit code.
+     * <p/>
+     *
+     * @param errorRate Probability of command failure from interval <code>[0, 1]</code>.
+     */
+    public void setErrorRate(final double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * Set approximate size of listing responses content.
+     * <p/>
+     *
+     * @param payloadSize Size of listing responses content (in bytes).
+     */
+    public void setPayloadSize(final int payloadSize) {
+        this.payloadSize = payloadSize;
+    }
+
+    /**
+     * Set simulated GlassFish version.
+     * <p/>
+     *
+     * @param version GlassFish version, e.g. <code>7.0.9</code>.
+     */
+    public void setVersion(final String version) {
+        this.version = version;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Start all simulated servers.
+     * <p/>
+     *
+     * @throws IOException when server socket could not be opened.
+     */
+    public void start() throws IOException {
+        for (int i = 0; i < servers.length; i++) {
+            start(i);
+        }
+    }
+
+    /**
+     * Start simulated server.
+     * <p/>
+     * Server which was already started before is started on the same port again.
+     * <p/>
+     *
+     * @param index Simulated server index.
+     * @throws IOException when server socket could not be opened.
+     */
+    public synchronized void start(final int index) throws IOException {
+        if (servers[index] != null) {
+            return;
+        }
+        HttpServer server = HttpServer.create(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), ports[index]), 0);
+        server.createContext(HTTP_PATH, this::handle);
+        server.setExecutor(executor);
+        server.start();
+        servers[index] = server;
+        ports[index] = server.getAddress().getPort();
+    }
+
+    /**
+     * Stop simulated server. Its port is refusing connections until it is started again.
+     * <p/>
+     *
+     * @param index Simulated server index.
+     */
+    public synchronized void stop(final int index) {
+        if (servers[index] != null) {
+            servers[index].stop(0);
+            servers[index] = null;
+        }
+    }
+
+    /**
+     * Stop all simulated servers and release all resources.
+     */
+    public void stop() {
+        for (int i = 0; i < servers.length; i++) {
+            stop(i);
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * Handle administration command request.
+     * <p/>
+     *
+     * @param exchange HTTP request and response.
+     */
+    private void handle(final HttpExchange exchange) throws IOException {
+        requests.increment();
+        exchange.getRequestBody().readAllBytes();
+        String path = exchange.getRequestURI().getPath();
+        String command = path.substring(path.indexOf('/', 1) + 1);
+        boolean success = errorRate <= 0 || ThreadLocalRandom.current().nextDouble() >= errorRate;
+        if (!success) {
+            failures.increment();
+        }
+        byte[] response = httpResponse(command, success);
+        int delay = latency + (jitter > 0 ? ThreadLocalRandom.current().nextInt(jitter + 1) : 0);
+        if (delay > 0) {
+            executor.schedule(() -> send(exchange, response), delay, TimeUnit.MILLISECONDS);
+        } else {
+            send(exchange, response);
+        }
+    }
+
+    /**
+     * Send command response and finish the exchange.
+     * <p/>
+     *
+     * @param exchange HTTP request and response.
+     * @param response Response content.
+     */
+    private void send(final HttpExchange exchange, final byte[] response) {
+        try (exchange) {
+            exchange.getResponseHeaders().set("Content-Type", "text/plain");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } catch (IOException ex) {
+            // Client went away, e.g. command was cancelled.
+        }
+    }
+
+    /**
+     * Build HTTP interface manifest response.
+     * <p/>
+     *
+     * @param command Command name.
+     * @param success Value of <code>true</code> for successful command response.
+     * @return Manifest response content.
+     */
+    private byte[] httpResponse(final String command, final boolean success) throws IOException {
+        Manifest manifest = new Manifest();
+        Attributes attributes = manifest.getMainAttributes();
+        attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        attributes.putValue("exit-code", success ? "SUCCESS" : "FAILURE");
+        attributes.putValue("use-main-children-attribute", "false");
+        String message;
+        if (!success) {
+            message = "Command " + command + " failed: simulated failure";
+        } else if ("version".equals(command)) {
+            message = versionMessage();
+        } else if ("__locations".equals(command)) {
+            message = "/opt/glassfish7/glassfish/domains/domain1";
+            attributes.putValue("Base-Root_value", "/opt/glassfish7/glassfish");
+            attributes.putValue("Domain-Root_value", "/opt/glassfish7/glassfish/domains/domain1");
+        } else if ("list-components".equals(command)) {
+            message = "";
+            StringBuilder children = new StringBuilder();
+            for (int i = 0; i < payloadSize / LISTED_ITEM_SIZE; i++) {
+                if (i > 0) {
+                    children.append(';');
+                }
+                children.append("app-").append(i).append(" <web, ejb>");
+            }
+            attributes.putValue("children", URLEncoder.encode(children.toString(), StandardCharsets.UTF_8)
+                    .replace("%3B", ";"));
+        } else {
+            message = "Command " + command + " executed successfully.";
+        }
+        attributes.putValue("message", URLEncoder.encode(message, StandardCharsets.UTF_8));
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 + payloadSize);
+        manifest.write(out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Build <code>version</code> command message.
+     * <p/>
+     *
+     * @return Version command message.
+     */
+    private String versionMessage() {
+        return "Eclipse GlassFish " + version + " (build " + version + ")";
+    }
+
+}
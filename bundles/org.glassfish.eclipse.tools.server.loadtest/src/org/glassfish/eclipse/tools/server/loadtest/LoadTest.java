@@ -0,0 +1,475 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.loadtest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.core.runtime.CoreException;
+import org.glassfish.eclipse.tools.server.GlassFishServer;
+import org.glassfish.eclipse.tools.server.sdk.GlassFishStatus;
+import org.glassfish.eclipse.tools.server.sdk.GlassFishStatusListener;
+import org.glassfish.eclipse.tools.server.sdk.TaskState;
+import org.glassfish.eclipse.tools.server.sdk.admin.AdminConnectionPool;
+import org.glassfish.eclipse.tools.server.sdk.admin.Command;
+import org.glassfish.eclipse.tools.server.sdk.admin.CommandListComponents;
+import org.glassfish.eclipse.tools.server.sdk.admin.CommandLocation;
+import org.glassfish.eclipse.tools.server.sdk.admin.CommandMetrics;
+import org.glassfish.eclipse.tools.server.sdk.admin.CommandVersion;
+import org.glassfish.eclipse.tools.server.sdk.admin.Result;
+import org.glassfish.eclipse.tools.server.sdk.admin.ServerAdmin;
+import org.glassfish.eclipse.tools.server.sdk.data.GlassFishStatusTask;
+
+/**
+ * Load and latency test of administration interface and status checking.
+ * <p/>
+ * Starts {@link FakeAdminServer} with configured number of simulated servers, registers all of
+ * them in {@link GlassFishStatus} and drives administration commands through
+ * {@link ServerAdmin#execAsync(GlassFishServer, Command)} at configured rate for configured time.
+ * Part of simulated servers may be kept offline to exercise connection failures and circuit
+ * breaker. No real GlassFish server or network access is needed.
+ * <p/>
+ * Result is plain text report with command latency percentiles, outcome counters, status changes
+ * observed by status listener, final status of simulated servers and thread counts.
+ * <p/>
+ */
+public class LoadTest {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Status listener counting received events.
+     */
+    private static class CountingListener implements GlassFishStatusListener {
+
+        /** Number of status change events. */
+        private final LongAdder newStates = new LongAdder();
+
+        /** Number of status check error events. */
+        private final LongAdder errors = new LongAdder();
+
+        @Override
+        public void currentState(final GlassFishServer server,
+                final GlassFishStatus status, final GlassFishStatusTask task) {
+        }
+
+        @Override
+        public void newState(final GlassFishServer server,
+                final GlassFishStatus status, final GlassFishStatusTask task) {
+            newStates.increment();
+        }
+
+        @Override
+        public void error(final GlassFishServer server,
+                final GlassFishStatusTask task) {
+            errors.increment();
+        }
+
+        @Override
+        public void added() {
+        }
+
+        @Override
+        public void removed() {
+        }
+
+    }
+
+    /**
+     * Recorded command latencies.
+     */
+    private static class Latencies {
+
+        /** Recorded latencies (in microseconds). */
+        private long[] values = new long[1024];
+
+        /** Number of recorded latencies. */
+        private int count;
+
+        /**
+         * Record command latency.
+         * <p/>
+         *
+         * @param nanos Command latency (in nanoseconds).
+         */
+        synchronized void record(final long nanos) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = nanos / 1000;
+        }
+
+        /**
+         * Get sorted copy of recorded latencies.
+         * <p/>
+         *
+         * @return Sorted recorded latencies (in microseconds).
+         */
+        synchronized long[] sorted() {
+            long[] sorted = Arrays.copyOf(values, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Command driver tick period (in miliseconds). */
+    private static final int TICK = 100;
+
+    /** Time to wait for pending commands after test end (in miliseconds). */
+    private static final int DRAIN_TIME = 10000;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get percentile from sorted values.
+     * <p/>
+     *
+     * @param sorted Sorted values.
+     * @param percentile Percentile from interval <code>[0, 100]</code>.
+     * @return Percentile value or <code>0</code> when there are no values.
+     */
+    private static long percentile(final long[] sorted, final double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Number of simulated servers. */
+    private int servers = 200;
+
+    /** Test duration (in seconds). */
+    private int duration = 30;
+
+    /** Administration commands per second sent to each simulated server. */
+    private double rate = 0.5;
+
+    /** Fraction of simulated servers kept offline. */
+    private double offline = 0;
+
+    /** Command timeout (in miliseconds). */
+    private int timeout = 15000;
+
+    /** Response latency of simulated servers (in miliseconds). */
+    private int latency = 20;
+
+    /** Maximum random response latency addition (in miliseconds). */
+    private int jitter = 30;
+
+    /** Probability of command failure. */
+    private double errorRate = 0.01;
+
+    /** Approximate size of listing responses content (in bytes). */
+    private int payload = 4096;
+
+    /** Simulated GlassFish version. */
+    private String version = FakeAdminServer.DEFAULT_VERSION;
+
+    /** Commands with successful result. */
+    private final LongAdder completed = new LongAdder();
+
+    /** Commands with failed result or failed with an exception. */
+    private final LongAdder failed = new LongAdder();
+
+    /** Commands not finished in time. */
+    private final LongAdder timedOut = new LongAdder();
+
+    /** Commands sent and not finished yet. */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /** Latencies of finished commands. */
+    private final Latencies latencies = new Latencies();
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Set test configuration from command line arguments.
+     * <p/>
+     * Supported arguments: <code>-servers &lt;count&gt;</code>, <code>-duration &lt;s&gt;</code>,
+     * <code>-rate &lt;commands per second per server&gt;</code>,
+     * <code>-offline &lt;0..1&gt;</code>, <code>-timeout &lt;ms&gt;</code>,
+     * <code>-latency &lt;ms&gt;</code>, <code>-jitter &lt;ms&gt;</code>,
+     * <code>-errorRate &lt;0..1&gt;</code>, <code>-payload &lt;bytes&gt;</code> and
+     * <code>-version &lt;version&gt;</code>.
+     * <p/>
+     *
+     * @param args Command line arguments.
+     * @return This load test.
+     * @throws IllegalArgumentException when argument is unknown or has invalid value.
+     */
+    public LoadTest configure(final String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i];
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value of " + name);
+            }
+            String value = args[++i];
+            switch (name) {
+            case "-servers":
+                servers = Integer.parseInt(value);
+                break;
+            case "-duration":
+                duration = Integer.parseInt(value);
+                break;
+            case "-rate":
+                rate = Double.parseDouble(value);
+                break;
+            case "-offline":
+                offline = Double.parseDouble(value);
+                break;
+            case "-timeout":
+                timeout = Integer.parseInt(value);
+                break;
+            case "-latency":
+                latency = Integer.parseInt(value);
+                break;
+            case "-jitter":
+                jitter = Integer.parseInt(value);
+                break;
+            case "-errorRate":
+                errorRate = Double.parseDouble(value);
+                break;
+            case "-payload":
+                payload = Integer.parseInt(value);
+                break;
+            case "-version":
+                version = value;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown argument " + name);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Run load test.
+     * <p/>
+     *
+     * @return Test report.
+     * @throws IOException when fake administration interface could not be started.
+     * @throws CoreException when simulated servers could not be created.
+     * @throws InterruptedException when test was interrupted.
+     */
+    public String run() throws IOException, CoreException, InterruptedException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        int threadsBefore = threads.getThreadCount();
+        FakeAdminServer fake = new FakeAdminServer(servers);
+        fake.setLatency(latency);
+        fake.setJitter(jitter);
+        fake.setErrorRate(errorRate);
+        fake.setPayloadSize(payload);
+        fake.setVersion(version);
+        fake.start();
+        SimulatedServers factory = new SimulatedServers(version);
+        GlassFishServer[] simulated = new GlassFishServer[servers];
+        for (int i = 0; i < servers; i++) {
+            simulated[i] = factory.create("simulated-" + i, fake.getPort(i));
+        }
+        int offlineCount = (int) Math.round(servers * offline);
+        for (int i = 0; i < offlineCount; i++) {
+            fake.stop(i);
+        }
+        CountingListener listener = new CountingListener();
+        ScheduledExecutorService driver = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "GlassFish Load Test Driver");
+            t.setDaemon(true);
+            return t;
+        });
+        long start = System.nanoTime();
+        try {
+            threads.resetPeakThreadCount();
+            for (GlassFishServer server : simulated) {
+                primeProtocol(server);
+                GlassFishStatus.add(server, listener, false, GlassFishStatus.values());
+            }
+            double perTick = servers * rate * TICK / 1000;
+            AtomicInteger next = new AtomicInteger();
+            double[] credit = new double[1];
+            driver.scheduleAtFixedRate(() -> {
+                credit[0] += perTick;
+                while (credit[0] >= 1) {
+                    credit[0]--;
+                    int n = next.getAndIncrement();
+                    send(simulated[n % servers], n / servers);
+                }
+            }, 0, TICK, TimeUnit.MILLISECONDS);
+            Thread.sleep(duration * 1000L);
+            driver.shutdownNow();
+            long drainEnd = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DRAIN_TIME);
+            while (pending.get() > 0 && System.nanoTime() < drainEnd) {
+                Thread.sleep(TICK);
+            }
+            long elapsed = System.nanoTime() - start;
+            Map<GlassFishStatus, Integer> statuses = new EnumMap<>(GlassFishStatus.class);
+            for (GlassFishServer server : simulated) {
+                statuses.merge(GlassFishStatus.getStatus(server), 1, Integer::sum);
+            }
+            return report(fake, listener, statuses, offlineCount, elapsed,
+                    threadsBefore, threads.getPeakThreadCount(), threads.getThreadCount(),
+                    retries(simulated));
+        } finally {
+            driver.shutdownNow();
+            for (GlassFishServer server : simulated) {
+                GlassFishStatus.remove(server);
+            }
+            fake.stop();
+            factory.close();
+        }
+    }
+
+    /**
+     * Send administration command to simulated server.
+     * <p/>
+     * Servers are asked for version, locations and deployed components in turn.
+     * <p/>
+     *
+     * @param server Simulated server.
+     * @param round Number of commands previously sent to this server.
+     */
+    private void send(final GlassFishServer server, final int round) {
+        Command command;
+        switch (round % 3) {
+        case 0:
+            command = new CommandVersion();
+            break;
+        case 1:
+            command = new CommandLocation();
+            break;
+        default:
+            command = new CommandListComponents(null);
+        }
+        primeProtocol(server);
+        pending.incrementAndGet();
+        long sent = System.nanoTime();
+        CompletableFuture<Result<?>> future = ServerAdmin.execAsync(server, command);
+        future.orTimeout(timeout, TimeUnit.MILLISECONDS).whenComplete((result, thrown) -> {
+            pending.decrementAndGet();
+            if (thrown instanceof TimeoutException) {
+                timedOut.increment();
+                return;
+            }
+            latencies.record(System.nanoTime() - sent);
+            if (thrown == null && result.getState() == TaskState.COMPLETED) {
+                completed.increment();
+            } else {
+                failed.increment();
+            }
+        });
+    }
+
+    /**
+     * Set administration interface protocol of simulated server unless it is cached already.
+     * <p/>
+     * JDK HTTP server never answers secure port probe which ends its lines with bare LF, so each
+     * probe would wait for its timeout. Protocol dropped after connection failures is restored
+     * before every command.
+     * <p/>
+     *
+     * @param server Simulated server.
+     */
+    private static void primeProtocol(final GlassFishServer server) {
+        AdminConnectionPool pool = AdminConnectionPool.get(server);
+        if (pool.getProtocol(server.getHost(), server.getAdminPort()) == null) {
+            pool.setProtocol(server.getHost(), server.getAdminPort(), "http");
+        }
+    }
+
+    /**
+     * Get number of administration command retries of simulated servers.
+     * <p/>
+     *
+     * @param simulated Simulated servers.
+     * @return Number of administration command retries.
+     */
+    private static long retries(final GlassFishServer[] simulated) {
+        long retries = 0;
+        for (GlassFishServer server : simulated) {
+            for (CommandMetrics.CommandStats stats : CommandMetrics.get(server).getAllStats()) {
+                retries += stats.getRetries();
+            }
+        }
+        return retries;
+    }
+
+    /**
+     * Build test report.
+     */
+    private String report(final FakeAdminServer fake, final CountingListener listener,
+            final Map<GlassFishStatus, Integer> statuses, final int offlineCount, final long elapsed,
+            final int threadsBefore, final int threadsPeak, final int threadsAfter, final long retries) {
+        long[] sorted = latencies.sorted();
+        double seconds = elapsed / 1e9;
+        long sent = completed.sum() + failed.sum() + timedOut.sum() + pending.get();
+        StringBuilder sb = new StringBuilder(1024);
+        sb.append(String.format(Locale.ENGLISH,
+                "GlassFish administration load test%n"
+                + "  servers:     %d (%d offline), GlassFish %s%n"
+                + "  simulated:   latency %d ms + 0..%d ms, error rate %.3f, payload %d B%n"
+                + "  duration:    %.1f s%n",
+                servers, offlineCount, version, latency, jitter, errorRate, payload, seconds));
+        sb.append(String.format(Locale.ENGLISH,
+                "Commands%n"
+                + "  sent:        %d (%.1f/s)%n"
+                + "  completed:   %d%n"
+                + "  failed:      %d%n"
+                + "  timed out:   %d%n"
+                + "  pending:     %d%n"
+                + "  retries:     %d%n"
+                + "  requests:    %d received by fake server, %d simulated failures%n",
+                sent, sent / seconds, completed.sum(), failed.sum(), timedOut.sum(), pending.get(),
+                retries, fake.getRequests(), fake.getFailures()));
+        sb.append(String.format(Locale.ENGLISH,
+                "Latency (ms)%n"
+                + "  p50 %.1f  p90 %.1f  p99 %.1f  p99.9 %.1f  max %.1f%n",
+                percentile(sorted, 50) / 1e3, percentile(sorted, 90) / 1e3, percentile(sorted, 99) / 1e3,
+                percentile(sorted, 99.9) / 1e3, percentile(sorted, 100) / 1e3));
+        sb.append(String.format(Locale.ENGLISH,
+                "Status checking%n"
+                + "  changes:     %d%n"
+                + "  errors:      %d%n"
+                + "  final:       %s%n",
+                listener.newStates.sum(), listener.errors.sum(), statuses));
+        sb.append(String.format(Locale.ENGLISH,
+                "Threads%n"
+                + "  before %d  peak %d  after %d%n",
+                threadsBefore, threadsPeak, threadsAfter));
+        return sb.toString();
+    }
+
+}
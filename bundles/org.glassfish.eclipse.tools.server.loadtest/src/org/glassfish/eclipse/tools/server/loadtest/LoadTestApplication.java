@@ -0,0 +1,36 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.loadtest;
+
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+
+/**
+ * Headless application running {@link LoadTest}.
+ * <p/>
+ * Launch with <code>-application org.glassfish.eclipse.tools.server.loadtest</code> followed by
+ * {@link LoadTest#configure(String[])} arguments. Report is printed to standard output.
+ * <p/>
+ */
+public class LoadTestApplication implements IApplication {
+
+    @Override
+    public Object start(final IApplicationContext context) throws Exception {
+        String[] args = (String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS);
+        LoadTest test = new LoadTest().configure(args != null ? args : new String[0]);
+        System.out.println(test.run());
+        return EXIT_OK;
+    }
+
+    @Override
+    public void stop() {
+    }
+
+}
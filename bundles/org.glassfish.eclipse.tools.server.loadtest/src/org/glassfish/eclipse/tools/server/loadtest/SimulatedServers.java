@@ -0,0 +1,140 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.wst.server.core.IRuntimeWorkingCopy;
+import org.eclipse.wst.server.core.IServerWorkingCopy;
+import org.glassfish.eclipse.tools.server.GlassFishRuntime;
+import org.glassfish.eclipse.tools.server.GlassFishServer;
+
+/**
+ * Factory of GlassFish server entities of simulated servers served by {@link FakeAdminServer}.
+ * <p/>
+ * Entities are regular GlassFish server delegates of WTP server working copies which are never
+ * saved, so they do not show up in the workspace. All of them share single runtime working copy
+ * located in temporary directory which contains just enough of GlassFish installation to report
+ * simulated version. Servers are marked as Docker instances, so they are reported as remote ones
+ * and no local domain files are ever accessed.
+ * <p/>
+ */
+public class SimulatedServers implements AutoCloseable {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Host of all simulated servers. */
+    private static final String HOST = "127.0.0.1";
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Create minimal GlassFish installation reporting given version.
+     * <p/>
+     * Only <code>glassfish/modules/glassfish-api.jar</code> with bundle version is created.
+     * <p/>
+     *
+     * @param version Simulated GlassFish version.
+     * @return Installation directory.
+     * @throws IOException when installation could not be written.
+     */
+    private static Path createInstallation(final String version) throws IOException {
+        Path directory = Files.createTempDirectory("glassfish-loadtest");
+        Path modules = Files.createDirectories(directory.resolve("glassfish").resolve("modules"));
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().putValue("Bundle-Version", version);
+        try (OutputStream out = Files.newOutputStream(modules.resolve("glassfish-api.jar"));
+                JarOutputStream jar = new JarOutputStream(out, manifest)) {
+            jar.finish();
+        }
+        return directory;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Temporary GlassFish installation directory. */
+    private final Path installation;
+
+    /** Runtime shared by all simulated servers. */
+    private final IRuntimeWorkingCopy runtime;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of simulated servers factory.
+     * <p/>
+     *
+     * @param version Simulated GlassFish version.
+     * @throws IOException when temporary installation could not be created.
+     * @throws CoreException when runtime could not be created.
+     */
+    public SimulatedServers(final String version) throws IOException, CoreException {
+        installation = createInstallation(version);
+        runtime = GlassFishRuntime.TYPE.createRuntime(null, null);
+        runtime.setLocation(new org.eclipse.core.runtime.Path(installation.toString()));
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Create GlassFish server entity of simulated server.
+     * <p/>
+     *
+     * @param name Server name.
+     * @param adminPort Administration port of simulated server.
+     * @return GlassFish server entity.
+     * @throws CoreException when server could not be created.
+     */
+    public GlassFishServer create(final String name, final int adminPort) throws CoreException {
+        IServerWorkingCopy wc = GlassFishServer.TYPE.createServer(name, null, runtime, null);
+        wc.setName(name);
+        wc.setHost(HOST);
+        wc.setAttribute(GlassFishServer.ATTR_ADMINPORT, adminPort);
+        wc.setAttribute(GlassFishServer.ATTR_SERVERPORT, adminPort);
+        GlassFishServer server = (GlassFishServer) wc.loadAdapter(GlassFishServer.class, null);
+        server.setInstanceType(GlassFishServer.DOCKER_TYPE);
+        server.setAdminUser("admin");
+        server.setAdminPassword("");
+        return server;
+    }
+
+    /**
+     * Delete temporary GlassFish installation.
+     */
+    @Override
+    public void close() throws IOException {
+        try (Stream<Path> paths = Files.walk(installation)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+}
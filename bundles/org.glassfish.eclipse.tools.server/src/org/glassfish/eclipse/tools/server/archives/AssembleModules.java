@@ -32,6 +32,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.resources.IFile;
@@ -57,7 +58,8 @@ import org.eclipse.wst.server.core.util.ProjectModule;
 import org.eclipse.wst.server.core.util.PublishHelper;
 import org.glassfish.eclipse.tools.server.GlassFishServer;
 import org.glassfish.eclipse.tools.server.GlassFishServerPlugin;
-import org.glassfish.eclipse.tools.server.deploying.GlassFishServerBehaviour;
+import org.glassfish.eclipse.tools.server.internal.ServerCapabilities;
+import org.glassfish.eclipse.tools.server.utils.Version;
 
 /*
  * Assemble modules (i.e if a web app depends on a utility lib, we need to create the jar file for this utility and
@@ -73,13 +75,21 @@ public class AssembleModules {
 	protected PublishHelper publishHelper;
 	protected GlassFishServer server;
 	protected boolean childNeedsARedeployment;
+	protected PublishIndex publishIndex; // Index of published files, null to publish by timestamps
+	protected List<String> changedPaths; // Files changed by the last copy, null when not known
 
 	public AssembleModules(IModule[] modulePath, IPath assembleRoot, GlassFishServer server, PublishHelper helper) {
+		this(modulePath, assembleRoot, server, helper, null);
+	}
+
+	public AssembleModules(IModule[] modulePath, IPath assembleRoot, GlassFishServer server, PublishHelper helper,
+			PublishIndex publishIndex) {
 		this.modulePath = modulePath;
 		this.module = modulePath[modulePath.length - 1]; // last segment of the module path
 		this.assembleRoot = assembleRoot;
 		this.server = server;
 		this.publishHelper = helper;
+		this.publishIndex = publishIndex;
 
 		logMessage("AssembleModules assembleRoot=" + assembleRoot);
 	}
@@ -93,6 +103,11 @@ public class AssembleModules {
 
 		IWebModule webModule = (IWebModule) module.loadAdapter(IWebModule.class, monitor);
 		IModule[] childModules = webModule.getModules();
+		IProgressMonitor workerMonitor = AssemblyWorkers.cancelOnly(monitor);
+		boolean glassFish31 = isGlassFish31();
+
+		// Child modules are assembled in parallel, each to its own path
+		List<Callable<Boolean>> childAssemblies = new ArrayList<>(childModules.length);
 		for (IModule childModule : childModules) {
 			String uri = webModule.getURI(childModule);
 			if (uri == null) { // The bad memories of WTP 1.0
@@ -101,13 +116,19 @@ public class AssembleModules {
 
 			IJ2EEModule jeeModule = (IJ2EEModule) childModule.loadAdapter(IJ2EEModule.class, monitor);
 			if (jeeModule != null && jeeModule.isBinary()) { // Binary module
-				ProjectModule pm = (ProjectModule) childModule.loadAdapter(ProjectModule.class, null);
-				IModuleResource[] resources = pm.members();
-				publishHelper.publishToPath(resources, parent.append(uri), monitor);
+				childAssemblies.add(() -> {
+					ProjectModule pm = (ProjectModule) childModule.loadAdapter(ProjectModule.class, null);
+					IModuleResource[] resources = pm.members();
+					AssemblyWorkers
+							.onCallingThread(() -> publishHelper.publishToPath(resources, parent.append(uri), workerMonitor));
+					return false;
+				});
 			} else { // Project module
-				String version = GlassFishServerBehaviour.getVersion(server);
-				if (version.indexOf(" 3.1") == -1) {
-					packModule(childModule, uri, parent);
+				if (!glassFish31) {
+					childAssemblies.add(() -> {
+						packModule(childModule, uri, parent);
+						return false;
+					});
 				} else {
 
 					if (shouldRepack(childModule)) {
@@ -117,14 +138,20 @@ public class AssembleModules {
 						childModulePath[childModulePath.length - 1] = childModule;
 
 						AssembleModules assembler = new AssembleModules(childModulePath, assembleRoot.append(uri),
-								server, publishHelper);
-						childNeedsARedeployment = (childNeedsARedeployment || assembler.needsARedeployment());
-						assembler.copyModule(childModule, monitor);
+								server, publishHelper, publishIndex);
+						childAssemblies.add(() -> {
+							assembler.copyModule(childModule, workerMonitor);
+							return assembler.needsARedeployment();
+						});
 					}
 				}
 			}
 		}
 
+		for (boolean childNeedsRedeployment : AssemblyWorkers.invokeAll(childAssemblies)) {
+			childNeedsARedeployment = (childNeedsARedeployment || childNeedsRedeployment);
+		}
+
 		return parent;
 	}
 
@@ -203,7 +230,7 @@ public class AssembleModules {
 			}
 
 		}
-		IStatus[] status = publishHelper.publishSmart(pm.members(), assembleRoot, jarPaths, monitor);
+		IStatus[] status = publish(pm.members(), jarPaths, monitor);
 		if (status != null && status.length > 0) {
 			// no need to emit an error like CoreException(status[0]); just log in the entry
 			// see https://glassfishplugins.dev.java.net/issues/show_bug.cgi?id=268
@@ -248,7 +275,7 @@ public class AssembleModules {
 		}
 		IPath[] pathArr = new IPath[ignorePaths.size()];
 		pathArr = ignorePaths.toArray(pathArr);
-		IStatus[] status = publishHelper.publishSmart(pm.members(), assembleRoot, pathArr, monitor);
+		IStatus[] status = publish(pm.members(), pathArr, monitor);
 		if (status != null && status.length > 0) {
 			// no need to emit an error like CoreException(status[0]); just log in the entry
 			// see https://glassfishplugins.dev.java.net/issues/show_bug.cgi?id=268
@@ -260,6 +287,29 @@ public class AssembleModules {
 		return assembleRoot;
 	}
 
+	/**
+	 * Copies module resources to the assemble root, through the publish index
+	 * when there is one. Paths of changed files are recorded for redeploy
+	 * decisions.
+	 *
+	 * @param resources   module resources
+	 * @param ignorePaths paths of child modules not to be deleted
+	 * @return problems of the copy
+	 */
+	private IStatus[] publish(IModuleResource[] resources, IPath[] ignorePaths, IProgressMonitor monitor)
+			throws CoreException {
+		if (publishIndex == null) {
+			changedPaths = null;
+			return AssemblyWorkers
+					.onCallingThread(() -> publishHelper.publishSmart(resources, assembleRoot, ignorePaths, monitor));
+		}
+
+		PublishIndex.Result result = publishIndex.publish(resources, assembleRoot, ignorePaths, publishHelper,
+				monitor);
+		changedPaths = result.getChangedPaths();
+		return result.getStatus();
+	}
+
 	/*
 	 * not used for now... Would be ejb module when v3 has them
 	 *
@@ -303,6 +353,21 @@ public class AssembleModules {
 
 	}
 
+	/**
+	 * Checks if the server is GlassFish 3.1. Cached capabilities of running server
+	 * are used when known, version of server installation otherwise.
+	 *
+	 * @return server is GlassFish 3.1
+	 */
+	private boolean isGlassFish31() {
+		ServerCapabilities capabilities = ServerCapabilities.getIfKnown(server);
+		if (capabilities != null && capabilities.getVersionString() != null) {
+			return capabilities.getVersionString().indexOf(" 3.1") != -1;
+		}
+		Version version = server.getVersion();
+		return version != null && version.matches("[3.1-3.2)");
+	}
+
 	/**
 	 * Checks if there has been a change in the published resources.
 	 *
@@ -328,6 +393,10 @@ public class AssembleModules {
 	public boolean needsARedeployment() {
 		Server _server = (Server) server.getServer();
 
+		if (changedPaths != null) {
+			return childNeedsARedeployment || !getModifiedSourceFiles().isEmpty();
+		}
+
 		return childNeedsARedeployment || criticalResourceChangeThatNeedsARedeploy(
 				// The path that's going to be published
 				_server.getPublishedResourceDelta(modulePath),
@@ -341,9 +410,19 @@ public class AssembleModules {
 		List<File> files = new ArrayList<>();
 		Server _server = (Server) server.getServer();
 
-		IModuleResourceDelta[] deltas = _server.getPublishedResourceDelta(modulePath);
 		Pattern restartPattern = Pattern
 				.compile(_server.getAttribute(ATTR_RESTART_PATTERN, DEFAULT_RESTART_PATTERN));
+		if (changedPaths != null) {
+			// Files really changed by the last copy, known from the publish index
+			for (String changedPath : changedPaths) {
+				if (restartPattern.matcher(changedPath.substring(changedPath.lastIndexOf('/') + 1)).find()) {
+					files.add(new File(changedPath));
+				}
+			}
+			return files;
+		}
+
+		IModuleResourceDelta[] deltas = _server.getPublishedResourceDelta(modulePath);
 		if (deltas != null) {
 			for (IModuleResourceDelta delta : deltas) {
 				getModifiedSourceFiles(files, delta.getAffectedChildren(), restartPattern);
@@ -446,6 +525,10 @@ public class AssembleModules {
 				monitor);
 		IModule[] childModules = earModule.getModules();
 		logMessage("assembleDirDeployedEARModule childModules.length=" + childModules.length);
+		IProgressMonitor workerMonitor = AssemblyWorkers.cancelOnly(monitor);
+
+		// Child modules are assembled in parallel, each to its own directory
+		List<Callable<Boolean>> childAssemblies = new ArrayList<>(childModules.length);
 		for (IModule childModule2 : childModules) {
 
 			IModule childModule = childModule2;
@@ -456,8 +539,13 @@ public class AssembleModules {
 
 			IJ2EEModule jeeModule = (IJ2EEModule) childModule.loadAdapter(IJ2EEModule.class, monitor);
 			if (jeeModule != null && jeeModule.isBinary()) {// Binary module just copy
-				publishHelper.publishToPath(load(childModule, ProjectModule.class).members(), parent.append(uri),
-						monitor);
+				String binaryUri = uri;
+				childAssemblies.add(() -> {
+					IModuleResource[] resources = load(childModule, ProjectModule.class).members();
+					AssemblyWorkers.onCallingThread(
+							() -> publishHelper.publishToPath(resources, parent.append(binaryUri), workerMonitor));
+					return false;
+				});
 
 				continue; // Done! no need to go further
 			}
@@ -478,21 +566,27 @@ public class AssembleModules {
 				arraycopy(modulePath, 0, childModulePath, 0, modulePath.length);
 				childModulePath[childModulePath.length - 1] = childModule;
 
+				AssembleModules assembler = new AssembleModules(childModulePath, assembleRoot.append(uri), server,
+						publishHelper, publishIndex);
 				if (childModule.getModuleType().getId().equals("jst.web")) {//$NON-NLS-1$
-					AssembleModules assembler = new AssembleModules(childModulePath, assembleRoot.append(uri), server,
-							publishHelper);
-					childNeedsARedeployment = (childNeedsARedeployment || assembler.needsARedeployment());
-					assembler.assembleWebModule(new NullProgressMonitor());
+					childAssemblies.add(() -> {
+						assembler.assembleWebModule(workerMonitor);
+						return assembler.needsARedeployment();
+					});
 				} else {
-					AssembleModules assembler = new AssembleModules(childModulePath, assembleRoot.append(uri), server,
-							publishHelper);
-					childNeedsARedeployment = (childNeedsARedeployment || assembler.needsARedeployment());
-					assembler.copyModule(childModule, monitor);
+					childAssemblies.add(() -> {
+						assembler.copyModule(childModule, workerMonitor);
+						return assembler.needsARedeployment();
+					});
 				}
 
 			}
 		}
 
+		for (boolean childNeedsRedeployment : AssemblyWorkers.invokeAll(childAssemblies)) {
+			childNeedsARedeployment = (childNeedsARedeployment || childNeedsRedeployment);
+		}
+
 		return parent;
 
 	}
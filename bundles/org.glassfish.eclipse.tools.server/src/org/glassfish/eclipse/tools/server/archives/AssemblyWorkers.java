@@ -0,0 +1,222 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.archives;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.core.runtime.IStatus.CANCEL;
+import static org.eclipse.core.runtime.IStatus.ERROR;
+import static org.glassfish.eclipse.tools.server.GlassFishServerPlugin.SYMBOLIC_NAME;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+
+/**
+ * Bounded pool of threads assembling modules in parallel, i.e. child modules
+ * of an EAR and files of a module.
+ * <p>
+ * Tasks submitted from a worker thread run in that thread one after another,
+ * so nested assembly, e.g. files of a child module assembled by a worker,
+ * never waits for a free worker. Results are returned in task order and the
+ * first failure in task order is reported, so the outcome doesn't depend on
+ * scheduling.
+ * <p>
+ * WTP {@link org.eclipse.wst.server.core.util.PublishHelper} is not thread
+ * safe, it copies through a static buffer. Workers pass every call of it to
+ * the thread which called {@link #invokeAll(List)} through
+ * {@link #onCallingThread(Callable)}, that thread runs them one after another
+ * while waiting for the tasks. Only copies owned by the publish index and
+ * packaging of modules run in parallel.
+ * <p>
+ * Number of threads is set by <code>glassfish.publish.threads</code> system
+ * property, default is the number of processors, at most
+ * {@link #MAX_DEFAULT_THREADS}.
+ */
+final class AssemblyWorkers {
+
+	private static final int MAX_DEFAULT_THREADS = 8;
+
+	private static final String THREADS_PROPERTY = "glassfish.publish.threads";
+
+	/** Idle time after which worker threads end in seconds. */
+	private static final long KEEP_ALIVE = 30;
+
+	private static final int THREADS = Math.max(Integer.getInteger(THREADS_PROPERTY,
+			Math.min(Runtime.getRuntime().availableProcessors(), MAX_DEFAULT_THREADS)), 1);
+
+	private static final ThreadPoolExecutor executor;
+
+	static {
+		AtomicInteger counter = new AtomicInteger();
+		executor = new ThreadPoolExecutor(THREADS, THREADS, KEEP_ALIVE, SECONDS, new LinkedBlockingQueue<>(),
+				r -> new Worker(r, "GlassFish Publish Worker " + counter.incrementAndGet()));
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	/** Marker of a finished task in queue of calling thread actions. */
+	private static final Runnable TASK_DONE = () -> {
+	};
+
+	private static final class Worker extends Thread {
+
+		/** Actions to run on the thread waiting for the current task. */
+		BlockingQueue<Runnable> callerActions;
+
+		Worker(Runnable runnable, String name) {
+			super(runnable, name);
+			setDaemon(true);
+		}
+
+	}
+
+	private AssemblyWorkers() {
+	}
+
+	/**
+	 * Runs tasks and waits until all of them finish.
+	 *
+	 * @param tasks tasks to run
+	 * @return results of tasks in task order
+	 * @throws CoreException first failure in task order, or cancel when
+	 *                       interrupted while waiting
+	 */
+	static <T> List<T> invokeAll(List<? extends Callable<T>> tasks) throws CoreException {
+		List<T> results = new ArrayList<>(tasks.size());
+		if (tasks.size() < 2 || THREADS < 2 || Thread.currentThread() instanceof Worker) {
+			for (Callable<T> task : tasks) {
+				results.add(call(task));
+			}
+			return results;
+		}
+
+		BlockingQueue<Runnable> callerActions = new LinkedBlockingQueue<>();
+		List<Future<T>> futures = new ArrayList<>(tasks.size());
+		for (Callable<T> task : tasks) {
+			futures.add(executor.submit(() -> {
+				Worker worker = (Worker) Thread.currentThread();
+				worker.callerActions = callerActions;
+				try {
+					return task.call();
+				} finally {
+					worker.callerActions = null;
+					callerActions.add(TASK_DONE);
+				}
+			}));
+		}
+		try {
+			for (int done = 0; done < futures.size();) {
+				Runnable action = callerActions.take();
+				if (action == TASK_DONE) {
+					done++;
+				} else {
+					action.run();
+				}
+			}
+		} catch (InterruptedException e) {
+			for (Future<T> future : futures) {
+				future.cancel(true);
+			}
+			Thread.currentThread().interrupt();
+			throw new CoreException(new Status(CANCEL, SYMBOLIC_NAME, "module assembly interrupted", e));
+		}
+		for (Future<T> future : futures) {
+			try {
+				results.add(future.get());
+			} catch (ExecutionException e) {
+				throw toCoreException(e.getCause());
+			} catch (InterruptedException e) {
+				// All tasks reported they are done
+				throw new IllegalStateException(e);
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Runs action on the thread which called {@link #invokeAll(List)} and
+	 * waits for its result. Action called outside of a worker task runs in the
+	 * calling thread right away.
+	 *
+	 * @param action action which must not run on a worker thread, e.g. a call
+	 *               of a component which is not thread safe
+	 * @return result of the action
+	 * @throws CoreException failure of the action, or cancel when interrupted
+	 *                       while waiting
+	 */
+	static <T> T onCallingThread(Callable<T> action) throws CoreException {
+		Thread thread = Thread.currentThread();
+		BlockingQueue<Runnable> callerActions = thread instanceof Worker ? ((Worker) thread).callerActions : null;
+		if (callerActions == null) {
+			return call(action);
+		}
+
+		FutureTask<T> future = new FutureTask<>(action);
+		callerActions.add(future);
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			throw toCoreException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CoreException(new Status(CANCEL, SYMBOLIC_NAME, "module assembly interrupted", e));
+		}
+	}
+
+	/**
+	 * Returns monitor which can be passed to workers, only cancellation is
+	 * shared with the given monitor.
+	 *
+	 * @param monitor progress monitor of the publish
+	 * @return monitor safe to use from workers
+	 */
+	static IProgressMonitor cancelOnly(IProgressMonitor monitor) {
+		return new NullProgressMonitor() {
+
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+	}
+
+	private static <T> T call(Callable<T> task) throws CoreException {
+		try {
+			return task.call();
+		} catch (Exception e) {
+			throw toCoreException(e);
+		}
+	}
+
+	private static CoreException toCoreException(Throwable e) {
+		if (e instanceof CoreException) {
+			return (CoreException) e;
+		}
+		if (e instanceof RuntimeException) {
+			throw (RuntimeException) e;
+		}
+		if (e instanceof Error) {
+			throw (Error) e;
+		}
+		return new CoreException(new Status(ERROR, SYMBOLIC_NAME, 0, "unable to assemble module", e));
+	}
+
+}
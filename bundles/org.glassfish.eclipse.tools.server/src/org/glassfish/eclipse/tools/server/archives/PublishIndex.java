@@ -0,0 +1,543 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.archives;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.eclipse.core.runtime.IStatus.ERROR;
+import static org.glassfish.eclipse.tools.server.GlassFishServerPlugin.SYMBOLIC_NAME;
+import static org.glassfish.eclipse.tools.server.GlassFishServerPlugin.logError;
+import static org.glassfish.eclipse.tools.server.GlassFishServerPlugin.logMessage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.wst.server.core.model.IModuleFile;
+import org.eclipse.wst.server.core.model.IModuleFolder;
+import org.eclipse.wst.server.core.model.IModuleResource;
+import org.eclipse.wst.server.core.util.PublishHelper;
+import org.glassfish.eclipse.tools.server.GlassFishServerPlugin;
+
+/**
+ * Persistent index of files published to a deployment directory, i.e.
+ * <code>domain/eclipseApps/&lt;module&gt;</code>.
+ * <p>
+ * For every published file the index keeps size and modification time of its
+ * source and hash of its content. Publish copies only files whose content
+ * really changed: a file with unchanged size and time is skipped without
+ * reading it, a file with changed time is hashed and copied only when the
+ * hash differs, e.g. class files rewritten by a full build with the same
+ * content are not copied again. Files no longer in the module are deleted from
+ * the deployment directory. Paths of copied and deleted files are reported, so
+ * redeploy decisions are based on real changes rather than on resource deltas.
+ * <p>
+ * The index is stored in the plug-in state area and survives workspace
+ * restarts. Until an index is saved for a deployment directory, e.g. on the
+ * first or a clean publish, modules are published by
+ * {@link PublishHelper#publishSmart} and the index is built from the published
+ * resources.
+ * <p>
+ * One index serves the deployment directory of a root module together with
+ * directories of its child modules below it. Child modules may be published
+ * in parallel, each to its own directory.
+ */
+public class PublishIndex {
+
+	/** Result of a module publish. */
+	public static class Result {
+
+		private final IStatus[] status;
+
+		private final List<String> changedPaths;
+
+		Result(IStatus[] status, List<String> changedPaths) {
+			this.status = status;
+			this.changedPaths = changedPaths;
+		}
+
+		/**
+		 * @return problems of the publish, empty when there were none
+		 */
+		public IStatus[] getStatus() {
+			return status;
+		}
+
+		/**
+		 * @return paths of copied and deleted files relative to the module
+		 *         directory, or <code>null</code> when the module was published
+		 *         without the index and changes are not known
+		 */
+		public List<String> getChangedPaths() {
+			return changedPaths;
+		}
+
+	}
+
+	/** Indexed file or folder. */
+	private static class Entry {
+
+		/** Source size, {@link #FOLDER} for folders. */
+		long size;
+
+		long modified;
+
+		byte[] hash;
+
+		Entry(long size, long modified, byte[] hash) {
+			this.size = size;
+			this.modified = modified;
+			this.hash = hash;
+		}
+
+		boolean isFolder() {
+			return size == FOLDER;
+		}
+
+	}
+
+	private static final int VERSION = 1;
+
+	private static final long FOLDER = -1;
+
+	private static final String HASH_ALGORITHM = "SHA-256";
+
+	private static final String INDEX_FOLDER = "publishIndex";
+
+	/** Deployment directory of the root module. */
+	private final IPath root;
+
+	private final File indexFile;
+
+	/** Entries by path relative to {@link #root}, parents before children. */
+	private final ConcurrentSkipListMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+
+	/** Index was loaded, so publishes may rely on it. */
+	private final boolean valid;
+
+	private PublishIndex(IPath root, File indexFile) {
+		this.root = root;
+		this.indexFile = indexFile;
+		this.valid = root.toFile().isDirectory() && load();
+		if (!valid) {
+			entries.clear();
+		}
+	}
+
+	/**
+	 * Opens index of deployment directory. Index which can't be read or
+	 * belongs to missing directory is replaced by an empty one.
+	 *
+	 * @param root deployment directory of the root module
+	 * @return index of the directory
+	 */
+	public static PublishIndex open(IPath root) {
+		return new PublishIndex(root, getIndexFile(root));
+	}
+
+	/**
+	 * Deletes index of deployment directory, so the next publish copies all
+	 * files again.
+	 *
+	 * @param root deployment directory of the root module
+	 */
+	public static void delete(IPath root) {
+		File file = getIndexFile(root);
+		if (file.exists() && !file.delete()) {
+			logMessage("PublishIndex cannot delete " + file);
+		}
+	}
+
+	private static File getIndexFile(IPath root) {
+		IPath folder = GlassFishServerPlugin.getInstance().getStateLocation().append(INDEX_FOLDER);
+		folder.toFile().mkdirs();
+		byte[] key = createDigest().digest(root.toPortableString().getBytes(UTF_8));
+		return folder.append(HexFormat.of().formatHex(key, 0, 16) + ".index").toFile();
+	}
+
+	/**
+	 * Publishes module resources to a directory below the deployment directory
+	 * of the root module. Files and folders in ignored paths, i.e. directories
+	 * of child modules, are left untouched. Changed files are hashed and copied
+	 * in parallel.
+	 *
+	 * @param resources   module resources
+	 * @param path        module directory
+	 * @param ignorePaths paths relative to the module directory, may be
+	 *                    <code>null</code>
+	 * @param helper      publish helper used when the index is not valid, it is
+	 *                    called on the publishing thread only
+	 * @param monitor     progress monitor
+	 * @return result of the publish
+	 * @throws CoreException when interrupted
+	 */
+	public Result publish(IModuleResource[] resources, IPath path, IPath[] ignorePaths, PublishHelper helper,
+			IProgressMonitor monitor) throws CoreException {
+		String prefix = toPrefix(path.makeRelativeTo(root).toPortableString());
+		List<String> ignored = new ArrayList<>();
+		if (ignorePaths != null) {
+			for (IPath ignorePath : ignorePaths) {
+				ignored.add(prefix + ignorePath.makeRelative().toPortableString());
+			}
+		}
+		IProgressMonitor workerMonitor = AssemblyWorkers.cancelOnly(monitor);
+
+		if (!valid) {
+			IStatus[] status = AssemblyWorkers
+					.onCallingThread(() -> helper.publishSmart(resources, path, ignorePaths, monitor));
+			List<IStatus> problems = new ArrayList<>(Arrays.asList(status == null ? new IStatus[0] : status));
+			List<FileUpdate> updates = new ArrayList<>();
+			index(resources, prefix, updates, workerMonitor);
+			for (IStatus problem : AssemblyWorkers.invokeAll(updates)) {
+				if (problem != null) {
+					problems.add(problem);
+				}
+			}
+			return new Result(problems.toArray(new IStatus[0]), null);
+		}
+
+		List<IStatus> problems = new ArrayList<>();
+		List<String> changed = new ArrayList<>();
+		Set<String> published = new HashSet<>();
+		List<FileUpdate> updates = new ArrayList<>();
+		publish(resources, prefix, published, updates, problems, workerMonitor);
+		List<IStatus> results = AssemblyWorkers.invokeAll(updates);
+		for (int i = 0; i < results.size(); i++) {
+			IStatus result = results.get(i);
+			if (result == Status.OK_STATUS) {
+				changed.add(updates.get(i).relative.substring(prefix.length()));
+			} else if (result != null) {
+				problems.add(result);
+			}
+		}
+		if (monitor.isCanceled()) {
+			// Resources not walked must not be deleted
+			return new Result(problems.toArray(new IStatus[0]), changed);
+		}
+
+		// Delete what was published before and is not part of the module anymore,
+		// children before their folders
+		NavigableMap<String, Entry> module = prefix.isEmpty() ? entries
+				: entries.subMap(prefix, true, prefix.substring(0, prefix.length() - 1) + '0', false);
+		for (Map.Entry<String, Entry> e : new ArrayList<>(module.descendingMap().entrySet())) {
+			String relative = e.getKey();
+			if (published.contains(relative) || isIgnored(relative, ignored)) {
+				continue;
+			}
+			File target = root.append(relative).toFile();
+			if (target.exists() && !target.delete() && !e.getValue().isFolder()) {
+				problems.add(new Status(ERROR, SYMBOLIC_NAME, "cannot delete " + target));
+				continue;
+			}
+			entries.remove(relative);
+			if (!e.getValue().isFolder()) {
+				changed.add(relative.substring(prefix.length()));
+			}
+		}
+
+		logMessage("PublishIndex " + path + " changed files=" + changed.size());
+		return new Result(problems.toArray(new IStatus[0]), changed);
+	}
+
+	/**
+	 * Creates folders and collects updates of files which may have changed.
+	 * Files with unchanged size and time are skipped here.
+	 */
+	private void publish(IModuleResource[] resources, String prefix, Set<String> published, List<FileUpdate> updates,
+			List<IStatus> problems, IProgressMonitor monitor) {
+		for (IModuleResource resource : resources) {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			String relative = prefix + resource.getName();
+			published.add(relative);
+			File target = root.append(relative).toFile();
+
+			if (resource instanceof IModuleFolder) {
+				if (target.isFile()) {
+					target.delete();
+				}
+				if (!target.isDirectory() && !target.mkdirs()) {
+					problems.add(new Status(ERROR, SYMBOLIC_NAME, "cannot create folder " + target));
+					continue;
+				}
+				entries.put(relative, new Entry(FOLDER, 0, null));
+				publish(((IModuleFolder) resource).members(), relative + '/', published, updates, problems, monitor);
+				continue;
+			}
+
+			File source = getSource(resource);
+			if (source == null) {
+				problems.add(new Status(ERROR, SYMBOLIC_NAME, "cannot publish " + resource.getName()));
+				continue;
+			}
+			Entry entry = entries.get(relative);
+			boolean targetIntact = entry != null && !entry.isFolder() && target.isFile()
+					&& target.length() == entry.size;
+			if (!targetIntact || entry.size != source.length() || entry.modified != source.lastModified()) {
+				updates.add(new FileUpdate(relative, source, target, targetIntact, false, monitor));
+			}
+		}
+	}
+
+	/**
+	 * Collects updates recording resources published without the index.
+	 */
+	private void index(IModuleResource[] resources, String prefix, List<FileUpdate> updates,
+			IProgressMonitor monitor) {
+		for (IModuleResource resource : resources) {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			String relative = prefix + resource.getName();
+			if (resource instanceof IModuleFolder) {
+				entries.put(relative, new Entry(FOLDER, 0, null));
+				index(((IModuleFolder) resource).members(), relative + '/', updates, monitor);
+				continue;
+			}
+			File source = getSource(resource);
+			if (source != null) {
+				updates.add(new FileUpdate(relative, source, null, false, true, monitor));
+			}
+		}
+	}
+
+	/**
+	 * Update of one published file, run by an assembly worker.
+	 */
+	private class FileUpdate implements Callable<IStatus> {
+
+		final String relative;
+
+		final File source;
+
+		final File target;
+
+		/** Target has content recorded by the index. */
+		final boolean targetIntact;
+
+		/** Only record the file, it was already copied. */
+		final boolean indexOnly;
+
+		final IProgressMonitor monitor;
+
+		FileUpdate(String relative, File source, File target, boolean targetIntact, boolean indexOnly,
+				IProgressMonitor monitor) {
+			this.relative = relative;
+			this.source = source;
+			this.target = target;
+			this.targetIntact = targetIntact;
+			this.indexOnly = indexOnly;
+			this.monitor = monitor;
+		}
+
+		/**
+		 * @return <code>null</code> when the file was not copied,
+		 *         {@link Status#OK_STATUS} when it was copied, error status
+		 *         otherwise
+		 */
+		@Override
+		public IStatus call() {
+			if (monitor.isCanceled()) {
+				return null;
+			}
+			try {
+				long size = source.length();
+				long modified = source.lastModified();
+				if (indexOnly) {
+					entries.put(relative, new Entry(size, modified, hash(source)));
+					return null;
+				}
+				Entry entry = entries.get(relative);
+				if (targetIntact && entry.size == size && Arrays.equals(entry.hash, hash(source))) {
+					entry.modified = modified;
+					return null;
+				}
+				entries.remove(relative);
+				byte[] hash = copy(source, target);
+				entries.put(relative, new Entry(size, modified, hash));
+				return Status.OK_STATUS;
+			} catch (IOException e) {
+				return new Status(ERROR, SYMBOLIC_NAME, "cannot publish " + (indexOnly ? source : target), e);
+			}
+		}
+
+	}
+
+	/**
+	 * Saves the index to the plug-in state area. Failure is logged, the next
+	 * publish then copies all files again.
+	 */
+	public void save() {
+		File temp = new File(indexFile.getPath() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+			out.writeInt(VERSION);
+			out.writeUTF(root.toPortableString());
+			out.writeInt(entries.size());
+			for (Map.Entry<String, Entry> e : entries.entrySet()) {
+				Entry entry = e.getValue();
+				out.writeUTF(e.getKey());
+				out.writeLong(entry.size);
+				out.writeLong(entry.modified);
+				if (entry.hash == null) {
+					out.writeShort(0);
+				} else {
+					out.writeShort(entry.hash.length);
+					out.write(entry.hash);
+				}
+			}
+		} catch (IOException e) {
+			logError("PublishIndex cannot save " + indexFile, e);
+			temp.delete();
+			delete(root);
+			return;
+		}
+		try {
+			move(temp, indexFile);
+		} catch (IOException e) {
+			logError("PublishIndex cannot save " + indexFile, e);
+			temp.delete();
+			delete(root);
+		}
+	}
+
+	private boolean load() {
+		if (!indexFile.isFile()) {
+			return false;
+		}
+		try (DataInputStream in = new DataInputStream(
+				new BufferedInputStream(Files.newInputStream(indexFile.toPath())))) {
+			if (in.readInt() != VERSION || !root.toPortableString().equals(in.readUTF())) {
+				return false;
+			}
+			for (int i = in.readInt(); i > 0; i--) {
+				String path = in.readUTF();
+				long size = in.readLong();
+				long modified = in.readLong();
+				byte[] hash = null;
+				int hashLength = in.readUnsignedShort();
+				if (hashLength > 0) {
+					hash = new byte[hashLength];
+					in.readFully(hash);
+				}
+				entries.put(path, new Entry(size, modified, hash));
+			}
+			return true;
+		} catch (IOException e) {
+			logMessage("PublishIndex cannot read " + indexFile + ": " + e);
+			return false;
+		}
+	}
+
+	private static String toPrefix(String relativePath) {
+		return relativePath.isEmpty() ? "" : relativePath + '/';
+	}
+
+	private static boolean isIgnored(String relative, List<String> ignored) {
+		for (String ignore : ignored) {
+			if (relative.equals(ignore) || relative.startsWith(ignore + '/')) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static File getSource(IModuleResource resource) {
+		if (!(resource instanceof IModuleFile)) {
+			return null;
+		}
+		IFile file = resource.getAdapter(IFile.class);
+		if (file != null) {
+			return file.getLocation() == null ? null : file.getLocation().toFile();
+		}
+		return resource.getAdapter(File.class);
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance(HASH_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static byte[] hash(File source) throws IOException {
+		MessageDigest digest = createDigest();
+		try (InputStream in = new DigestInputStream(Files.newInputStream(source.toPath()), digest)) {
+			in.transferTo(OutputStream.nullOutputStream());
+		}
+		return digest.digest();
+	}
+
+	/**
+	 * Copies source to a temporary file next to the target and replaces the
+	 * target, so the server never sees a partially written file.
+	 *
+	 * @return hash of copied content
+	 */
+	private static byte[] copy(File source, File target) throws IOException {
+		File folder = target.getParentFile();
+		if (!folder.isDirectory() && !folder.mkdirs()) {
+			throw new IOException("cannot create folder " + folder);
+		}
+		File temp = File.createTempFile(".publish", null, folder);
+		try {
+			MessageDigest digest = createDigest();
+			try (InputStream in = new DigestInputStream(Files.newInputStream(source.toPath()), digest);
+					OutputStream out = Files.newOutputStream(temp.toPath())) {
+				in.transferTo(out);
+			}
+			Files.setLastModifiedTime(temp.toPath(), FileTime.fromMillis(source.lastModified()));
+			move(temp, target);
+			return digest.digest();
+		} finally {
+			temp.delete();
+		}
+	}
+
+	private static void move(File source, File target) throws IOException {
+		try {
+			Files.move(source.toPath(), target.toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source.toPath(), target.toPath(), REPLACE_EXISTING);
+		}
+	}
+
+}
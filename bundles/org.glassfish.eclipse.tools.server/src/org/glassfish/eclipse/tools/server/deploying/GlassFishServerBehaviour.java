@@ -37,6 +37,7 @@ import static org.eclipse.wst.server.core.IServer.PUBLISH_INCREMENTAL;
 import static org.eclipse.wst.server.core.IServer.PUBLISH_STATE_FULL;
 import static org.eclipse.wst.server.core.IServer.PUBLISH_STATE_NONE;
 import static org.eclipse.wst.server.core.IServer.STATE_STARTED;
+import static org.eclipse.wst.server.core.IServer.STATE_STARTING;
 import static org.eclipse.wst.server.core.IServer.STATE_STOPPED;
 import static org.eclipse.wst.server.core.IServer.STATE_STOPPING;
 import static org.eclipse.wst.server.core.internal.ProgressUtil.getMonitorFor;
@@ -75,6 +76,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -106,11 +108,15 @@ import org.glassfish.eclipse.tools.server.GlassFishRuntime;
 import org.glassfish.eclipse.tools.server.GlassFishServer;
 import org.glassfish.eclipse.tools.server.ServerStatus;
 import org.glassfish.eclipse.tools.server.archives.AssembleModules;
+import org.glassfish.eclipse.tools.server.archives.PublishIndex;
 import org.glassfish.eclipse.tools.server.exceptions.HttpPortUpdateException;
 import org.glassfish.eclipse.tools.server.internal.GlassFishStateResolver;
+import org.glassfish.eclipse.tools.server.internal.ServerCapabilities;
 import org.glassfish.eclipse.tools.server.internal.ServerStateListener;
-import org.glassfish.eclipse.tools.server.internal.ServerStatusMonitor;
+import org.glassfish.eclipse.tools.server.internal.ServerStatusEngine;
 import org.glassfish.eclipse.tools.server.sdk.GlassFishIdeException;
+import org.glassfish.eclipse.tools.server.sdk.admin.AdminCircuitBreaker;
+import org.glassfish.eclipse.tools.server.sdk.admin.AdminConnectionPool;
 import org.glassfish.eclipse.tools.server.sdk.admin.CommandAddResources;
 import org.glassfish.eclipse.tools.server.sdk.admin.CommandDeploy;
 import org.glassfish.eclipse.tools.server.sdk.admin.CommandGetProperty;
@@ -145,8 +151,6 @@ public final class GlassFishServerBehaviour extends ServerBehaviourDelegate impl
 
 	private GlassFishStateResolver stateResolver = new GlassFishStateResolver();
 
-	private ServerStatusMonitor statusMonitor;
-
 	private static final ExecutorService asyncJobsService = Executors.newCachedThreadPool();
 
 	private static JavaRemoteApplicationLaunchConfigurationDelegate REMOTE_JAVA_APP_LAUNCH_DELEGATE = new JavaRemoteApplicationLaunchConfigurationDelegate();
@@ -160,8 +164,7 @@ public final class GlassFishServerBehaviour extends ServerBehaviourDelegate impl
 		super.initialize(monitor);
 		logMessage("in Behaviour initialize for " + getGlassFishServerDelegate().getName());
 
-		statusMonitor = ServerStatusMonitor.getInstance(getGlassFishServerDelegate(), this);
-		statusMonitor.start();
+		ServerStatusEngine.getInstance().subscribe(getGlassFishServerDelegate(), this);
 	}
 
 	// ### Life-cycle methods called by Eclipse WTP
@@ -297,7 +300,7 @@ public final class GlassFishServerBehaviour extends ServerBehaviourDelegate impl
 	@Override
 	public void dispose() {
 		super.dispose();
-		statusMonitor.stop();
+		ServerStatusEngine.getInstance().unsubscribe(getGlassFishServerDelegate(), this);
 		logMessage("in Behaviour dispose for " + getGlassFishServerDelegate().getName());
 	}
 
@@ -316,21 +319,34 @@ public final class GlassFishServerBehaviour extends ServerBehaviourDelegate impl
 	}
 
 	public ServerStatus getServerStatus(boolean forceUpdate) {
-		return statusMonitor.getServerStatus(forceUpdate);
+		return ServerStatusEngine.getInstance().getServerStatus(getGlassFishServerDelegate(), forceUpdate);
 	}
 
 	public static String getVersion(GlassFishServer server) throws GlassFishIdeException {
-		Future<ResultString> future = ServerAdmin.exec(server, new CommandVersion());
-
 		try {
-			return future.get(30, SECONDS).getValue();
-		} catch (InterruptedException | ExecutionException e) {
+			return getVersionAsync(server).get();
+		} catch (InterruptedException e) {
+			throw new GlassFishIdeException("Exception by calling getVersion", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof TimeoutException) {
+				throw new GlassFishIdeException("Timeout for getting version command exceeded", e.getCause());
+			}
 			throw new GlassFishIdeException("Exception by calling getVersion", e);
-		} catch (TimeoutException e) {
-			throw new GlassFishIdeException("Timeout for getting version command exceeded", e);
 		}
 	}
 
+	/*
+	 * get the server version without blocking, the version command is cancelled
+	 * when it does not finish within 30 seconds or when the returned future is
+	 * cancelled
+	 */
+	public static CompletableFuture<String> getVersionAsync(GlassFishServer server) {
+		return ServerAdmin.thenApply(ServerAdmin.executeOn(server)
+				.command(new CommandVersion())
+				.timeOut(30, SECONDS)
+				.<ResultString>async(), ResultString::getValue);
+	}
+
 	public void updateServerStatus() {
 		updateServerStatus(getServerStatus(true));
 	}
@@ -369,6 +385,16 @@ public final class GlassFishServerBehaviour extends ServerBehaviourDelegate impl
 	 */
 	public synchronized void setGlassFishServerState(int state) {
 		setServerState(state);
+
+		if (state == STATE_STARTING) {
+			// Let commands of the new server instance through
+			AdminCircuitBreaker.reset(getGlassFishServerDelegate());
+		}
+
+		if (state == STATE_STARTING || state == STATE_STOPPING) {
+			// Check now, the check switches status polling to the fast cadence of a transition
+			ServerStatusEngine.getInstance().requestCheck(getGlassFishServerDelegate());
+		}
 	}
 
 	/**
@@ -587,6 +613,8 @@ public final class GlassFishServerBehaviour extends ServerBehaviourDelegate impl
 				// try delete the app directory from server directly next
 			}
 
+			PublishIndex.delete(getDeployDirectory(module));
+
 			if (publishPath != null) {
 				try {
 					File pub = new File(publishPath);
@@ -618,10 +646,17 @@ public final class GlassFishServerBehaviour extends ServerBehaviourDelegate impl
 
 			String parentPath = dockerInstance ? getGlassFishServerDelegate().getHostPath()
 					: getGlassFishServerDelegate().getDomainPath();
-			IPath path = new Path(parentPath + "/eclipseApps/" + module[0].getName());
+			IPath path = getDeployDirectory(module);
 			PublishHelper helper = new PublishHelper(new Path(parentPath + "/eclipseAppsTmp").toFile());
 
-			AssembleModules assembler = new AssembleModules(module, path, getGlassFishServerDelegate(), helper);
+			// Clean publish copies all files again and rebuilds the index
+			if (kind == PUBLISH_CLEAN || getServer().getServerPublishState() == PUBLISH_CLEAN) {
+				PublishIndex.delete(path);
+			}
+			PublishIndex publishIndex = PublishIndex.open(path);
+
+			AssembleModules assembler = new AssembleModules(module, path, getGlassFishServerDelegate(), helper,
+					publishIndex);
 			logMessage("Deploy direcotry " + path.toFile().getAbsolutePath());
 
 			String contextRoot = null;
@@ -658,8 +693,7 @@ public final class GlassFishServerBehaviour extends ServerBehaviourDelegate impl
 				Map<String, String> properties = getDeploymentProperties();
 				boolean keepSession = getGlassFishServerDelegate().getKeepSessions();
 
-				boolean hotDeploy = getServer().getAttribute(GlassFishServer.ATTR_HOTDEPLOY,
-						Boolean.parseBoolean(DEFAULT_HOT_DEPLOY));
+				boolean hotDeploy = isHotDeploy();
 				List<File> filesChanged = assembler.getModifiedSourceFiles();
 				boolean metadataChanged = false;
 				List<String> sourcesChanged = new ArrayList<>();
@@ -703,9 +737,27 @@ public final class GlassFishServerBehaviour extends ServerBehaviourDelegate impl
 			} else {
 				logMessage("optimal: NO NEED TO DO A REDEPLOYMENT, !!!");
 			}
+
+			// Saved only when the changes reached the server, otherwise the next
+			// publish finds the same changes again and redeploys
+			publishIndex.save();
 		}
 	}
 
+	/**
+	 * Returns directory the module is deployed from, i.e.
+	 * <code>domain/eclipseApps/&lt;module&gt;</code>.
+	 *
+	 * @param module module path
+	 * @return deployment directory of the root module
+	 */
+	private IPath getDeployDirectory(IModule[] module) {
+		String parentPath = getGlassFishServerDelegate().isDockerInstance()
+				? getGlassFishServerDelegate().getHostPath()
+				: getGlassFishServerDelegate().getDomainPath();
+		return new Path(parentPath + "/eclipseApps/" + module[0].getName());
+	}
+
 	private void publishJarFile(int kind, int deltaKind, Properties p, IModule[] module, IProgressMonitor monitor)
 			throws CoreException {
 		// first try to see if we need to undeploy:
@@ -735,8 +787,7 @@ public final class GlassFishServerBehaviour extends ServerBehaviourDelegate impl
 
 				// keepSession state is NOT supported in redeploy as JAR
 
-				boolean hotDeploy = getServer().getAttribute(GlassFishServer.ATTR_HOTDEPLOY,
-						Boolean.parseBoolean(DEFAULT_HOT_DEPLOY));
+				boolean hotDeploy = isHotDeploy();
 				try {
 					ServerAdmin.executeOn(getGlassFishServerDelegate())
 							.command(new CommandDeploy(name, null, archivePath, contextRoot, getDeploymentProperties(),
@@ -917,12 +968,25 @@ public final class GlassFishServerBehaviour extends ServerBehaviourDelegate impl
 		}
 
 		stopImpl(server);
+		ServerCapabilities.invalidate(server);
+		AdminConnectionPool.invalidate(server);
+		AdminCircuitBreaker.reset(server);
 
 		if (stopLogging) {
 			getStandardConsole(server).stopLogging(3);
 		}
 	}
 
+	/*
+	 * hot deploy is requested by server attribute, it's not used for running server
+	 * which is known to not support it
+	 */
+	private boolean isHotDeploy() {
+		ServerCapabilities capabilities = ServerCapabilities.getIfKnown(getGlassFishServerDelegate());
+		return getServer().getAttribute(GlassFishServer.ATTR_HOTDEPLOY, Boolean.parseBoolean(DEFAULT_HOT_DEPLOY))
+				&& (capabilities == null || capabilities.isHotDeploySupported());
+	}
+
 	private void stopImpl(GlassFishServer server) {
 		setGlassFishServerState(STATE_STOPPING);
 
@@ -0,0 +1,163 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.internal;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.glassfish.eclipse.tools.server.sdk.TaskState.COMPLETED;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.glassfish.eclipse.tools.server.GlassFishServer;
+import org.glassfish.eclipse.tools.server.sdk.GlassFishIdeException;
+import org.glassfish.eclipse.tools.server.sdk.admin.CommandVersion;
+import org.glassfish.eclipse.tools.server.sdk.admin.ResultString;
+import org.glassfish.eclipse.tools.server.sdk.admin.ServerAdmin;
+import org.glassfish.eclipse.tools.server.utils.Version;
+
+/**
+ * Capabilities of running GlassFish server.
+ * <p>
+ * Capabilities are fetched with single <code>version</code> command per server start and cached
+ * until {@link #invalidate(GlassFishServer)} is called, which happens when server stops listening
+ * or is stopped from IDE. Only successful <code>version</code> command is cached, failed command
+ * is retried by next request. Callers which must not wait for the command use
+ * {@link #getIfKnown(GlassFishServer)}.
+ * </p>
+ */
+public final class ServerCapabilities {
+
+    /** Version number in <code>version</code> command output. */
+    private static final Pattern VERSION_NUMBER = Pattern.compile("\\d+(\\.\\d+)*");
+
+    /** Capabilities of all servers, failed fetches are not kept. */
+    private static final Map<GlassFishServer, CompletableFuture<ServerCapabilities>> CACHE = new ConcurrentHashMap<>();
+
+    private final String versionString;
+
+    private final Version version;
+
+    private final boolean hotDeploySupported;
+
+    private ServerCapabilities(String versionString) {
+        this.versionString = versionString;
+        this.version = parseVersion(versionString);
+        // Servers before GlassFish 5 do not know hotDeploy deployment parameter
+        this.hotDeploySupported = version == null || version.matches("[5");
+    }
+
+    /**
+     * Returns capabilities of given server, fetching them when not cached yet.
+     *
+     * @param server GlassFish server
+     * @return capabilities; failed fetch is removed from the cache before it completes, so next call
+     * retries it
+     */
+    public static CompletableFuture<ServerCapabilities> get(GlassFishServer server) {
+        CompletableFuture<ServerCapabilities> capabilities = CACHE.get(server);
+        if (capabilities != null) {
+            return capabilities;
+        }
+        CompletableFuture<ServerCapabilities> fetch = new CompletableFuture<>();
+        capabilities = CACHE.putIfAbsent(server, fetch);
+        if (capabilities != null) {
+            return capabilities;
+        }
+        CompletableFuture<ServerCapabilities> command;
+        try {
+            command = ServerAdmin.thenApply(ServerAdmin.executeOn(server)
+                    .command(new CommandVersion())
+                    .timeOut(30, SECONDS)
+                    .<ResultString>async(), result -> {
+                        if (!COMPLETED.equals(result.getState())) {
+                            throw new GlassFishIdeException("version command failed: " + result.getValue());
+                        }
+                        return new ServerCapabilities(result.getValue());
+                    });
+        } catch (RuntimeException e) {
+            CACHE.remove(server, fetch);
+            throw e;
+        }
+        // Failed fetch leaves the cache before anybody can see it failed
+        command.whenComplete((result, failure) -> {
+            if (failure != null) {
+                CACHE.remove(server, fetch);
+                fetch.completeExceptionally(failure);
+            } else {
+                fetch.complete(result);
+            }
+        });
+        // Fetch cancelled by caller
+        fetch.whenComplete((result, failure) -> {
+            if (failure != null) {
+                CACHE.remove(server, fetch);
+                command.cancel(false);
+            }
+        });
+        return fetch;
+    }
+
+    /**
+     * Returns capabilities of given server without waiting. Fetch is started when capabilities are not
+     * cached yet.
+     *
+     * @param server GlassFish server
+     * @return capabilities or <code>null</code> when they are not known yet
+     */
+    public static ServerCapabilities getIfKnown(GlassFishServer server) {
+        CompletableFuture<ServerCapabilities> capabilities = get(server);
+        if (capabilities.isDone() && !capabilities.isCompletedExceptionally()) {
+            return capabilities.join();
+        }
+        return null;
+    }
+
+    /**
+     * Drops cached capabilities of given server, next request fetches them again.
+     *
+     * @param server GlassFish server
+     */
+    public static void invalidate(GlassFishServer server) {
+        CACHE.remove(server);
+    }
+
+    private static Version parseVersion(String versionString) {
+        if (versionString == null) {
+            return null;
+        }
+        Matcher matcher = VERSION_NUMBER.matcher(versionString);
+        return matcher.find() ? new Version(matcher.group()) : null;
+    }
+
+    /**
+     * @return output of <code>version</code> command, may be <code>null</code>
+     */
+    public String getVersionString() {
+        return versionString;
+    }
+
+    /**
+     * @return version number of running server or <code>null</code> when it could not be recognized
+     */
+    public Version getVersion() {
+        return version;
+    }
+
+    /**
+     * @return <code>true</code> when server accepts hot deployment
+     */
+    public boolean isHotDeploySupported() {
+        return hotDeploySupported;
+    }
+
+}
@@ -0,0 +1,323 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.internal;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.glassfish.eclipse.tools.server.GlassFishServerPlugin.logError;
+import static org.glassfish.eclipse.tools.server.GlassFishServerPlugin.logMessage;
+import static org.eclipse.wst.server.core.IServer.STATE_STARTING;
+import static org.eclipse.wst.server.core.IServer.STATE_STOPPING;
+import static org.glassfish.eclipse.tools.server.ServerStatus.NOT_DEFINED;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.eclipse.tools.server.GlassFishServer;
+import org.glassfish.eclipse.tools.server.ServerStatus;
+import org.glassfish.eclipse.tools.server.sdk.server.state.StatusScheduler;
+import org.glassfish.eclipse.tools.server.utils.ServerStatusHelper;
+
+/**
+ * Status checking of all GlassFish servers.
+ * <p>
+ * Every server with at least one subscriber has single probe pipeline. The pipeline checks server
+ * status periodically and passes every result to all subscribers of the server. Next check is
+ * scheduled after every check with delay depending on server state: server being started or stopped
+ * is checked often, running server less often and server staying offline less and less often up to
+ * {@link #MAX_DELAY_OFFLINE}. Change of status resets the backoff. Status requests
+ * arriving while a check is running wait for that check instead of starting another one, so server
+ * is never probed by more than one check at a time.
+ * </p>
+ * <p>
+ * All pipelines share one small thread pool, which is also used by SDK {@link StatusScheduler}.
+ * Checks never block pool threads while waiting for a server: admin port is probed by the shared
+ * port probe and <code>__locations</code> command is executed asynchronously, pool threads just
+ * start checks and process their results. Pool size therefore does not depend on number of checked
+ * servers.
+ * </p>
+ */
+public final class ServerStatusEngine {
+
+    /** Delay between two status checks of one server in milliseconds. */
+    private static final long DELAY = 5000;
+
+    /** Delay between status checks of server being started or stopped in milliseconds. */
+    private static final long DELAY_TRANSITION = 3000;
+
+    /** Delay between status checks of running server in milliseconds. */
+    private static final long DELAY_ONLINE = 12000;
+
+    /** Maximum delay between status checks of server staying offline in milliseconds. */
+    private static final long MAX_DELAY_OFFLINE = 60000;
+
+    /** Maximum random delay of first status check in milliseconds, spreads checks of many servers. */
+    private static final long MAX_INITIAL_DELAY = 1000;
+
+    /** Number of status checking threads. */
+    private static final int POOL_SIZE = 3;
+
+    private static final ServerStatusEngine INSTANCE = new ServerStatusEngine();
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    private final Map<GlassFishServer, Pipeline> pipelines = new ConcurrentHashMap<>();
+
+    private ServerStatusEngine() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ScheduledThreadPoolExecutor(POOL_SIZE, r -> {
+            Thread thread = new Thread(r, "GlassFish Status " + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+
+        try {
+            StatusScheduler.init(executor);
+        } catch (IllegalStateException e) {
+            logMessage("GlassFish status scheduler already running with its own threads");
+        }
+    }
+
+    public static ServerStatusEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Subscribes listener to status checks of given server. Periodic checks of the server start with
+     * its first subscriber.
+     *
+     * @param server GlassFish server to check
+     * @param listener listener notified about result of every check
+     */
+    public void subscribe(GlassFishServer server, ServerStateListener listener) {
+        pipelines.compute(server, (key, pipeline) -> {
+            if (pipeline == null) {
+                pipeline = new Pipeline(key);
+                pipeline.start();
+            }
+            pipeline.listeners.add(listener);
+            return pipeline;
+        });
+    }
+
+    /**
+     * Unsubscribes listener from status checks of given server. Periodic checks of the server stop
+     * with its last subscriber.
+     *
+     * @param server GlassFish server
+     * @param listener listener to remove
+     */
+    public void unsubscribe(GlassFishServer server, ServerStateListener listener) {
+        pipelines.computeIfPresent(server, (key, pipeline) -> {
+            pipeline.listeners.remove(listener);
+            if (!pipeline.listeners.isEmpty()) {
+                return pipeline;
+            }
+            pipeline.stop();
+            return null;
+        });
+    }
+
+    /**
+     * Returns status of given server.
+     *
+     * @param server GlassFish server
+     * @param forceUpdate when <code>true</code>, waits for result of a fresh check; a check already
+     * running is joined instead of starting a new one
+     * @return last known status, {@link ServerStatus#NOT_DEFINED} for server without subscribers
+     */
+    public ServerStatus getServerStatus(GlassFishServer server, boolean forceUpdate) {
+        Pipeline pipeline = pipelines.get(server);
+        if (pipeline == null) {
+            return NOT_DEFINED;
+        }
+
+        if (forceUpdate) {
+            try {
+                return pipeline.request().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                logError("Status check of " + server.getName() + " failed", e);
+            }
+        }
+
+        return pipeline.status;
+    }
+
+    /**
+     * Requests immediate status check of given server without waiting for its result. Subscribers are
+     * notified about the result as with periodic checks. When a check is running, another one starts
+     * right after it, as the running check may have probed server before the reason of this request.
+     *
+     * @param server GlassFish server
+     */
+    public void requestCheck(GlassFishServer server) {
+        Pipeline pipeline = pipelines.get(server);
+        if (pipeline != null) {
+            pipeline.requestAfterRunning();
+        }
+    }
+
+    /**
+     * Status probe pipeline of one server.
+     */
+    private final class Pipeline {
+
+        private final GlassFishServer server;
+
+        private final CopyOnWriteArrayList<ServerStateListener> listeners = new CopyOnWriteArrayList<>();
+
+        private volatile ServerStatus status = NOT_DEFINED;
+
+        /** Result of running check, <code>null</code> when no check is running. Guarded by this. */
+        private CompletableFuture<ServerStatus> running;
+
+        /** Next periodic check. Guarded by this. */
+        private ScheduledFuture<?> schedule;
+
+        /** Set when the last subscriber is gone. Guarded by this. */
+        private boolean stopped;
+
+        /** Set when another check is requested to start right after the running one. Guarded by this. */
+        private boolean recheck;
+
+        /** Status of previous check, accessed by completing check only. */
+        private ServerStatus lastStatus;
+
+        /** Number of previous checks in a row returning {@link #lastStatus}. */
+        private int repeated;
+
+        Pipeline(GlassFishServer server) {
+            this.server = server;
+        }
+
+        synchronized void start() {
+            long initialDelay = ThreadLocalRandom.current().nextLong(MAX_INITIAL_DELAY + 1);
+            schedule = executor.schedule(this::tick, initialDelay, MILLISECONDS);
+        }
+
+        synchronized void stop() {
+            stopped = true;
+            schedule.cancel(false);
+        }
+
+        /**
+         * Periodic check, skipped when a requested check is running. The running check schedules
+         * next one when it finishes.
+         */
+        void tick() {
+            CompletableFuture<ServerStatus> result;
+            synchronized (this) {
+                if (running != null) {
+                    return;
+                }
+                result = running = new CompletableFuture<>();
+            }
+            check(result);
+        }
+
+        /**
+         * Requests check, joining the running one if any.
+         */
+        synchronized CompletableFuture<ServerStatus> request() {
+            if (running == null) {
+                CompletableFuture<ServerStatus> result = running = new CompletableFuture<>();
+                executor.execute(() -> check(result));
+            }
+            return running;
+        }
+
+        /**
+         * Requests check which starts after the running one if any.
+         */
+        synchronized void requestAfterRunning() {
+            if (running == null) {
+                request();
+            } else {
+                recheck = true;
+            }
+        }
+
+        private void check(CompletableFuture<ServerStatus> result) {
+            CompletableFuture<ServerStatus> check;
+            try {
+                check = ServerStatusHelper.checkServerStatusAsync(server, status, executor);
+            } catch (RuntimeException e) {
+                check = CompletableFuture.failedFuture(e);
+            }
+            check.whenCompleteAsync((checkedStatus, thrown) -> {
+                if (thrown != null) {
+                    logError("Status check of " + server.getName() + " failed",
+                            thrown instanceof Exception ? (Exception) thrown : new ExecutionException(thrown));
+                    checked(result, NOT_DEFINED);
+                } else {
+                    checked(result, checkedStatus);
+                }
+            }, executor);
+        }
+
+        private void checked(CompletableFuture<ServerStatus> result, ServerStatus newStatus) {
+            status = newStatus;
+            long delay = nextDelay(newStatus);
+            synchronized (this) {
+                running = null;
+                if (!stopped) {
+                    schedule.cancel(false);
+                    schedule = executor.schedule(this::tick, recheck ? 0 : delay, MILLISECONDS);
+                }
+                recheck = false;
+            }
+
+            for (ServerStateListener listener : listeners) {
+                try {
+                    listener.serverStatusChanged(newStatus);
+                } catch (RuntimeException e) {
+                    logError("Status listener of " + server.getName() + " failed", e);
+                }
+            }
+            result.complete(newStatus);
+        }
+
+        /**
+         * Selects delay of next periodic check from result of finished check.
+         */
+        private long nextDelay(ServerStatus newStatus) {
+            if (newStatus == lastStatus) {
+                repeated++;
+            } else {
+                lastStatus = newStatus;
+                repeated = 0;
+            }
+
+            int state = server.getServer().getServerState();
+            if (state == STATE_STARTING || state == STATE_STOPPING) {
+                return DELAY_TRANSITION;
+            }
+
+            switch (newStatus) {
+            case RUNNING_DOMAIN_MATCHING:
+                return DELAY_ONLINE;
+            case STOPPED_NOT_LISTENING:
+                return Math.min(DELAY << Math.min(repeated, 4), MAX_DELAY_OFFLINE);
+            default:
+                return DELAY;
+            }
+        }
+    }
+
+}
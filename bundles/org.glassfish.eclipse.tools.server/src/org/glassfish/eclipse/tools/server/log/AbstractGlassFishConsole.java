@@ -18,26 +18,66 @@
 
 package org.glassfish.eclipse.tools.server.log;
 
+import static org.glassfish.eclipse.tools.server.preferences.PreferenceConstants.CONSOLE_MAX_CHARS;
+import static org.glassfish.eclipse.tools.server.preferences.PreferenceConstants.CONSOLE_MAX_LINES;
+import static org.glassfish.eclipse.tools.server.preferences.PreferenceConstants.LOG_RECORDS_MAX;
+import static org.glassfish.eclipse.tools.server.preferences.PreferenceConstants.LOG_RECORDS_MEMORY;
+
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledFuture;
 
+import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.ui.console.MessageConsole;
 import org.eclipse.ui.console.MessageConsoleStream;
+import org.glassfish.eclipse.tools.server.GlassFishServerPlugin;
 
 public abstract class AbstractGlassFishConsole extends MessageConsole implements IGlassFishConsole {
 
     protected List<LogReader> readers;
     protected MessageConsoleStream out;
+    protected BoundedConsoleStream output;
     protected CountDownLatch latch;
     protected ILogFilter filter;
     protected ScheduledFuture<?> stopJobResult;
+    protected final LogRecordStore records;
+    protected final List<ILogLineListener> lineListeners = new CopyOnWriteArrayList<>();
 
     public AbstractGlassFishConsole(String name, ImageDescriptor imageDescriptor, ILogFilter filter) {
         super(name, imageDescriptor);
         this.filter = filter;
         this.out = newMessageStream();
+
+        IPreferenceStore store = GlassFishServerPlugin.getInstance().getPreferenceStore();
+        // Oldest messages over the memory limit are spilled to disk
+        this.records = new LogRecordStore(store.getInt(LOG_RECORDS_MAX), store.getInt(LOG_RECORDS_MEMORY));
+        filter.setRecordStore(records);
+        int maxChars = store.getInt(CONSOLE_MAX_CHARS);
+        this.output = new BoundedConsoleStream(out, store.getInt(CONSOLE_MAX_LINES), maxChars);
+        // Line limit applies to lines waiting for flush only, console document is limited by characters
+        // and trimmed to three quarters of its limit when the limit is exceeded
+        if (maxChars > 0) {
+            setWaterMarks(maxChars - Math.max(maxChars / 4, 1000), Math.max(maxChars, 1000));
+        }
+    }
+
+    /**
+     * @return indexed log records shown in this console
+     */
+    public LogRecordStore getRecordStore() {
+        return records;
+    }
+
+    @Override
+    public void addLogLineListener(ILogLineListener listener) {
+        lineListeners.add(listener);
+    }
+
+    @Override
+    public void removeLogLineListener(ILogLineListener listener) {
+        lineListeners.remove(listener);
     }
 
 }
@@ -30,6 +30,12 @@ public abstract class AbstractLogFilter implements ILogFilter {
 
     private static final String DEFAULT_DELIMETER = "";
 
+    /**
+     * System property selecting regular expression based log filters instead of
+     * {@link StreamingLogFilter}.
+     */
+    private static final String PATTERN_FILTER_PROPERTY = "glassfish.log.patternFilter";
+
     protected StringBuilder buffer;
 
     protected String logRecordDelimeter = "";
@@ -40,6 +46,8 @@ public abstract class AbstractLogFilter implements ILogFilter {
 
     protected ILogFormatter formatter;
 
+    protected LogRecordStore recordStore;
+
     protected AbstractLogFilter() {
         this(new LogFormatterSimple(), new LevelResolver(), DEFAULT_DELIMETER);
     }
@@ -67,6 +75,11 @@ public abstract class AbstractLogFilter implements ILogFilter {
         buffer.setLength(0);
     }
 
+    @Override
+    public void setRecordStore(LogRecordStore store) {
+        this.recordStore = store;
+    }
+
     protected abstract boolean isReadingUserMessage();
 
     /**
@@ -78,8 +91,17 @@ public abstract class AbstractLogFilter implements ILogFilter {
     @Override
     public abstract String process(String line);
 
+    /**
+     * Creates log filter for given server. Records are parsed by {@link StreamingLogFilter} unless
+     * <code>glassfish.log.patternFilter</code> system property is set to <code>true</code>.
+     *
+     * @param server GlassFish server
+     * @return new log filter
+     */
     public static AbstractLogFilter createFilter(GlassFishServer server) {
-        if (server.getVersion().matches("[7")) {
+        if (!Boolean.getBoolean(PATTERN_FILTER_PROPERTY)) {
+            return new StreamingLogFilter();
+        } else if (server.getVersion().matches("[7")) {
             return new PatternLogFilterV7();
         } else if (server.getVersion().matches("[4")) {
             return new PatternLogFilterV4();
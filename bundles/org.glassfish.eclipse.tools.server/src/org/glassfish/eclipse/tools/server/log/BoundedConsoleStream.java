@@ -0,0 +1,138 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.log;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.ui.console.MessageConsoleStream;
+
+/**
+ * Bounded output of GlassFish console.
+ * <p>
+ * Log lines are collected in a ring buffer limited by number of lines and characters and written to
+ * console stream in batches, at most once per {@link #FLUSH_DELAY}. When lines arrive faster than
+ * the limits allow, oldest lines waiting in the buffer are dropped and replaced by a single notice
+ * with their number in the console. Lines already written to the console are not limited here, the
+ * console document is trimmed by characters only.
+ * </p>
+ */
+class BoundedConsoleStream {
+
+    /** Delay between the first buffered line and its flush to console in milliseconds. */
+    private static final long FLUSH_DELAY = 200;
+
+    private static final ScheduledExecutorService flushService = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "GlassFish Console Flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final MessageConsoleStream out;
+
+    private final int maxChars;
+
+    /** Buffered lines, oldest at <code>head</code>. Guarded by this. */
+    private final String[] lines;
+
+    private int head;
+
+    private int size;
+
+    private long chars;
+
+    /** Lines dropped since last flush. Guarded by this. */
+    private long pendingDropped;
+
+    private boolean flushScheduled;
+
+    private boolean closed;
+
+    /** Serializes flushes so batches are written in order. */
+    private final Object flushLock = new Object();
+
+    /**
+     * @param out console stream
+     * @param maxLines maximum number of buffered lines
+     * @param maxChars maximum number of buffered characters
+     */
+    BoundedConsoleStream(MessageConsoleStream out, int maxLines, int maxChars) {
+        this.out = out;
+        this.lines = new String[Math.max(maxLines, 1)];
+        this.maxChars = Math.max(maxChars, 1);
+    }
+
+    /**
+     * Adds line to buffer, dropping oldest buffered lines when a limit is exceeded.
+     *
+     * @param line log line without line separator
+     */
+    synchronized void println(String line) {
+        if (closed) {
+            return;
+        }
+        while (size == lines.length || (size > 0 && chars + line.length() > maxChars)) {
+            chars -= lines[head].length();
+            lines[head] = null;
+            head = (head + 1) % lines.length;
+            size--;
+            pendingDropped++;
+        }
+        lines[(head + size) % lines.length] = line;
+        size++;
+        chars += line.length();
+        if (!flushScheduled) {
+            flushScheduled = true;
+            flushService.schedule(this::flush, FLUSH_DELAY, MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes all buffered lines to console stream.
+     */
+    void flush() {
+        synchronized (flushLock) {
+            StringBuilder batch;
+            synchronized (this) {
+                flushScheduled = false;
+                if (closed || (size == 0 && pendingDropped == 0)) {
+                    return;
+                }
+                batch = new StringBuilder((int) chars + size + 64);
+                if (pendingDropped > 0) {
+                    batch.append("[... ").append(pendingDropped)
+                            .append(" log lines dropped, console buffer limit reached ...]\n");
+                    pendingDropped = 0;
+                }
+                for (; size > 0; size--) {
+                    batch.append(lines[head]).append('\n');
+                    lines[head] = null;
+                    head = (head + 1) % lines.length;
+                }
+                head = 0;
+                chars = 0;
+            }
+            out.print(batch.toString());
+        }
+    }
+
+    /**
+     * Flushes buffered lines and stops writing to console stream. Console stream itself is not closed.
+     */
+    void close() {
+        flush();
+        synchronized (this) {
+            closed = true;
+        }
+    }
+
+}
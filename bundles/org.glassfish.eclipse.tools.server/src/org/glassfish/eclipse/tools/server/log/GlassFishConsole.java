@@ -82,9 +82,9 @@ public class GlassFishConsole extends AbstractGlassFishConsole implements IGlass
 
         int i = 0;
         for (FetchLog logFetcher : logFetchers) {
-            LogReader reader = new LogReader(logFetcher, out, latch, filter);
+            LogReader reader = new LogReader(logFetcher, output, latch, filter, lineListeners);
             readers.add(reader);
-            new Thread(reader, "LogReader Thread" + i++).start();
+            reader.start("LogReader Thread" + i++);
         }
     }
 
@@ -122,7 +122,9 @@ public class GlassFishConsole extends AbstractGlassFishConsole implements IGlass
             if (latch != null) {
                 latch.await();
             }
+            output.close();
             out.close();
+            records.close();
         } catch (IOException | InterruptedException e) {
             e.printStackTrace();
         }
@@ -166,6 +168,7 @@ public class GlassFishConsole extends AbstractGlassFishConsole implements IGlass
     @Override
     public synchronized void setLogFilter(ILogFilter filter) {
         this.filter = filter;
+        filter.setRecordStore(records);
     }
 
 }
@@ -39,6 +39,13 @@ public interface IGlassFishConsole extends IConsole {
 
     void stopLogging(int afterSeconds);
 
+    /**
+     * Adds listener of raw lines read by this console, also by readers already running.
+     */
+    void addLogLineListener(ILogLineListener listener);
+
+    void removeLogLineListener(ILogLineListener listener);
+
 
 
 
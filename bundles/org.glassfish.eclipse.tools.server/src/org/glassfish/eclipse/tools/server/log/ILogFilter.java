@@ -36,4 +36,12 @@ public interface ILogFilter {
     default boolean hasProcessedGlassFish() {
         return false;
     }
+
+    /**
+     * Sets store where parsed log records are added. Filters which don't parse log records ignore it.
+     *
+     * @param store record store or <code>null</code>
+     */
+    default void setRecordStore(LogRecordStore store) {
+    }
 }
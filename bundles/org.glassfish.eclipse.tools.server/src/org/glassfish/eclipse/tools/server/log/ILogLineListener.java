@@ -0,0 +1,25 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.log;
+
+/**
+ * Listener of raw log lines read by console.
+ */
+public interface ILogLineListener {
+
+    /**
+     * Called for every line read, before it is processed by log filter. Called from log reader
+     * thread, must not block.
+     *
+     * @param line - read line without new line character
+     */
+    void lineRead(String line);
+
+}
@@ -22,7 +22,7 @@ import static org.glassfish.eclipse.tools.server.log.AbstractLogFilter.Glassfish
 import static org.glassfish.eclipse.tools.server.log.AbstractLogFilter.GlassfishLogFields.LEVEL;
 import static org.glassfish.eclipse.tools.server.log.AbstractLogFilter.GlassfishLogFields.MESSAGE;
 
-import java.util.Formatter;
+import java.util.Arrays;
 
 import org.glassfish.eclipse.tools.server.log.AbstractLogFilter.GlassfishLogFields;
 import org.glassfish.eclipse.tools.server.log.AbstractLogFilter.ILogFormatter;
@@ -30,24 +30,32 @@ import org.glassfish.eclipse.tools.server.log.AbstractLogFilter.ILogFormatter;
 public class LogFormatterSimple implements ILogFormatter {
 
     private GlassfishLogFields[] fields;
-    private String format;
+
+    /** Separators preceding fields, except the first one. */
+    private String[] separators;
+
     private StringBuilder logRecordBuilder = new StringBuilder(1024);
 
     public LogFormatterSimple() {
-        format = "%s|%s: %s";
         fields = new GlassfishLogFields[] { DATETIME, LEVEL, MESSAGE };
+        separators = new String[] { "|", ": " };
     }
 
     public LogFormatterSimple(String delimeter, GlassfishLogFields[] fields) {
         this.fields = fields;
+        this.separators = new String[Math.max(fields.length - 1, 0)];
+        Arrays.fill(separators, delimeter);
     }
 
     @Override
     public String formatLogRecord(LogRecord record) {
         logRecordBuilder.setLength(0);
-        Formatter logRecorFormatter = new Formatter(logRecordBuilder);
-        logRecorFormatter.format(format, record.getRecordFieldValues(fields));
-        logRecorFormatter.close();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                logRecordBuilder.append(separators[i - 1]);
+            }
+            logRecordBuilder.append(record.getRecordFieldValue(fields[i]));
+        }
 
         return logRecordBuilder.toString();
     }
@@ -18,46 +18,62 @@
 
 package org.glassfish.eclipse.tools.server.log;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
-import org.eclipse.ui.console.MessageConsoleStream;
 import org.glassfish.eclipse.tools.server.sdk.server.FetchLog;
+import org.glassfish.eclipse.tools.server.sdk.server.FetchLogPiped;
+import org.glassfish.eclipse.tools.server.sdk.server.LogTaskExecutor;
 
 public class LogReader implements Runnable {
 
     private FetchLog logFetcher;
-    private MessageConsoleStream output;
+    private BoundedConsoleStream output;
     private CountDownLatch latch;
     private ILogFilter filter;
+    private List<ILogLineListener> lineListeners;
+
+    /** Lines taken from fetcher by cooperative task. */
+    private final List<String> batch = new ArrayList<>();
 
     private boolean hasLogged;
     private boolean hasProcessedGlassFish;
 
-    LogReader(FetchLog logFetcher, MessageConsoleStream outputStream, CountDownLatch latch, ILogFilter filter) {
+    LogReader(FetchLog logFetcher, BoundedConsoleStream outputStream, CountDownLatch latch, ILogFilter filter,
+            List<ILogLineListener> lineListeners) {
         this.logFetcher = logFetcher;
         this.output = outputStream;
         this.latch = latch;
         this.filter = filter;
+        this.lineListeners = lineListeners;
+    }
+
+    /**
+     * Starts reading log lines. Lines of fetchers with lines queue are read by a cooperative task of
+     * shared {@link LogTaskExecutor}, other fetchers are read by a new thread.
+     *
+     * @param threadName name of thread reading fetchers without lines queue
+     */
+    void start(String threadName) {
+        if (logFetcher instanceof FetchLogPiped) {
+            FetchLogPiped piped = (FetchLogPiped) logFetcher;
+            LogTaskExecutor.Task task = LogTaskExecutor.getInstance().submit(() -> step(piped));
+            piped.setLinesListener(task::wakeUp);
+            // Lines queued before the listener was set would not wake the task up
+            task.wakeUp();
+        } else {
+            new Thread(this, threadName).start();
+        }
     }
 
     @Override
     public void run() {
         try {
-            BufferedReader reader = new BufferedReader(new InputStreamReader(logFetcher.getInputStream(), StandardCharsets.UTF_8));
-
-            for (String line = null; (line = reader.readLine()) != null;) {
-                line = filter.process(line);
-                if (line != null) {
-                    hasLogged = true;
-                    if (!hasProcessedGlassFish) {
-                        hasProcessedGlassFish = filter.hasProcessedGlassFish();
-                    }
-                    output.println(line);
-                }
+            List<String> lines = new ArrayList<>();
+            while (logFetcher.readLines(lines)) {
+                process(lines);
             }
             output.flush();
         } catch (IOException e) {
@@ -69,6 +85,55 @@ public class LogReader implements Runnable {
         }
     }
 
+    /**
+     * Processes log lines waiting in fetcher lines queue.
+     *
+     * @return step result of {@link LogTaskExecutor.Step}
+     */
+    private long step(FetchLogPiped piped) {
+        try {
+            int count = piped.pollLines(batch);
+            if (count < 0) {
+                output.flush();
+                finish();
+                return LogTaskExecutor.DONE;
+            }
+            if (count == 0) {
+                return LogTaskExecutor.WAIT;
+            }
+            process(batch);
+            return 0;
+        } catch (RuntimeException e) {
+            finish();
+            throw e;
+        }
+    }
+
+    private void finish() {
+        try {
+            logFetcher.close();
+        } finally {
+            latch.countDown();
+        }
+    }
+
+    private void process(List<String> lines) {
+        for (String line : lines) {
+            for (ILogLineListener lineListener : lineListeners) {
+                lineListener.lineRead(line);
+            }
+            line = filter.process(line);
+            if (line != null) {
+                hasLogged = true;
+                if (!hasProcessedGlassFish) {
+                    hasProcessedGlassFish = filter.hasProcessedGlassFish();
+                }
+                output.println(line);
+            }
+        }
+        lines.clear();
+    }
+
     public synchronized boolean hasLogged() {
         return hasLogged;
     }
@@ -0,0 +1,297 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.log;
+
+/**
+ * Single pass parser of GlassFish log records read line by line.
+ * <p>
+ * Both record formats written by GlassFish are recognized in the same log, without regular
+ * expressions and without keeping whole record text:
+ * </p>
+ * <ul>
+ * <li>ODL format of GlassFish 4 and later:<br>
+ * <code>[time] [product] [level] [message id] [logger] [tid: thread] ... [[<br>
+ * &nbsp;&nbsp;message]]</code></li>
+ * <li>Uniform log format of GlassFish 3 and 4:<br>
+ * <code>[#|time|level|product|logger|thread info|message|#]</code></li>
+ * </ul>
+ * <p>
+ * Message may span multiple lines. ODL record is complete with the empty line following message end,
+ * so message lines ending with <code>]]</code> are not taken for record end. Lines outside of log
+ * records, e.g. output of server launcher, are returned as plain text.
+ * </p>
+ * <p>
+ * Parser does not depend on Eclipse platform, so it can be used and benchmarked outside of IDE.
+ * </p>
+ */
+public final class LogRecordParser {
+
+    /**
+     * Result of parsing one line.
+     */
+    public enum Result {
+        /** Line was consumed, record is not complete yet. */
+        NONE,
+        /** Log record is complete, its fields are available until next line is parsed. */
+        RECORD,
+        /** Line is not part of log record. */
+        TEXT
+    }
+
+    private enum State {
+        /** Waiting for record start. */
+        IDLE,
+        /** Reading ODL message. */
+        ODL_MESSAGE,
+        /** Line ending ODL message was read, waiting for empty line. */
+        ODL_END,
+        /** Reading uniform log format message. */
+        ULF_MESSAGE
+    }
+
+    /** Uniform log format record start. */
+    private static final String ULF_START = "[#|";
+
+    /** Uniform log format record end. */
+    private static final String ULF_END = "|#]";
+
+    /** Number of uniform log format fields preceding message. */
+    private static final int ULF_HEADER_FIELDS = 5;
+
+    /** ODL message start and end. */
+    private static final String ODL_MESSAGE_START = "[[";
+
+    private static final String ODL_MESSAGE_END = "]]";
+
+    /** Minimal number of ODL header fields: time, product and level. */
+    private static final int ODL_MIN_FIELDS = 3;
+
+    /** Message of current record. */
+    private final StringBuilder message = new StringBuilder(256);
+
+    private State state = State.IDLE;
+
+    /** Message length without ODL message end, valid in {@link State#ODL_END}. */
+    private int messageEnd;
+
+    private String time;
+
+    private String level;
+
+    private String product;
+
+    private String logger;
+
+    private String thread;
+
+    public LogRecordParser() {
+        reset();
+    }
+
+    /**
+     * Parses next log line.
+     *
+     * @param line log line without line separator
+     * @return parsing result
+     */
+    public Result parse(String line) {
+        switch (state) {
+        case ODL_MESSAGE:
+            appendOdlMessage(line, 0);
+            return Result.NONE;
+        case ODL_END:
+            if (line.isEmpty()) {
+                message.setLength(messageEnd);
+                state = State.IDLE;
+                return Result.RECORD;
+            }
+            appendOdlMessage(line, 0);
+            return Result.NONE;
+        case ULF_MESSAGE:
+            if (line.isEmpty()) {
+                // Blank lines of multi-line message are suppressed
+                return Result.NONE;
+            }
+            message.append('\n');
+            return appendUlfMessage(line, 0);
+        default:
+            if (line.startsWith(ULF_START)) {
+                return parseUlfHeader(line);
+            }
+            if (line.startsWith("[") && parseOdlHeader(line)) {
+                return Result.NONE;
+            }
+            return line.isEmpty() ? Result.NONE : Result.TEXT;
+        }
+    }
+
+    /**
+     * Forgets record being parsed.
+     */
+    public void reset() {
+        state = State.IDLE;
+        message.setLength(0);
+        time = level = product = logger = thread = "";
+    }
+
+    /**
+     * @return <code>true</code> while message of a record is being read
+     */
+    public boolean isReadingMessage() {
+        return state != State.IDLE;
+    }
+
+    public String getTime() {
+        return time;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public String getProduct() {
+        return product;
+    }
+
+    public String getLogger() {
+        return logger;
+    }
+
+    public String getThread() {
+        return thread;
+    }
+
+    public String getMessage() {
+        return message.toString();
+    }
+
+    /**
+     * Parses ODL record header. Bracketed fields are read up to message start, fields are assigned by
+     * position the same way as in {@link PatternLogFilterV7}.
+     *
+     * @return <code>false</code> when line is not ODL record header
+     */
+    private boolean parseOdlHeader(String line) {
+        int length = line.length();
+        int pos = 0;
+        int field = 0;
+        while (pos < length && line.charAt(pos) == '[') {
+            if (line.startsWith(ODL_MESSAGE_START, pos)) {
+                if (field < ODL_MIN_FIELDS) {
+                    break;
+                }
+                message.setLength(0);
+                appendOdlMessage(line, pos + ODL_MESSAGE_START.length());
+                return true;
+            }
+            int end = line.indexOf(']', pos + 1);
+            if (end < 0) {
+                break;
+            }
+            String value = line.substring(pos + 1, end);
+            switch (field++) {
+            case 0:
+                time = value;
+                break;
+            case 1:
+                product = value;
+                break;
+            case 2:
+                level = value;
+                break;
+            case 4:
+                logger = value;
+                break;
+            case 5:
+                thread = value;
+                break;
+            default:
+                break;
+            }
+            pos = end + 1;
+            while (pos < length && line.charAt(pos) == ' ') {
+                pos++;
+            }
+        }
+        reset();
+        return false;
+    }
+
+    /**
+     * Appends ODL message line. Whitespace preceding message text is skipped.
+     */
+    private void appendOdlMessage(String line, int from) {
+        int start = from;
+        if (message.length() == 0) {
+            while (start < line.length() && Character.isWhitespace(line.charAt(start))) {
+                start++;
+            }
+        } else {
+            message.append('\n');
+        }
+        message.append(line, start, line.length());
+        if (line.length() - start >= ODL_MESSAGE_END.length() && line.endsWith(ODL_MESSAGE_END)) {
+            messageEnd = message.length() - ODL_MESSAGE_END.length();
+            state = State.ODL_END;
+        } else {
+            state = State.ODL_MESSAGE;
+        }
+    }
+
+    /**
+     * Parses uniform log format record header.
+     */
+    private Result parseUlfHeader(String line) {
+        int pos = ULF_START.length();
+        for (int field = 0; field < ULF_HEADER_FIELDS; field++) {
+            int end = line.indexOf('|', pos);
+            if (end < 0) {
+                reset();
+                return Result.TEXT;
+            }
+            String value = line.substring(pos, end);
+            switch (field) {
+            case 0:
+                time = value;
+                break;
+            case 1:
+                level = value;
+                break;
+            case 2:
+                product = value;
+                break;
+            case 3:
+                logger = value;
+                break;
+            default:
+                thread = value;
+                break;
+            }
+            pos = end + 1;
+        }
+        message.setLength(0);
+        return appendUlfMessage(line, pos);
+    }
+
+    /**
+     * Appends uniform log format message line, record is complete with message end.
+     */
+    private Result appendUlfMessage(String line, int from) {
+        if (line.length() - from >= ULF_END.length() && line.endsWith(ULF_END)) {
+            message.append(line, from, line.length() - ULF_END.length());
+            state = State.IDLE;
+            return Result.RECORD;
+        }
+        message.append(line, from, line.length());
+        state = State.ULF_MESSAGE;
+        return Result.NONE;
+    }
+
+}
@@ -0,0 +1,902 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.log;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Indexed store of parsed server log records.
+ * <p>
+ * Records are kept in columns and indexed by level, logger and thread, so filtered queries read only
+ * records of matching posting lists. Time range is resolved by binary search over running maximum of
+ * record times, which stays sorted even when records of concurrent threads are slightly out of
+ * order.
+ * </p>
+ * <p>
+ * Messages exceeding memory budget are moved to a temporary spill file, oldest first, and read back
+ * when requested. Store holds at most <code>maxRecords</code>, older half of records is dropped when
+ * the limit is reached and unused logger, thread and level names are forgotten. Spill file is
+ * written and compacted by a background thread shared by all stores, so adding records never waits
+ * for file operations.
+ * </p>
+ * <p>
+ * Records are identified by record numbers, which count records added since the store was created.
+ * Number of a record never changes, so numbers returned by a query stay valid while records are
+ * added. Getters return <code>null</code> for records which were dropped in the meantime.
+ * </p>
+ * <p>
+ * Store does not depend on Eclipse platform. It is safe for one writer and any number of readers.
+ * </p>
+ */
+public final class LogRecordStore {
+
+    /**
+     * Record filter. Fields which are <code>null</code> do not restrict the result.
+     */
+    public static final class Query {
+
+        final Integer minLevel;
+
+        final String loggerPrefix;
+
+        final String thread;
+
+        final Long from;
+
+        final Long to;
+
+        final String text;
+
+        /**
+         * @param minLevel minimal level value, see {@link java.util.logging.Level#intValue()}
+         * @param loggerPrefix logger name or its prefix
+         * @param thread part of thread information
+         * @param from minimal record time in milliseconds since epoch
+         * @param to maximal record time in milliseconds since epoch
+         * @param text part of message, case is ignored
+         */
+        public Query(Integer minLevel, String loggerPrefix, String thread, Long from, Long to, String text) {
+            this.minLevel = minLevel;
+            this.loggerPrefix = emptyToNull(loggerPrefix);
+            this.thread = emptyToNull(thread);
+            this.from = from;
+            this.to = to;
+            this.text = emptyToNull(text);
+        }
+
+        private static String emptyToNull(String value) {
+            return value == null || value.isEmpty() ? null : value;
+        }
+    }
+
+    /**
+     * Growable sorted list of record indexes.
+     */
+    private static final class IntList {
+
+        private int[] values = new int[16];
+
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    /** Time of records without recognized time. */
+    public static final long NO_TIME = Long.MIN_VALUE;
+
+    /** Level value of records with unknown level name. */
+    private static final int DEFAULT_LEVEL = 800;
+
+    private static final Map<String, Integer> LEVEL_VALUES = Map.of(
+            "SEVERE", 1000, "WARNING", 900, "INFO", 800, "CONFIG", 700,
+            "FINE", 500, "FINER", 400, "FINEST", 300);
+
+    /** Size of spill file part read at once by queries. */
+    private static final int SPILL_WINDOW = 1 << 20;
+
+    /** Writes and compacts spill files of all stores. */
+    private static final ExecutorService SPILLER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "GlassFish Log Records Spiller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int maxRecords;
+
+    private final long memoryBudget;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Columns, guarded by lock
+
+    /** Record number of the oldest record. */
+    private long first;
+
+    private int size;
+
+    private long[] times;
+
+    private long[] maxTimes;
+
+    private int[] levels;
+
+    private int[] loggers;
+
+    private int[] threads;
+
+    private String[] messages;
+
+    private long[] spillPositions;
+
+    private int[] spillLengths;
+
+    // Dictionaries and posting lists, guarded by lock
+
+    private final List<String> levelNames = new ArrayList<>();
+
+    private final List<Integer> levelValues = new ArrayList<>();
+
+    private final List<IntList> levelPostings = new ArrayList<>();
+
+    private final Map<String, Integer> levelIds = new HashMap<>();
+
+    private final List<String> loggerNames = new ArrayList<>();
+
+    private final List<IntList> loggerPostings = new ArrayList<>();
+
+    private final Map<String, Integer> loggerIds = new HashMap<>();
+
+    private final List<String> threadNames = new ArrayList<>();
+
+    private final List<IntList> threadPostings = new ArrayList<>();
+
+    private final Map<String, Integer> threadIds = new HashMap<>();
+
+    // Spilling, guarded by lock, spill file is written by spiller thread only
+
+    private long memoryChars;
+
+    /** First record which message may still be in memory. */
+    private int spillNext;
+
+    private Path spillPath;
+
+    private FileChannel spill;
+
+    /** Length of spill file content. */
+    private long spillSize;
+
+    private boolean spillDisabled;
+
+    /** Set when dropped records may have messages in spill file. */
+    private boolean compactionNeeded;
+
+    /** Changed when records are cleared, spiller discards work started before. */
+    private long generation;
+
+    /** Set while spiller task of this store is waiting or running. */
+    private final AtomicBoolean spillScheduled = new AtomicBoolean();
+
+    /**
+     * @param maxRecords maximal number of records
+     * @param memoryBudget number of message characters kept in memory, <code>0</code> keeps all
+     * messages in memory
+     */
+    public LogRecordStore(int maxRecords, long memoryBudget) {
+        this.maxRecords = Math.max(maxRecords, 2);
+        this.memoryBudget = memoryBudget;
+        this.spillDisabled = memoryBudget <= 0;
+        allocate(Math.min(this.maxRecords, 1024));
+    }
+
+    /**
+     * Adds log record.
+     *
+     * @param time record time as written by GlassFish, e.g. <code>2023-01-12T10:15:30.289+0100</code>
+     * @param level level name
+     * @param logger logger name
+     * @param thread thread information
+     * @param message message
+     */
+    public void add(String time, String level, String logger, String thread, String message) {
+        lock.writeLock().lock();
+        try {
+            if (size == maxRecords) {
+                dropOlderHalf();
+            }
+            if (size == times.length) {
+                allocate(Math.min(size * 2, maxRecords));
+            }
+            long millis = parseTime(time);
+            times[size] = millis;
+            maxTimes[size] = size == 0 ? millis : Math.max(maxTimes[size - 1], millis);
+            levels[size] = index(level, levelIds, levelNames, levelPostings);
+            if (levels[size] == levelValues.size()) {
+                levelValues.add(LEVEL_VALUES.getOrDefault(level, DEFAULT_LEVEL));
+            }
+            loggers[size] = index(logger, loggerIds, loggerNames, loggerPostings);
+            threads[size] = index(thread, threadIds, threadNames, threadPostings);
+            messages[size] = message;
+            spillPositions[size] = -1;
+            memoryChars += message.length();
+            size++;
+            if (!spillDisabled && memoryChars > memoryBudget || compactionNeeded) {
+                scheduleSpill();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all records.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            generation++;
+            compactionNeeded = false;
+            first += size;
+            size = 0;
+            memoryChars = 0;
+            spillNext = 0;
+            Arrays.fill(messages, null);
+            for (List<?> list : List.of(levelNames, levelValues, levelPostings, loggerNames, loggerPostings,
+                    threadNames, threadPostings)) {
+                list.clear();
+            }
+            levelIds.clear();
+            loggerIds.clear();
+            threadIds.clear();
+            closeSpill();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all records and deletes spill file.
+     */
+    public void close() {
+        clear();
+    }
+
+    /**
+     * @return number of records
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return record number of the oldest record, records with lower numbers were dropped
+     */
+    public long getFirstRecord() {
+        lock.readLock().lock();
+        try {
+            return first;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds records matching query.
+     *
+     * @param query record filter
+     * @return record numbers of matching records in ascending order
+     */
+    public long[] query(Query query) {
+        lock.readLock().lock();
+        try {
+            int start = query.from != null ? firstNotBefore(query.from) : 0;
+            BitSet candidates = null;
+            if (query.minLevel != null) {
+                candidates = union(levelPostings, id -> levelValues.get(id) >= query.minLevel, start, null);
+            }
+            if (query.loggerPrefix != null) {
+                candidates = union(loggerPostings, id -> loggerNames.get(id).startsWith(query.loggerPrefix),
+                        start, candidates);
+            }
+            if (query.thread != null) {
+                candidates = union(threadPostings, id -> threadNames.get(id).contains(query.thread), start,
+                        candidates);
+            }
+
+            SpillWindow window = query.text != null && spill != null ? new SpillWindow() : null;
+            long[] result = new long[16];
+            int count = 0;
+            int i = candidates != null ? candidates.nextSetBit(start) : start;
+            while (i >= 0 && i < size) {
+                if (matches(i, query, window)) {
+                    if (count == result.length) {
+                        result = Arrays.copyOf(result, count * 2);
+                    }
+                    result[count++] = first + i;
+                }
+                i = candidates != null ? candidates.nextSetBit(i + 1) : i + 1;
+            }
+            return Arrays.copyOf(result, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return record time in milliseconds since epoch or {@link #NO_TIME}, also when the record was
+     * dropped
+     */
+    public long getTime(long record) {
+        lock.readLock().lock();
+        try {
+            int i = position(record);
+            return i < 0 ? NO_TIME : times[i];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return level name or <code>null</code> when the record was dropped
+     */
+    public String getLevel(long record) {
+        lock.readLock().lock();
+        try {
+            int i = position(record);
+            return i < 0 ? null : levelNames.get(levels[i]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return logger name or <code>null</code> when the record was dropped
+     */
+    public String getLogger(long record) {
+        lock.readLock().lock();
+        try {
+            int i = position(record);
+            return i < 0 ? null : loggerNames.get(loggers[i]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return thread information or <code>null</code> when the record was dropped
+     */
+    public String getThread(long record) {
+        lock.readLock().lock();
+        try {
+            int i = position(record);
+            return i < 0 ? null : threadNames.get(threads[i]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return message or <code>null</code> when the record was dropped
+     */
+    public String getMessage(long record) {
+        lock.readLock().lock();
+        try {
+            int i = position(record);
+            return i < 0 ? null : message(i);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return position of record in columns or <code>-1</code> when there is no such record
+     */
+    private int position(long record) {
+        return record >= first && record < first + size ? (int) (record - first) : -1;
+    }
+
+    private boolean matches(int i, Query query, SpillWindow window) {
+        if (query.minLevel != null && levelValues.get(levels[i]) < query.minLevel) {
+            return false;
+        }
+        if (query.loggerPrefix != null && !loggerNames.get(loggers[i]).startsWith(query.loggerPrefix)) {
+            return false;
+        }
+        if (query.thread != null && !threadNames.get(threads[i]).contains(query.thread)) {
+            return false;
+        }
+        if (query.from != null && (times[i] == NO_TIME || times[i] < query.from)) {
+            return false;
+        }
+        if (query.to != null && (times[i] == NO_TIME || times[i] > query.to)) {
+            return false;
+        }
+        return query.text == null || containsIgnoreCase(message(i, window), query.text);
+    }
+
+    private static boolean containsIgnoreCase(String value, String part) {
+        char lower = Character.toLowerCase(part.charAt(0));
+        char upper = Character.toUpperCase(part.charAt(0));
+        for (int i = 0, last = value.length() - part.length(); i <= last; i++) {
+            char c = value.charAt(i);
+            if ((c == lower || c == upper)
+                    && value.regionMatches(true, i, part, 0, part.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Unites posting lists of matching dictionary entries, intersected with given candidates.
+     */
+    private BitSet union(List<IntList> postings, Predicate<Integer> match, int start, BitSet candidates) {
+        BitSet result = new BitSet(size);
+        for (int id = 0; id < postings.size(); id++) {
+            if (match.test(id)) {
+                IntList posting = postings.get(id);
+                int from = Arrays.binarySearch(posting.values, 0, posting.size, start);
+                for (int p = from >= 0 ? from : -from - 1; p < posting.size; p++) {
+                    result.set(posting.values[p]);
+                }
+            }
+        }
+        if (candidates != null) {
+            result.and(candidates);
+        }
+        return result;
+    }
+
+    /**
+     * @return index of first record which may not be older than given time
+     */
+    private int firstNotBefore(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (maxTimes[mid] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int index(String value, Map<String, Integer> ids, List<String> names, List<IntList> postings) {
+        Integer id = ids.get(value);
+        if (id == null) {
+            id = names.size();
+            ids.put(value, id);
+            names.add(value);
+            postings.add(new IntList());
+        }
+        postings.get(id).add(size);
+        return id;
+    }
+
+    private void allocate(int capacity) {
+        times = times == null ? new long[capacity] : Arrays.copyOf(times, capacity);
+        maxTimes = maxTimes == null ? new long[capacity] : Arrays.copyOf(maxTimes, capacity);
+        levels = levels == null ? new int[capacity] : Arrays.copyOf(levels, capacity);
+        loggers = loggers == null ? new int[capacity] : Arrays.copyOf(loggers, capacity);
+        threads = threads == null ? new int[capacity] : Arrays.copyOf(threads, capacity);
+        messages = messages == null ? new String[capacity] : Arrays.copyOf(messages, capacity);
+        spillPositions = spillPositions == null ? new long[capacity] : Arrays.copyOf(spillPositions, capacity);
+        spillLengths = spillLengths == null ? new int[capacity] : Arrays.copyOf(spillLengths, capacity);
+    }
+
+    /**
+     * Drops older half of records, forgets names not used by kept records and rebuilds posting lists.
+     * Spill file is compacted later by spiller thread.
+     */
+    private void dropOlderHalf() {
+        int dropped = size / 2;
+        int kept = size - dropped;
+        for (int i = 0; i < dropped; i++) {
+            if (messages[i] != null) {
+                memoryChars -= messages[i].length();
+            }
+        }
+        System.arraycopy(times, dropped, times, 0, kept);
+        System.arraycopy(levels, dropped, levels, 0, kept);
+        System.arraycopy(loggers, dropped, loggers, 0, kept);
+        System.arraycopy(threads, dropped, threads, 0, kept);
+        System.arraycopy(messages, dropped, messages, 0, kept);
+        System.arraycopy(spillPositions, dropped, spillPositions, 0, kept);
+        System.arraycopy(spillLengths, dropped, spillLengths, 0, kept);
+        Arrays.fill(messages, kept, size, null);
+        spillNext = Math.max(spillNext - dropped, 0);
+
+        first += dropped;
+        size = kept;
+        compactionNeeded = spill != null;
+
+        int[] keptLevels = prune(levels, levelNames, levelIds, levelPostings);
+        List<Integer> values = new ArrayList<>(keptLevels.length);
+        for (int id : keptLevels) {
+            values.add(levelValues.get(id));
+        }
+        levelValues.clear();
+        levelValues.addAll(values);
+        prune(loggers, loggerNames, loggerIds, loggerPostings);
+        prune(threads, threadNames, threadIds, threadPostings);
+        for (int i = 0; i < size; i++) {
+            maxTimes[i] = i == 0 ? times[i] : Math.max(maxTimes[i - 1], times[i]);
+            levelPostings.get(levels[i]).add(i);
+            loggerPostings.get(loggers[i]).add(i);
+            threadPostings.get(threads[i]).add(i);
+        }
+    }
+
+    /**
+     * Removes dictionary entries not used by kept records and renumbers ids in column. Posting lists
+     * are emptied.
+     *
+     * @return previous ids of kept entries, indexed by new id
+     */
+    private int[] prune(int[] column, List<String> names, Map<String, Integer> ids, List<IntList> postings) {
+        int[] newIds = new int[names.size()];
+        Arrays.fill(newIds, -1);
+        int[] oldIds = new int[names.size()];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int id = column[i];
+            if (newIds[id] < 0) {
+                newIds[id] = count;
+                oldIds[count++] = id;
+            }
+            column[i] = newIds[id];
+        }
+
+        List<String> keptNames = new ArrayList<>(count);
+        for (int id = 0; id < count; id++) {
+            keptNames.add(names.get(oldIds[id]));
+        }
+        names.clear();
+        ids.clear();
+        postings.clear();
+        for (String name : keptNames) {
+            ids.put(name, names.size());
+            names.add(name);
+            postings.add(new IntList());
+        }
+        return Arrays.copyOf(oldIds, count);
+    }
+
+    private void scheduleSpill() {
+        if (spillScheduled.compareAndSet(false, true)) {
+            SPILLER.execute(() -> {
+                spillScheduled.set(false);
+                compactSpill();
+                spill();
+            });
+        }
+    }
+
+    /**
+     * Removes messages of dropped records from spill file. Messages of kept records are copied to a new
+     * spill file, the spill file is deleted when no kept record is spilled. Runs in spiller thread.
+     */
+    private void compactSpill() {
+        FileChannel current;
+        long start;
+        long end;
+        long startGeneration;
+        long startFirst;
+        lock.readLock().lock();
+        try {
+            if (!compactionNeeded) {
+                return;
+            }
+            current = spill;
+            // Messages of records before spillNext are spilled in record order
+            start = spillNext == 0 ? spillSize : spillPositions[0];
+            end = spillSize;
+            startGeneration = generation;
+            startFirst = first;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Path compactedPath = null;
+        FileChannel compacted = null;
+        boolean copied = start == 0 || start == end;
+        if (!copied) {
+            try {
+                compactedPath = Files.createTempFile("glassfish-log-", ".spill");
+                compacted = openSpill(compactedPath);
+                for (long count = 0; count < end - start;) {
+                    count += current.transferTo(start + count, end - start - count, compacted);
+                }
+                copied = true;
+            } catch (IOException e) {
+                // Messages stay in the current spill file
+                if (compacted != null) {
+                    close(compacted);
+                } else if (compactedPath != null) {
+                    compactedPath.toFile().delete();
+                }
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (generation != startGeneration || !copied || start == 0) {
+                if (compacted != null) {
+                    close(compacted);
+                }
+                compactionNeeded = generation == startGeneration && copied && first != startFirst;
+                return;
+            }
+            for (int i = 0; i < spillNext; i++) {
+                spillPositions[i] -= start;
+            }
+            close(current);
+            spill = compacted;
+            spillPath = compactedPath;
+            spillSize = end - start;
+            // Records dropped while copying are compacted next time
+            compactionNeeded = spill != null && first != startFirst;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static FileChannel openSpill(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    private static void close(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Deleted when closed, nothing to clean up
+        }
+    }
+
+    /**
+     * Moves oldest messages to spill file until three quarters of memory budget are used. Messages are
+     * written without holding the lock and released from memory afterwards, records dropped in the
+     * meantime are skipped. Runs in spiller thread.
+     */
+    private void spill() {
+        long from;
+        List<String> batch = new ArrayList<>();
+        FileChannel channel;
+        long position;
+        long startGeneration;
+        lock.readLock().lock();
+        try {
+            if (spillDisabled || memoryChars <= memoryBudget) {
+                return;
+            }
+            long target = memoryBudget - memoryBudget / 4;
+            long chars = memoryChars;
+            for (int i = spillNext; chars > target && i < size - 1; i++) {
+                batch.add(messages[i]);
+                chars -= messages[i].length();
+            }
+            from = first + spillNext;
+            channel = spill;
+            position = spillSize;
+            startGeneration = generation;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Path path = null;
+        long[] positions = new long[batch.size()];
+        int[] lengths = new int[batch.size()];
+        try {
+            if (channel == null) {
+                path = Files.createTempFile("glassfish-log-", ".spill");
+                channel = openSpill(path);
+            }
+            for (int k = 0; k < batch.size(); k++) {
+                ByteBuffer buffer = ByteBuffer.wrap(batch.get(k).getBytes(UTF_8));
+                positions[k] = position;
+                lengths[k] = buffer.remaining();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer, position + buffer.position());
+                }
+                position += lengths[k];
+            }
+        } catch (IOException e) {
+            if (path != null) {
+                if (channel != null) {
+                    close(channel);
+                } else {
+                    path.toFile().delete();
+                }
+            }
+            lock.writeLock().lock();
+            try {
+                // Spill file is not available, messages stay in memory
+                spillDisabled |= generation == startGeneration;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (generation != startGeneration) {
+                if (path != null) {
+                    close(channel);
+                }
+                return;
+            }
+            for (int k = 0; k < batch.size(); k++) {
+                int i = position(from + k);
+                if (i >= 0 && messages[i] != null) {
+                    memoryChars -= messages[i].length();
+                    messages[i] = null;
+                    spillPositions[i] = positions[k];
+                    spillLengths[i] = lengths[k];
+                }
+            }
+            spillNext = (int) Math.min(Math.max(from + batch.size() - first, 0), size);
+            if (path != null) {
+                spill = channel;
+                spillPath = path;
+            }
+            spillSize = position;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private String message(int i) {
+        return message(i, null);
+    }
+
+    /**
+     * @param window spill file window of current query or <code>null</code>
+     */
+    private String message(int i, SpillWindow window) {
+        if (messages[i] != null) {
+            return messages[i];
+        }
+        try {
+            if (window != null && spillLengths[i] <= SPILL_WINDOW) {
+                return window.read(spillPositions[i], spillLengths[i]);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(spillLengths[i]);
+            fill(buffer, spillPositions[i]);
+            return new String(buffer.array(), 0, buffer.position(), UTF_8);
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private void fill(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (spill.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Part of spill file read at once. Spilled messages of ascending records are stored one after
+     * another, so scanning query reads the spill file sequentially in large blocks.
+     */
+    private final class SpillWindow {
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(SPILL_WINDOW);
+
+        private long start = -1;
+
+        private int length;
+
+        String read(long position, int messageLength) throws IOException {
+            if (position < start || position + messageLength > start + length) {
+                buffer.clear();
+                fill(buffer, position);
+                start = position;
+                length = buffer.position();
+            }
+            int offset = (int) (position - start);
+            return new String(buffer.array(), offset, Math.min(messageLength, length - offset), UTF_8);
+        }
+    }
+
+    private void closeSpill() {
+        if (spill != null) {
+            close(spill);
+            spill = null;
+            spillPath = null;
+        }
+        spillSize = 0;
+        spillDisabled = memoryBudget <= 0;
+    }
+
+    /**
+     * Parses time written by GlassFish. Common <code>yyyy-MM-ddTHH:mm:ss.SSS+hhmm</code> form is
+     * parsed without formatter.
+     *
+     * @return milliseconds since epoch or {@link #NO_TIME}
+     */
+    static long parseTime(String time) {
+        if (time.length() == 28 && time.charAt(4) == '-' && time.charAt(10) == 'T' && time.charAt(19) == '.') {
+            try {
+                long day = LocalDate.of(digits(time, 0, 4), digits(time, 5, 7), digits(time, 8, 10)).toEpochDay();
+                long seconds = day * 86400 + digits(time, 11, 13) * 3600 + digits(time, 14, 16) * 60
+                        + digits(time, 17, 19);
+                int offset = (digits(time, 24, 26) * 60 + digits(time, 26, 28)) * 60;
+                char sign = time.charAt(23);
+                if (sign == '+' || sign == '-') {
+                    seconds -= sign == '+' ? offset : -offset;
+                    return seconds * 1000 + digits(time, 20, 23);
+                }
+            } catch (RuntimeException e) {
+                // Not in common form
+            }
+        }
+        try {
+            return OffsetDateTime.parse(time, DateTimeFormatter.ISO_OFFSET_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return NO_TIME;
+        }
+    }
+
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException(value);
+            }
+            result = result * 10 + c - '0';
+        }
+        return result;
+    }
+
+}
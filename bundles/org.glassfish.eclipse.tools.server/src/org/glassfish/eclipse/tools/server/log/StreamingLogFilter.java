@@ -0,0 +1,70 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.log;
+
+/**
+ * Log filter formatting records recognized by {@link LogRecordParser}.
+ * <p>
+ * Handles ODL and uniform log format of all GlassFish versions. Lines outside of log records are
+ * passed through unchanged.
+ * </p>
+ */
+public class StreamingLogFilter extends AbstractLogFilter {
+
+    private final LogRecordParser parser = new LogRecordParser();
+
+    private boolean hasProcessedGlassFish;
+
+    StreamingLogFilter() {
+        super();
+    }
+
+    @Override
+    public boolean hasProcessedGlassFish() {
+        return hasProcessedGlassFish;
+    }
+
+    @Override
+    public String process(String line) {
+        switch (parser.parse(line)) {
+        case RECORD:
+            record.setTime(parser.getTime());
+            record.setLevel(levelResolver.resolve(parser.getLevel()));
+            record.setVersion(parser.getProduct());
+            record.setClassInfo(parser.getLogger());
+            record.setThreadInfo(parser.getThread());
+            record.setMessage(parser.getMessage());
+            if (recordStore != null) {
+                recordStore.add(parser.getTime(), parser.getLevel(), parser.getLogger(), parser.getThread(),
+                        record.getMessage());
+            }
+            String result = formatter.formatLogRecord(record);
+            record.reset();
+            hasProcessedGlassFish = true;
+            return result;
+        case TEXT:
+            return line;
+        default:
+            return null;
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        parser.reset();
+    }
+
+    @Override
+    protected boolean isReadingUserMessage() {
+        return parser.isReadingMessage();
+    }
+
+}
@@ -28,5 +28,9 @@ public class PreferenceConstants {
     public static final String ENABLE_LOG = "EnableLogPreference";
     public static final String ENABLE_START_VERBOSE = "EnableStartVerboseModePreference";
     public static final String ENABLE_COLORS_CONSOLE = "EnableColorsInConsolePreference";
+    public static final String CONSOLE_MAX_LINES = "ConsoleMaxLinesPreference";
+    public static final String CONSOLE_MAX_CHARS = "ConsoleMaxCharsPreference";
+    public static final String LOG_RECORDS_MAX = "LogRecordsMaxPreference";
+    public static final String LOG_RECORDS_MEMORY = "LogRecordsMemoryPreference";
 
 }
@@ -41,6 +41,10 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
         store.setDefault(PreferenceConstants.ENABLE_LOG, false);
         store.setDefault(PreferenceConstants.ENABLE_START_VERBOSE, false);
         store.setDefault(PreferenceConstants.ENABLE_COLORS_CONSOLE, true);
+        store.setDefault(PreferenceConstants.CONSOLE_MAX_LINES, 10000);
+        store.setDefault(PreferenceConstants.CONSOLE_MAX_CHARS, 2000000);
+        store.setDefault(PreferenceConstants.LOG_RECORDS_MAX, 50000);
+        store.setDefault(PreferenceConstants.LOG_RECORDS_MEMORY, 1000000);
     }
 
 }
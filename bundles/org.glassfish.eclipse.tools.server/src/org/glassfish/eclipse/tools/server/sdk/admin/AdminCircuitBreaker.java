@@ -0,0 +1,335 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.sdk.admin;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+
+import org.glassfish.eclipse.tools.server.GlassFishServer;
+import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
+
+/**
+ * Circuit breaker and adaptive timeouts of GlassFish server administration interface.
+ * <p/>
+ * Breaker opens after {@link #FAILURE_THRESHOLD} consecutive connection failures. Commands are
+ * rejected immediately while breaker is open. After open time passes, single probe command is let
+ * through. Its success closes the breaker, its failure opens the breaker again for twice as long.
+ * Read timeout of status command on established connection is not a failure, server accepting
+ * connections is reachable even when it is slow to respond.
+ * <p/>
+ * Connection and status command read timeouts are derived from measured latencies using smoothed
+ * average and deviation estimators, so commands of unresponsive server fail in time proportional
+ * to its usual response time instead of waiting out fixed timeouts.
+ * <p/>
+ */
+public class AdminCircuitBreaker {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Circuit breaker state.
+     */
+    public enum State {
+
+        /** Commands are executed. */
+        CLOSED,
+
+        /** Commands are rejected. */
+        OPEN,
+
+        /** Single probe command is executed, other commands are rejected. */
+        HALF_OPEN;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(AdminCircuitBreaker.class);
+
+    /** Number of consecutive failures opening the breaker. */
+    public static final int FAILURE_THRESHOLD = 3;
+
+    /** Initial open time (in miliseconds). */
+    public static final long MIN_OPEN_TIME = 2000;
+
+    /** Maximum open time (in miliseconds). */
+    public static final long MAX_OPEN_TIME = 60000;
+
+    /** Minimal adaptive connection timeout (in miliseconds). */
+    public static final int MIN_CONNECT_TIMEOUT = 1000;
+
+    /** Minimal adaptive status command read timeout (in miliseconds). */
+    public static final int MIN_READ_TIMEOUT = 2000;
+
+    /** Maximum adaptive status command read timeout (in miliseconds). */
+    public static final int MAX_READ_TIMEOUT = 30000;
+
+    /** Nanoseconds in one millisecond. */
+    private static final long NANOS_PER_MILLI = 1000000L;
+
+    /** Circuit breakers of individual GlassFish servers. */
+    private static final Map<GlassFishServer, AdminCircuitBreaker> breakers = new WeakHashMap<>();
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get circuit breaker of given GlassFish server.
+     * <p/>
+     *
+     * @param server GlassFish server entity object.
+     * @return Circuit breaker of given GlassFish server.
+     */
+    public static AdminCircuitBreaker get(final GlassFishServer server) {
+        synchronized (breakers) {
+            return breakers.computeIfAbsent(server, key -> new AdminCircuitBreaker(key.getName()));
+        }
+    }
+
+    /**
+     * Close circuit breaker of given GlassFish server.
+     * <p/>
+     * Should be called when server is known to be reachable again, e.g. after it was started.
+     * <p/>
+     *
+     * @param server GlassFish server entity object.
+     */
+    public static void reset(final GlassFishServer server) {
+        AdminCircuitBreaker breaker;
+        synchronized (breakers) {
+            breaker = breakers.get(server);
+        }
+        if (breaker != null) {
+            breaker.reset();
+        }
+    }
+
+    /**
+     * Compute timeout from smoothed average and deviation.
+     * <p/>
+     *
+     * @param average Smoothed average (in miliseconds).
+     * @param deviation Smoothed deviation (in miliseconds).
+     * @param min Minimal timeout (in miliseconds).
+     * @param max Maximum timeout (in miliseconds).
+     * @return Timeout (in miliseconds).
+     */
+    private static int timeout(final double average, final double deviation, final int min, final int max) {
+        return (int) Math.max(min, Math.min(max, average + 4 * deviation));
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** GlassFish server name used in log messages. */
+    private final String serverName;
+
+    /** Current state. */
+    private State state;
+
+    /** Number of consecutive failures. */
+    private int failures;
+
+    /** Current open time (in miliseconds). */
+    private long openTime;
+
+    /** Time when breaker was opened or probe was started as returned by <code>System.nanoTime()</code>. */
+    private long openedAt;
+
+    /** Smoothed connection latency (in miliseconds), negative value when not measured yet. */
+    private double connectAverage;
+
+    /** Smoothed connection latency deviation (in miliseconds). */
+    private double connectDeviation;
+
+    /** Smoothed status command response latency (in miliseconds), negative value when not measured yet. */
+    private double responseAverage;
+
+    /** Smoothed status command response latency deviation (in miliseconds). */
+    private double responseDeviation;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of administration interface circuit breaker.
+     * <p/>
+     *
+     * @param serverName GlassFish server name used in log messages.
+     */
+    private AdminCircuitBreaker(final String serverName) {
+        this.serverName = serverName;
+        this.state = State.CLOSED;
+        this.openTime = MIN_OPEN_TIME;
+        this.connectAverage = -1;
+        this.responseAverage = -1;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get current circuit breaker state.
+     * <p/>
+     *
+     * @return Current circuit breaker state.
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Get number of consecutive failures.
+     * <p/>
+     *
+     * @return Number of consecutive failures.
+     */
+    public synchronized int getFailures() {
+        return failures;
+    }
+
+    /**
+     * Get adaptive connection timeout.
+     * <p/>
+     *
+     * @return Connection timeout (in miliseconds), never longer than
+     * {@link Runner#HTTP_CONNECTION_TIMEOUT}.
+     */
+    public synchronized int getConnectTimeout() {
+        if (connectAverage < 0) {
+            return Runner.HTTP_CONNECTION_TIMEOUT;
+        }
+        return timeout(connectAverage, connectDeviation, MIN_CONNECT_TIMEOUT, Runner.HTTP_CONNECTION_TIMEOUT);
+    }
+
+    /**
+     * Get adaptive status command read timeout.
+     * <p/>
+     *
+     * @return Read timeout (in miliseconds).
+     */
+    public synchronized int getReadTimeout() {
+        if (responseAverage < 0) {
+            return MAX_READ_TIMEOUT;
+        }
+        return timeout(responseAverage, responseDeviation, MIN_READ_TIMEOUT, MAX_READ_TIMEOUT);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Check whether command may be executed now.
+     * <p/>
+     * When open time passed, breaker switches to half open state and caller becomes the probe.
+     * <p/>
+     *
+     * @return Value of <code>true</code> when command may be executed or <code>false</code> when it
+     * should be rejected.
+     */
+    public synchronized boolean allowRequest() {
+        final String METHOD = "allowRequest";
+        if (state == State.CLOSED) {
+            return true;
+        }
+        // Let next probe through also when previous probe did not report its outcome in time.
+        long now = System.nanoTime();
+        if (now - openedAt < openTime * NANOS_PER_MILLI) {
+            return false;
+        }
+        state = State.HALF_OPEN;
+        openedAt = now;
+        LOGGER.log(Level.FINE, METHOD, "probe", serverName);
+        return true;
+    }
+
+    /**
+     * Record successful server response.
+     * <p/>
+     *
+     * @param connectNanos Connection latency (in nanoseconds) or negative value when no new socket was
+     * connected, e.g. kept alive connection was reused.
+     * @param responseNanos Status command response latency (in nanoseconds) or negative value when
+     * command is not status command.
+     */
+    public synchronized void success(final long connectNanos, final long responseNanos) {
+        final String METHOD = "success";
+        if (connectNanos >= 0) {
+            double connect = (double) connectNanos / NANOS_PER_MILLI;
+            if (connectAverage < 0) {
+                connectAverage = connect;
+                connectDeviation = connect / 2;
+            } else {
+                connectDeviation += (Math.abs(connect - connectAverage) - connectDeviation) / 4;
+                connectAverage += (connect - connectAverage) / 8;
+            }
+        }
+        if (responseNanos >= 0) {
+            double response = (double) responseNanos / NANOS_PER_MILLI;
+            if (responseAverage < 0) {
+                responseAverage = response;
+                responseDeviation = response / 2;
+            } else {
+                responseDeviation += (Math.abs(response - responseAverage) - responseDeviation) / 4;
+                responseAverage += (response - responseAverage) / 8;
+            }
+        }
+        if (state != State.CLOSED) {
+            LOGGER.log(Level.FINE, METHOD, "closed", serverName);
+        }
+        state = State.CLOSED;
+        failures = 0;
+        openTime = MIN_OPEN_TIME;
+    }
+
+    /**
+     * Record connection failure.
+     */
+    public synchronized void failure() {
+        failures++;
+        if (state == State.HALF_OPEN) {
+            openTime = Math.min(openTime * 2, MAX_OPEN_TIME);
+            open();
+        } else if (state == State.CLOSED && failures >= FAILURE_THRESHOLD) {
+            open();
+        }
+    }
+
+    /**
+     * Close breaker. Measured latencies are kept.
+     */
+    public synchronized void reset() {
+        state = State.CLOSED;
+        failures = 0;
+        openTime = MIN_OPEN_TIME;
+    }
+
+    /**
+     * Switch to open state.
+     */
+    private void open() {
+        final String METHOD = "open";
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        LOGGER.log(Level.FINE, METHOD, "opened",
+                new Object[] { serverName, Integer.toString(failures), Long.toString(openTime) });
+    }
+
+}
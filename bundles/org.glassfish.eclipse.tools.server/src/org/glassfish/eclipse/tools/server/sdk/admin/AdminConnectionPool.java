@@ -0,0 +1,508 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.sdk.admin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Proxy;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.UnknownHostException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import org.glassfish.eclipse.tools.server.GlassFishServer;
+import org.glassfish.eclipse.tools.server.sdk.GlassFishToolsConfig;
+import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
+import org.glassfish.eclipse.tools.server.sdk.utils.ServerUtils;
+
+/**
+ * Pooled administration interface transport for single GlassFish server.
+ * <p/>
+ * All HTTP and REST administration commands of one server open and release their connections
+ * through this pool. Pool bounds number of concurrently leased connections, keeps released
+ * connections alive by consuming and closing their streams instead of calling
+ * <code>disconnect()</code> so JDK keep-alive cache can hand the same socket to the next
+ * command, and caches <code>Authorization</code> header value for current admin credentials.
+ * <p/>
+ * JDK does not tell whether a connection got a new socket or a kept alive one. Pool counts released
+ * connections which may still be kept alive and reports connection opened while such connection
+ * exists as reused, see {@link #isReused(URLConnection)}.
+ * <p/>
+ * Pool also caches administration interface protocol (<code>http</code> or <code>https</code>)
+ * detected for server's host and port so secure port probing is not repeated for every command.
+ * Cached protocol is dropped when connection is refused or TLS handshake fails, host or port
+ * changes, server status check
+ * finds administration port not listening or server is stopped by the IDE.
+ * <p/>
+ * TLS configuration shared by HTTPS connections of the server is held here too and dropped together
+ * with cached protocol.
+ * <p/>
+ * Pools not used for longer than {@link #IDLE_TIMEOUT} are evicted from pool registry.
+ * <p/>
+ */
+public class AdminConnectionPool {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * No connection could be leased in time because all connections are leased by other commands.
+     * <p/>
+     * Server was not contacted, so this is not a server failure.
+     */
+    public static class LeaseTimeoutException extends InterruptedIOException {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructs an instance of lease timeout exception.
+         * <p/>
+         *
+         * @param message Exception message.
+         */
+        LeaseTimeoutException(final String message) {
+            super(message);
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(AdminConnectionPool.class);
+
+    /** Default maximum number of concurrently leased connections per server. */
+    public static final int DEFAULT_MAX_CONNECTIONS = 4;
+
+    /** Pool idle time after which pool is evicted from registry (in miliseconds). */
+    public static final long IDLE_TIMEOUT = 300000;
+
+    /** Maximum number of bytes drained from released stream to keep connection alive. */
+    private static final int MAX_DRAIN_LENGTH = 65536;
+
+    /** JDK keep-alive time of idle connection when server does not set it (in miliseconds). */
+    private static final long KEEP_ALIVE_TIME = 5000;
+
+    /** Registered connection pools. */
+    private static final Map<GlassFishServer, AdminConnectionPool> pools = new WeakHashMap<>();
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get connection pool of given GlassFish server.
+     * <p/>
+     * New pool is created when no pool exists for this server yet. Idle pools of other servers are
+     * evicted.
+     * <p/>
+     *
+     * @param server GlassFish server entity object.
+     * @return Connection pool of given GlassFish server.
+     */
+    public static AdminConnectionPool get(final GlassFishServer server) {
+        final long now = System.currentTimeMillis();
+        synchronized (pools) {
+            evictIdle(now);
+            AdminConnectionPool pool = pools.get(server);
+            if (pool == null) {
+                pool = new AdminConnectionPool(DEFAULT_MAX_CONNECTIONS);
+                pools.put(server, pool);
+            }
+            pool.lastUsed = now;
+            return pool;
+        }
+    }
+
+    /**
+     * Drop cached administration interface protocol and TLS configuration of given GlassFish server.
+     * <p/>
+     * Pool is not created when it does not exist yet.
+     * <p/>
+     *
+     * @param server GlassFish server entity object.
+     */
+    public static void invalidate(final GlassFishServer server) {
+        AdminConnectionPool pool;
+        synchronized (pools) {
+            pool = pools.get(server);
+        }
+        if (pool != null) {
+            pool.invalidate();
+        }
+    }
+
+    /**
+     * Evict pools with no leased connections that were not used for longer than
+     * {@link #IDLE_TIMEOUT}.
+     * <p/>
+     * Must be called while holding <code>pools</code> lock.
+     * <p/>
+     *
+     * @param now Current time in miliseconds.
+     */
+    private static void evictIdle(final long now) {
+        final String METHOD = "evictIdle";
+        for (Iterator<AdminConnectionPool> i = pools.values().iterator(); i.hasNext();) {
+            AdminConnectionPool pool = i.next();
+            if (pool.leased.get() == 0 && now - pool.lastUsed > IDLE_TIMEOUT) {
+                LOGGER.log(Level.FINEST, METHOD, "evict");
+                i.remove();
+            }
+        }
+    }
+
+    /**
+     * Creates {@link URLConnection} instance that represents a connection to GlassFish server
+     * administration interface.
+     * <p/>
+     * Depending on GlassFisg Tooling Library configuration proxy usage for loopback addresses may be
+     * suppressed.
+     * <p/>
+     *
+     * @param url GlassFish server administration interface URL.
+     * @return GlassFish server administration interface URL connection.
+     * @throws IOException IOException if an I/O error occurs while opening the connection.
+     */
+    private static URLConnection openURLConnection(final URL url) throws IOException {
+        if (!GlassFishToolsConfig.getProxyForLoopback()) {
+            InetAddress addr;
+            try {
+                addr = InetAddress.getByName(url.getHost());
+            } catch (UnknownHostException ex) {
+                addr = null;
+            }
+            if (addr != null && addr.isLoopbackAddress()) {
+                return url.openConnection(Proxy.NO_PROXY);
+            }
+        }
+        return url.openConnection();
+    }
+
+    /**
+     * Read and discard remaining content of stream and close it.
+     * <p/>
+     * Fully consumed stream allows JDK to return underlying socket into keep-alive cache.
+     * <p/>
+     *
+     * @param in Stream to be drained, may be <code>null</code>.
+     * @throws IOException when stream could not be read or closed.
+     */
+    private static void drain(final InputStream in) throws IOException {
+        if (in == null) {
+            return;
+        }
+        try {
+            byte[] buffer = new byte[4096];
+            int total = 0;
+            int count;
+            while (total < MAX_DRAIN_LENGTH && (count = in.read(buffer)) >= 0) {
+                total += count;
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Get response stream of HTTP connection which got successful response.
+     * <p/>
+     *
+     * @param conn HTTP connection.
+     * @return Response stream or <code>null</code> when there is no successful response.
+     * @throws IOException when response code could not be read.
+     */
+    private static InputStream responseStream(final HttpURLConnection conn) throws IOException {
+        int code = conn.getResponseCode();
+        return code >= 200 && code < 400 ? conn.getInputStream() : null;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Maximum number of concurrently leased connections. */
+    private final int maxConnections;
+
+    /** Permits for leased connections. */
+    private final Semaphore permits;
+
+    /** Number of currently leased connections. */
+    private final AtomicInteger leased;
+
+    /** Time of last pool usage in miliseconds. */
+    private volatile long lastUsed;
+
+    /** Release times of connections which may be kept alive, latest first. Guarded by itself. */
+    private final Deque<Long> idle = new ArrayDeque<>();
+
+    /** Leased connections which presumably reuse kept alive socket. */
+    private final Set<URLConnection> reused = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+
+    /** Admin user name used to build cached authorization header. */
+    private String authUser;
+
+    /** Admin password used to build cached authorization header. */
+    private String authPassword;
+
+    /** Cached authorization header value. */
+    private String authorization;
+
+    /** Administration interface host of cached protocol. */
+    private String protocolHost;
+
+    /** Administration interface port of cached protocol. */
+    private int protocolPort;
+
+    /** Cached administration interface protocol. */
+    private String protocol;
+
+    /** Shared TLS configuration for HTTPS connections. */
+    private AdminTlsConfig tlsConfig;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of GlassFish server administration connection pool.
+     * <p/>
+     *
+     * @param maxConnections Maximum number of concurrently leased connections.
+     */
+    AdminConnectionPool(final int maxConnections) {
+        this.maxConnections = maxConnections;
+        this.permits = new Semaphore(maxConnections, true);
+        this.leased = new AtomicInteger();
+        this.lastUsed = System.currentTimeMillis();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Lease new connection to GlassFish server administration interface.
+     * <p/>
+     * Calling thread is blocked while maximum number of connections is leased, at most for given
+     * timeout. Every leased connection must be returned using
+     * {@link #release(URLConnection, boolean)}.
+     * <p/>
+     *
+     * @param url GlassFish server administration interface URL.
+     * @param timeout Maximum time to wait for free connection (in miliseconds).
+     * @return GlassFish server administration interface URL connection.
+     * @throws LeaseTimeoutException when no connection was returned to this pool in time.
+     * @throws IOException when connection could not be opened or thread was interrupted while
+     * waiting for free connection.
+     */
+    public URLConnection open(final URL url, final long timeout) throws IOException {
+        final String METHOD = "open";
+        try {
+            if (!permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                throw new LeaseTimeoutException(LOGGER.excMsg(METHOD, "timeout", Long.toString(timeout)));
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ie.getLocalizedMessage());
+        }
+        leased.incrementAndGet();
+        lastUsed = System.currentTimeMillis();
+        try {
+            URLConnection conn = openURLConnection(url);
+            if (takeIdle(lastUsed)) {
+                reused.add(conn);
+            }
+            return conn;
+        } catch (IOException | RuntimeException ex) {
+            leased.decrementAndGet();
+            permits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Return leased connection to this pool.
+     * <p/>
+     * Reusable HTTP connection has its remaining response and error content consumed so underlying
+     * socket stays open for next command. Connection that is not reusable is disconnected.
+     * <p/>
+     *
+     * @param conn Connection leased using {@link #open(URL)}.
+     * @param reusable Value of <code>true</code> when whole request and response exchange was
+     * finished and connection may be kept alive.
+     */
+    public void release(final URLConnection conn, final boolean reusable) {
+        final String METHOD = "release";
+        try {
+            if (conn instanceof HttpURLConnection) {
+                HttpURLConnection hconn = (HttpURLConnection) conn;
+                boolean keepAlive = reusable;
+                if (keepAlive) {
+                    try {
+                        drain(hconn.getErrorStream());
+                        drain(responseStream(hconn));
+                    } catch (IOException ioe) {
+                        LOGGER.log(Level.FINEST, METHOD, "drain", ioe);
+                        keepAlive = false;
+                    }
+                }
+                if (keepAlive) {
+                    putIdle(System.currentTimeMillis());
+                } else {
+                    hconn.disconnect();
+                }
+            }
+        } finally {
+            reused.remove(conn);
+            lastUsed = System.currentTimeMillis();
+            leased.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    /**
+     * Check whether leased connection presumably reuses kept alive socket, i.e. whether connecting
+     * it did not open new socket.
+     * <p/>
+     *
+     * @param conn Connection leased using {@link #open(URL)}.
+     * @return Value of <code>true</code> when connection was opened while another connection of
+     * this pool could be kept alive.
+     */
+    public boolean isReused(final URLConnection conn) {
+        return reused.contains(conn);
+    }
+
+    /**
+     * Record released connection which may be kept alive.
+     * <p/>
+     *
+     * @param now Release time in miliseconds.
+     */
+    private void putIdle(final long now) {
+        synchronized (idle) {
+            idle.addFirst(now);
+            if (idle.size() > maxConnections) {
+                idle.removeLast();
+            }
+        }
+    }
+
+    /**
+     * Take released connection which may still be kept alive.
+     * <p/>
+     *
+     * @param now Current time in miliseconds.
+     * @return Value of <code>true</code> when such connection was found.
+     */
+    private boolean takeIdle(final long now) {
+        synchronized (idle) {
+            Long released = idle.pollFirst();
+            if (released != null && now - released < KEEP_ALIVE_TIME) {
+                return true;
+            }
+            // Older connections expired too
+            idle.clear();
+            return false;
+        }
+    }
+
+    /**
+     * Get HTTP Basic <code>Authorization</code> header value for provided credentials.
+     * <p/>
+     * Value is computed once and reused until credentials change.
+     * <p/>
+     *
+     * @param user Admin user name.
+     * @param password Admin password.
+     * @return <code>Authorization</code> header value.
+     */
+    public synchronized String authorization(final String user, final String password) {
+        if (authorization == null || !Objects.equals(user, authUser) || !Objects.equals(password, authPassword)) {
+            authUser = user;
+            authPassword = password;
+            authorization = "Basic " + ServerUtils.basicAuthCredentials(user, password);
+        }
+        return authorization;
+    }
+
+    /**
+     * Get cached administration interface protocol for given host and port.
+     * <p/>
+     *
+     * @param host Administration interface host.
+     * @param port Administration interface port.
+     * @return Cached protocol or <code>null</code> when no protocol was cached for given host and
+     * port.
+     */
+    public synchronized String getProtocol(final String host, final int port) {
+        if (protocol != null && port == protocolPort && Objects.equals(host, protocolHost)) {
+            return protocol;
+        }
+        return null;
+    }
+
+    /**
+     * Cache administration interface protocol detected for given host and port.
+     * <p/>
+     *
+     * @param host Administration interface host.
+     * @param port Administration interface port.
+     * @param protocol Detected protocol.
+     */
+    public synchronized void setProtocol(final String host, final int port, final String protocol) {
+        this.protocolHost = host;
+        this.protocolPort = port;
+        this.protocol = protocol;
+    }
+
+    /**
+     * Get TLS configuration shared by HTTPS connections of given GlassFish server.
+     * <p/>
+     * Configuration is created on first request and reused until invalidated.
+     * <p/>
+     *
+     * @param server GlassFish server entity object.
+     * @return TLS configuration or <code>null</code> when it could not be initialized.
+     */
+    public synchronized AdminTlsConfig getTlsConfig(final GlassFishServer server) {
+        if (tlsConfig == null) {
+            tlsConfig = AdminTlsConfig.create(server);
+        }
+        return tlsConfig;
+    }
+
+    /**
+     * Drop cached administration interface protocol and TLS configuration.
+     */
+    public synchronized void invalidate() {
+        protocol = null;
+        tlsConfig = null;
+    }
+
+}
@@ -18,16 +18,10 @@
 
 package org.glassfish.eclipse.tools.server.sdk.admin;
 
-import static java.util.logging.Level.WARNING;
-import static org.glassfish.eclipse.tools.server.sdk.admin.CommandException.RUNNER_INIT;
 import static org.glassfish.eclipse.tools.server.sdk.admin.CommandException.UNKNOWN_ADMIN_INTERFACE;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-
 import org.glassfish.eclipse.tools.server.GlassFishServer;
 import org.glassfish.eclipse.tools.server.sdk.data.GlassFishAdminInterface;
-import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
 import org.glassfish.eclipse.tools.server.utils.Version;
 
 /**
@@ -41,13 +35,6 @@ import org.glassfish.eclipse.tools.server.utils.Version;
  */
 public abstract class AdminFactory {
 
-    ////////////////////////////////////////////////////////////////////////////
-    // Class attributes //
-    ////////////////////////////////////////////////////////////////////////////
-
-    /** Logger instance for this class. */
-    private static final Logger LOGGER = new Logger(AdminFactory.class);
-
     ////////////////////////////////////////////////////////////////////////////
     // Static methods //
     ////////////////////////////////////////////////////////////////////////////
@@ -101,49 +88,4 @@ public abstract class AdminFactory {
      */
     public abstract Runner getRunner(GlassFishServer glassfishServer, Command command);
 
-    ////////////////////////////////////////////////////////////////////////////
-    // Methods //
-    ////////////////////////////////////////////////////////////////////////////
-
-    /**
-     * Constructs an instance of selected <code>Runner</code> child class.
-     * <p/>
-     *
-     * @param glassfishServer Target GlassFish server.
-     * @param command GlassFish server administration command entity.
-     * @param runnerClass Class of newly instantiated <code>runner</code>
-     * @return GlassFish server administration command execution object.
-     * @throws <code>CommandException</code> if construction of new instance fails.
-     */
-    Runner newRunner(GlassFishServer glassfishServer, Command command, Class<? extends Runner> runnerClass) throws CommandException {
-
-        Constructor<? extends Runner> runnerConstructor = null;
-        Runner runner = null;
-        try {
-            runnerConstructor = runnerClass.getConstructor(GlassFishServer.class, Command.class);
-        } catch (NoSuchMethodException | SecurityException nsme) {
-            throw new CommandException(RUNNER_INIT, nsme);
-        }
-
-        if (runnerConstructor == null) {
-            return runner;
-        }
-
-        try {
-            runner = runnerConstructor.newInstance(glassfishServer, command);
-        } catch (InstantiationException | IllegalAccessException ie) {
-            throw new CommandException(RUNNER_INIT, ie);
-        } catch (InvocationTargetException ite) {
-            LOGGER.log(WARNING, "exceptionMsg", ite.getMessage());
-            Throwable t = ite.getCause();
-            if (t != null) {
-                LOGGER.log(WARNING, "cause", t.getMessage());
-            }
-
-            throw new CommandException(RUNNER_INIT, ite);
-        }
-
-        return runner;
-    }
-
 }
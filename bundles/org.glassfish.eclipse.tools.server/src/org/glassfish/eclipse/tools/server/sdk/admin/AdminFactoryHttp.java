@@ -19,6 +19,7 @@
 package org.glassfish.eclipse.tools.server.sdk.admin;
 
 import org.glassfish.eclipse.tools.server.GlassFishServer;
+import org.glassfish.eclipse.tools.server.sdk.data.GlassFishAdminInterface;
 
 /**
  * GlassFish Server HTTP Command Factory.
@@ -78,22 +79,7 @@ public class AdminFactoryHttp extends AdminFactory {
      */
     @Override
     public Runner getRunner(GlassFishServer server, Command cmd) {
-        Runner runner;
-
-        Class<? extends Command> commandClass = cmd.getClass();
-        RunnerHttpClass runnerHttpClass = commandClass.getAnnotation(RunnerHttpClass.class);
-
-        if (runnerHttpClass != null) {
-            String command = runnerHttpClass.command();
-            runner = newRunner(server, cmd, runnerHttpClass.runner());
-            if (command != null && !command.isEmpty()) {
-                cmd.command = command;
-            }
-        } else {
-            runner = new RunnerHttp(server, cmd);
-        }
-
-        return runner;
+        return RunnerRegistry.newRunner(GlassFishAdminInterface.HTTP, server, cmd);
     }
 
 }
@@ -19,6 +19,7 @@
 package org.glassfish.eclipse.tools.server.sdk.admin;
 
 import org.glassfish.eclipse.tools.server.GlassFishServer;
+import org.glassfish.eclipse.tools.server.sdk.data.GlassFishAdminInterface;
 
 /**
  * GlassFish Server REST Command Factory.
@@ -78,23 +79,7 @@ public class AdminFactoryRest extends AdminFactory {
      */
     @Override
     public Runner getRunner(final GlassFishServer glassfishServer, final Command cmd) {
-        Runner runner;
-
-        Class<? extends Command> commandClass = cmd.getClass();
-        RunnerRestClass runnerRestClass = commandClass.getAnnotation(RunnerRestClass.class);
-
-        if (runnerRestClass != null) {
-            String command = runnerRestClass.command();
-            runner = newRunner(glassfishServer, cmd, runnerRestClass.runner());
-
-            if (command != null && !command.isEmpty()) {
-                cmd.command = command;
-            }
-        } else {
-            runner = new RunnerRest(glassfishServer, cmd);
-        }
-
-        return runner;
+        return RunnerRegistry.newRunner(GlassFishAdminInterface.REST, glassfishServer, cmd);
     }
 
 }
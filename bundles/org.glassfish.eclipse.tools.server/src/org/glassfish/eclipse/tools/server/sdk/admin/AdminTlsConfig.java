@@ -0,0 +1,145 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.sdk.admin;
+
+import java.security.GeneralSecurityException;
+import java.security.cert.X509Certificate;
+import java.util.logging.Level;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import org.glassfish.eclipse.tools.server.GlassFishServer;
+import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
+
+/**
+ * TLS configuration of GlassFish server administration interface connections.
+ * <p/>
+ * Single <code>SSLContext</code> and socket factory are built for a server and shared by all HTTPS
+ * administration commands, so client session cache allows TLS session resumption instead of full
+ * handshake for every command.
+ * <p/>
+ * Any server certificate is trusted and host name is not verified, as administration connections
+ * always did. Domains use self signed certificates issued for local host name by default.
+ * <p/>
+ */
+public class AdminTlsConfig {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(AdminTlsConfig.class);
+
+    /** TLS client session cache size. */
+    private static final int SESSION_CACHE_SIZE = 16;
+
+    /** TLS client session timeout (in seconds). */
+    private static final int SESSION_TIMEOUT = 3600;
+
+    /**
+     * Trust manager accepting any server certificate. Let's just trust any server that we connect
+     * to, we aren't sending them money or secrets.
+     */
+    private static final X509TrustManager TRUST_ALL = new X509TrustManager() {
+
+        @Override
+        public void checkClientTrusted(final X509Certificate[] chain, final String authType) {
+        }
+
+        @Override
+        public void checkServerTrusted(final X509Certificate[] chain, final String authType) {
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    };
+
+    /**
+     * Server certificate host name is not verified. Domain certificates are issued for local host
+     * name which usually differs from host used to access administration interface.
+     */
+    private static final HostnameVerifier HOSTNAME_VERIFIER = (hostname, session) -> true;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Create TLS configuration for given GlassFish server.
+     * <p/>
+     *
+     * @param server GlassFish server entity object.
+     * @return TLS configuration for given GlassFish server or <code>null</code> when
+     * <code>SSLContext</code> could not be initialized.
+     */
+    static AdminTlsConfig create(final GlassFishServer server) {
+        final String METHOD = "create";
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, new TrustManager[] { TRUST_ALL }, null);
+            SSLSessionContext sessions = context.getClientSessionContext();
+            if (sessions != null) {
+                sessions.setSessionCacheSize(SESSION_CACHE_SIZE);
+                sessions.setSessionTimeout(SESSION_TIMEOUT);
+            }
+            LOGGER.log(Level.FINEST, METHOD, "created", server.getName());
+            return new AdminTlsConfig(context.getSocketFactory());
+        } catch (GeneralSecurityException gse) {
+            LOGGER.log(Level.INFO, METHOD, "exception", gse);
+            return null;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Shared SSL socket factory. */
+    private final SSLSocketFactory socketFactory;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of administration interface TLS configuration.
+     * <p/>
+     *
+     * @param socketFactory Shared SSL socket factory.
+     */
+    private AdminTlsConfig(final SSLSocketFactory socketFactory) {
+        this.socketFactory = socketFactory;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Configure HTTPS connection to use shared socket factory and host name verifier.
+     * <p/>
+     *
+     * @param conn HTTPS connection to be configured.
+     */
+    public void configure(final HttpsURLConnection conn) {
+        conn.setSSLSocketFactory(socketFactory);
+        conn.setHostnameVerifier(HOSTNAME_VERIFIER);
+    }
+
+}
@@ -68,6 +68,19 @@ public abstract class Command {
         return command;
     }
 
+    /**
+     * Get scheduling priority class of this command.
+     * <p/>
+     * Commands are considered interactive by default. Commands running for a long time or in
+     * background override this method to not block interactive commands.
+     * <p/>
+     *
+     * @return Scheduling priority class of this command.
+     */
+    public CommandPriority getPriority() {
+        return CommandPriority.INTERACTIVE;
+    }
+
     // This is also kind of getter.
     /**
      * Sometimes (e.g. during startup), the server does not accept commands. In such cases, it will
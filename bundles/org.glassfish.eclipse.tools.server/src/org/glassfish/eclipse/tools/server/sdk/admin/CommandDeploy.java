@@ -147,4 +147,19 @@ public class CommandDeploy extends CommandTargetName {
 		this.hotDeploy = hotDeploy;
 	}
 
-}
\ No newline at end of file
+	////////////////////////////////////////////////////////////////////////////
+	// Getters //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Get scheduling priority class of this command.
+	 * <p/>
+	 *
+	 * @return Scheduling priority class of deployment command.
+	 */
+	@Override
+	public CommandPriority getPriority() {
+		return CommandPriority.DEPLOY;
+	}
+
+}
@@ -52,4 +52,19 @@ public class CommandDisable extends CommandTargetName {
         super(COMMAND, name, target);
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get scheduling priority class of this command.
+     * <p/>
+     *
+     * @return Scheduling priority class of deployment command.
+     */
+    @Override
+    public CommandPriority getPriority() {
+        return CommandPriority.DEPLOY;
+    }
+
 }
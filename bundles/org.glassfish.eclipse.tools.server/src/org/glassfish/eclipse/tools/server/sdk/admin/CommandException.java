@@ -53,6 +53,9 @@ public class CommandException extends GlassFishIdeException {
 
 	/** Exception message for IOException when reading HTTP response. */
 	static final String HTTP_RESP_IO_EXCEPTION = "Can not read HTTP response, caught IOException";
+
+	/** Exception message for interrupted reading of HTTP response. */
+	static final String HTTP_RESP_INTERRUPTED = "Reading of HTTP response was interrupted";
 	/**
 	 * Exception message for exceptions when initializing <code>Runner</code>
 	 * object.
@@ -30,6 +30,28 @@ package org.glassfish.eclipse.tools.server.sdk.admin;
 @RunnerRestClass(runner = RunnerRestFetchLogData.class)
 public class CommandFetchLogData extends Command {
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Receiver of log lines streamed from HTTP response.
+     * <p/>
+     */
+    @FunctionalInterface
+    public interface LineConsumer {
+
+        /**
+         * Accept log line as soon as it was read from HTTP response.
+         * <p/>
+         *
+         * @param line Log line without line separator.
+         * @throws InterruptedException when interrupted while passing the line.
+         */
+        void accept(String line) throws InterruptedException;
+
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Class attributes //
     ////////////////////////////////////////////////////////////////////////////
@@ -50,6 +72,12 @@ public class CommandFetchLogData extends Command {
      */
     final String paramsAppendNext;
 
+    /**
+     * Receiver of streamed log lines. Lines are collected in returned <code>ValueLog</code> when
+     * <code>null</code>.
+     */
+    final LineConsumer lineConsumer;
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors //
     ////////////////////////////////////////////////////////////////////////////
@@ -60,8 +88,7 @@ public class CommandFetchLogData extends Command {
      * All existing log entries will be returned.
      */
     public CommandFetchLogData() {
-        super(COMMAND);
-        this.paramsAppendNext = null;
+        this(null, null);
     }
 
     /**
@@ -74,8 +101,40 @@ public class CommandFetchLogData extends Command {
      * @param paramsAppendNext Interval query parameters from Last View Log command execution.
      */
     public CommandFetchLogData(String paramsAppendNext) {
+        this(paramsAppendNext, null);
+    }
+
+    /**
+     * Constructs an instance of GlassFish server view log command entity streaming log lines.
+     * <p/>
+     * Log lines are passed to <code>lineConsumer</code> while HTTP response is being read and are not
+     * stored in returned <code>ValueLog</code>. Only log entries added in particular interval starting
+     * from previous call that returned this value of <code>paramsAppendNext</code> will be returned
+     * or all existing log entries when <code>paramsAppendNext</code> is <code>null</code>.
+     * <p/>
+     *
+     * @param paramsAppendNext Interval query parameters from Last View Log command execution.
+     * @param lineConsumer Receiver of streamed log lines.
+     */
+    public CommandFetchLogData(String paramsAppendNext, LineConsumer lineConsumer) {
         super(COMMAND);
         this.paramsAppendNext = paramsAppendNext;
+        this.lineConsumer = lineConsumer;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get scheduling priority class of this command.
+     * <p/>
+     *
+     * @return Scheduling priority class of background command.
+     */
+    @Override
+    public CommandPriority getPriority() {
+        return CommandPriority.BACKGROUND;
     }
 
 }
@@ -102,4 +102,19 @@ public class CommandLocation extends Command {
         super(COMMAND);
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get scheduling priority class of this command.
+     * <p/>
+     *
+     * @return Scheduling priority class of status check command.
+     */
+    @Override
+    public CommandPriority getPriority() {
+        return CommandPriority.STATUS;
+    }
+
 }
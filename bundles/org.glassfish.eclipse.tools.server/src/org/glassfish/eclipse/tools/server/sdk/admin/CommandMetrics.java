@@ -0,0 +1,409 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.sdk.admin;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.glassfish.eclipse.tools.server.GlassFishServer;
+
+/**
+ * GlassFish server administration commands metrics.
+ * <p/>
+ * Metrics are collected by {@link Runner} for every GlassFish server and command name. Each command
+ * execution is split into phases with their own timing histogram and execution, failure, retry and
+ * redirect counters are maintained.
+ * <p/>
+ */
+public class CommandMetrics {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Administration command execution phase.
+     */
+    public enum Phase {
+
+        /** Opening connection to server including TLS handshake. */
+        CONNECT,
+
+        /** Sending request headers and content (e.g. deployed archive upload). */
+        SEND,
+
+        /** Waiting for server to process request and send response status. */
+        WAIT,
+
+        /** Reading response content. */
+        RECEIVE,
+
+        /** Processing received response content. */
+        PROCESS,
+
+        /** Whole command execution including retries and redirects. */
+        TOTAL;
+
+        /** Number of phases. */
+        public static final int length = Phase.values().length;
+    }
+
+    /**
+     * Timing histogram with exponential buckets.
+     * <p/>
+     * Bucket <code>0</code> counts values below 1 ms, bucket <code>i</code> counts values from
+     * <code>2^(i-1)</code> ms up to <code>2^i</code> ms. Last bucket counts all longer values.
+     */
+    public static final class Histogram {
+
+        /** Number of buckets. */
+        public static final int BUCKETS = 20;
+
+        /** Nanoseconds in one millisecond. */
+        private static final long NANOS_PER_MILLI = 1000000L;
+
+        /** Bucket counters. */
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        /** Number of recorded values. */
+        private final LongAdder count = new LongAdder();
+
+        /** Sum of recorded values (in nanoseconds). */
+        private final LongAdder total = new LongAdder();
+
+        /** Maximum recorded value (in nanoseconds). */
+        private final AtomicLong max = new AtomicLong();
+
+        /**
+         * Record single value.
+         * <p/>
+         *
+         * @param nanos Recorded value (in nanoseconds).
+         */
+        void record(final long nanos) {
+            long millis = nanos / NANOS_PER_MILLI;
+            int bucket = millis <= 0 ? 0 : Math.min(64 - Long.numberOfLeadingZeros(millis), BUCKETS - 1);
+            buckets.incrementAndGet(bucket);
+            count.increment();
+            total.add(nanos);
+            max.accumulateAndGet(nanos, Math::max);
+        }
+
+        /**
+         * Get number of recorded values.
+         * <p/>
+         *
+         * @return Number of recorded values.
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * Get mean of recorded values.
+         * <p/>
+         *
+         * @return Mean of recorded values (in milliseconds).
+         */
+        public double getMean() {
+            long n = count.sum();
+            return n > 0 ? (double) total.sum() / n / NANOS_PER_MILLI : 0;
+        }
+
+        /**
+         * Get maximum recorded value.
+         * <p/>
+         *
+         * @return Maximum recorded value (in milliseconds).
+         */
+        public double getMax() {
+            return (double) max.get() / NANOS_PER_MILLI;
+        }
+
+        /**
+         * Get upper bound of given percentile of recorded values.
+         * <p/>
+         *
+         * @param percentile Percentile from interval <code>(0, 100]</code>.
+         * @return Upper bound of bucket containing given percentile (in milliseconds).
+         */
+        public long getPercentile(final double percentile) {
+            long n = count.sum();
+            if (n == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(n * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS - 1; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    return 1L << i;
+                }
+            }
+            return (long) Math.ceil(getMax());
+        }
+
+        /**
+         * Get bucket counters snapshot.
+         * <p/>
+         *
+         * @return Bucket counters.
+         */
+        public long[] getBuckets() {
+            long[] snapshot = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                snapshot[i] = buckets.get(i);
+            }
+            return snapshot;
+        }
+
+        /**
+         * Clear all recorded values.
+         */
+        void reset() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.set(i, 0);
+            }
+            count.reset();
+            total.reset();
+            max.set(0);
+        }
+    }
+
+    /**
+     * Metrics of single administration command.
+     */
+    public static final class CommandStats {
+
+        /** Command name. */
+        private final String command;
+
+        /** Timing histograms indexed by phase ordinal. */
+        private final Histogram[] histograms;
+
+        /** Number of command executions. */
+        private final LongAdder executions = new LongAdder();
+
+        /** Number of failed command executions. */
+        private final LongAdder failures = new LongAdder();
+
+        /** Number of HTTP request retries. */
+        private final LongAdder retries = new LongAdder();
+
+        /** Number of followed HTTP redirects. */
+        private final LongAdder redirects = new LongAdder();
+
+        /**
+         * Constructs an instance of single command metrics.
+         * <p/>
+         *
+         * @param command Command name.
+         */
+        private CommandStats(final String command) {
+            this.command = command;
+            this.histograms = new Histogram[Phase.length];
+            for (int i = 0; i < Phase.length; i++) {
+                histograms[i] = new Histogram();
+            }
+        }
+
+        /**
+         * Get command name.
+         * <p/>
+         *
+         * @return Command name.
+         */
+        public String getCommand() {
+            return command;
+        }
+
+        /**
+         * Get timing histogram of given phase.
+         * <p/>
+         *
+         * @param phase Command execution phase.
+         * @return Timing histogram of given phase.
+         */
+        public Histogram getHistogram(final Phase phase) {
+            return histograms[phase.ordinal()];
+        }
+
+        /**
+         * Get number of command executions.
+         * <p/>
+         *
+         * @return Number of command executions.
+         */
+        public long getExecutions() {
+            return executions.sum();
+        }
+
+        /**
+         * Get number of failed command executions.
+         * <p/>
+         *
+         * @return Number of failed command executions.
+         */
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        /**
+         * Get number of HTTP request retries.
+         * <p/>
+         *
+         * @return Number of HTTP request retries.
+         */
+        public long getRetries() {
+            return retries.sum();
+        }
+
+        /**
+         * Get number of followed HTTP redirects.
+         * <p/>
+         *
+         * @return Number of followed HTTP redirects.
+         */
+        public long getRedirects() {
+            return redirects.sum();
+        }
+
+        /**
+         * Record duration of command execution phase.
+         * <p/>
+         *
+         * @param phase Command execution phase.
+         * @param start Phase start time as returned by <code>System.nanoTime()</code>.
+         * @return Phase end time as returned by <code>System.nanoTime()</code>.
+         */
+        long record(final Phase phase, final long start) {
+            long end = System.nanoTime();
+            histograms[phase.ordinal()].record(end - start);
+            return end;
+        }
+
+        /**
+         * Record finished command execution.
+         * <p/>
+         *
+         * @param start Command execution start time as returned by <code>System.nanoTime()</code>.
+         * @param succeeded Value of <code>true</code> when command execution succeeded.
+         */
+        void finish(final long start, final boolean succeeded) {
+            record(Phase.TOTAL, start);
+            executions.increment();
+            if (!succeeded) {
+                failures.increment();
+            }
+        }
+
+        /**
+         * Record HTTP request retry.
+         */
+        void retry() {
+            retries.increment();
+        }
+
+        /**
+         * Record followed HTTP redirect.
+         */
+        void redirect() {
+            redirects.increment();
+        }
+
+        /**
+         * Clear all recorded values.
+         */
+        void reset() {
+            for (Histogram histogram : histograms) {
+                histogram.reset();
+            }
+            executions.reset();
+            failures.reset();
+            retries.reset();
+            redirects.reset();
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Metrics of individual GlassFish servers. */
+    private static final Map<GlassFishServer, CommandMetrics> metrics = new WeakHashMap<>();
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get administration commands metrics of given GlassFish server.
+     * <p/>
+     *
+     * @param server GlassFish server entity object.
+     * @return Administration commands metrics of given GlassFish server.
+     */
+    public static CommandMetrics get(final GlassFishServer server) {
+        synchronized (metrics) {
+            return metrics.computeIfAbsent(server, key -> new CommandMetrics());
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Metrics of individual commands. */
+    private final Map<String, CommandStats> stats = new ConcurrentHashMap<>();
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get metrics of given administration command.
+     * <p/>
+     *
+     * @param command Command name.
+     * @return Metrics of given administration command.
+     */
+    public CommandStats getStats(final String command) {
+        return stats.computeIfAbsent(command, CommandStats::new);
+    }
+
+    /**
+     * Get metrics of all executed administration commands.
+     * <p/>
+     *
+     * @return Metrics of all executed administration commands ordered by command name.
+     */
+    public List<CommandStats> getAllStats() {
+        List<CommandStats> all = new ArrayList<>(stats.values());
+        all.sort(Comparator.comparing(CommandStats::getCommand));
+        return all;
+    }
+
+    /**
+     * Clear metrics of all administration commands.
+     */
+    public void reset() {
+        for (CommandStats commandStats : stats.values()) {
+            commandStats.reset();
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.sdk.admin;
+
+/**
+ * Scheduling priority class of GlassFish server administration command.
+ * <p/>
+ * Values are ordered from the most urgent to the least urgent one. {@link CommandScheduler} always
+ * starts queued command with the most urgent priority class first.
+ * <p/>
+ */
+public enum CommandPriority {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Enum values //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Commands triggered by user interface where user waits for result. */
+    INTERACTIVE,
+
+    /** Server status checks. */
+    STATUS,
+
+    /** Application deployment commands. */
+    DEPLOY,
+
+    /** Background commands like log fetching. */
+    BACKGROUND;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Number of priority classes. */
+    public static final int length = CommandPriority.values().length;
+
+}
@@ -98,4 +98,19 @@ public class CommandRedeploy extends CommandTargetName {
 		this.sourcesChanged = sourcesChanged;
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	// Getters //
+	////////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * Get scheduling priority class of this command.
+	 * <p/>
+	 *
+	 * @return Scheduling priority class of deployment command.
+	 */
+	@Override
+	public CommandPriority getPriority() {
+		return CommandPriority.DEPLOY;
+	}
+
 }
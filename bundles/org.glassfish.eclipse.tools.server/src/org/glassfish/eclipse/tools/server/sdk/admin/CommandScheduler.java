@@ -0,0 +1,372 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.sdk.admin;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.glassfish.eclipse.tools.server.GlassFishServer;
+import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
+
+/**
+ * GlassFish server administration commands scheduler.
+ * <p/>
+ * Scheduler keeps one queue per GlassFish server. Every queue is split into priority classes and
+ * the most urgent queued command is always started first. Number of commands running concurrently
+ * for a single server is limited, deployment commands of a single server are always serialized.
+ * Commands of different servers never wait for each other.
+ * <p/>
+ */
+public class CommandScheduler {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Daemon thread factory for administration command worker threads.
+     */
+    private static final class ThreadFactory implements java.util.concurrent.ThreadFactory {
+
+        /** Administration command worker thread name. */
+        private static final String THREAD_NAME = "GlassFish Admin Commands";
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            Thread t = new Thread(r, THREAD_NAME);
+            t.setDaemon(true);
+            return t;
+        }
+    }
+
+    /**
+     * Queued administration command.
+     */
+    private static final class Entry {
+
+        /** Command priority class. */
+        private final CommandPriority priority;
+
+        /** Command execution task. */
+        private final FutureTask<Result> task;
+
+        /**
+         * Constructs an instance of queued administration command.
+         * <p/>
+         *
+         * @param priority Command priority class.
+         * @param task Command execution task.
+         */
+        private Entry(final CommandPriority priority, final FutureTask<Result> task) {
+            this.priority = priority;
+            this.task = task;
+        }
+    }
+
+    /**
+     * Administration commands queue of single GlassFish server.
+     * <p/>
+     * All access must be synchronized on scheduler <code>queues</code> map.
+     */
+    private static final class ServerQueue {
+
+        /** Queued commands, one queue per priority class. */
+        private final ArrayDeque<Entry>[] queued;
+
+        /** Number of running commands. */
+        private int running;
+
+        /** Number of running deployment commands. */
+        private int runningDeploy;
+
+        /** Maximum number of concurrently running commands. */
+        private int maxConcurrent;
+
+        /**
+         * Constructs an instance of server commands queue.
+         * <p/>
+         *
+         * @param maxConcurrent Maximum number of concurrently running commands.
+         */
+        @SuppressWarnings("unchecked")
+        private ServerQueue(final int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+            queued = new ArrayDeque[CommandPriority.length];
+            for (int i = 0; i < CommandPriority.length; i++) {
+                queued[i] = new ArrayDeque<>();
+            }
+        }
+
+        /**
+         * Remove the most urgent command which is allowed to run now.
+         * <p/>
+         *
+         * @return Command to be started or <code>null</code> when no command may be started.
+         */
+        private Entry next() {
+            if (running >= maxConcurrent) {
+                return null;
+            }
+            for (ArrayDeque<Entry> queue : queued) {
+                Entry entry = queue.peek();
+                if (entry != null && (entry.priority != CommandPriority.DEPLOY || runningDeploy == 0)) {
+                    queue.poll();
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Check whether there is no running nor queued command.
+         * <p/>
+         *
+         * @return Value of <code>true</code> when queue is idle or <code>false</code> otherwise.
+         */
+        private boolean isIdle() {
+            if (running > 0) {
+                return false;
+            }
+            for (ArrayDeque<Entry> queue : queued) {
+                if (!queue.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(CommandScheduler.class);
+
+    /** Default maximum number of concurrently running commands per server. */
+    public static final int DEFAULT_MAX_CONCURRENT = 2;
+
+    /** Idle worker thread keep alive time (in miliseconds). */
+    private static final long KEEP_ALIVE_TIME = 60000;
+
+    /** Scheduler singleton instance. */
+    private static volatile CommandScheduler instance;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get administration commands scheduler singleton instance.
+     * <p/>
+     *
+     * @return Administration commands scheduler instance.
+     */
+    public static CommandScheduler getInstance() {
+        if (instance != null) {
+            return instance;
+        }
+        synchronized (CommandScheduler.class) {
+            if (instance == null) {
+                instance = new CommandScheduler(newWorkers());
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Create worker threads pool.
+     * <p/>
+     * Threads are created on demand and terminated when idle. Number of threads is implicitly
+     * bounded by number of servers and their concurrency limit.
+     * <p/>
+     *
+     * @return Worker threads pool.
+     */
+    private static ExecutorService newWorkers() {
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_TIME, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), new ThreadFactory());
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Worker threads pool. */
+    private final ExecutorService workers;
+
+    /** Commands queues of individual servers. */
+    private final Map<GlassFishServer, ServerQueue> queues;
+
+    /** Configured concurrency limits of individual servers. */
+    private final Map<GlassFishServer, Integer> limits;
+
+    /** Default maximum number of concurrently running commands per server. */
+    private volatile int defaultMaxConcurrent;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of administration commands scheduler.
+     * <p/>
+     *
+     * @param workers Worker threads pool.
+     */
+    private CommandScheduler(final ExecutorService workers) {
+        this.workers = workers;
+        this.queues = new HashMap<>();
+        this.limits = new HashMap<>();
+        this.defaultMaxConcurrent = DEFAULT_MAX_CONCURRENT;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters and Setters //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Set default maximum number of concurrently running commands per server.
+     * <p/>
+     * New value applies to servers with no queued or running commands.
+     * <p/>
+     *
+     * @param maxConcurrent Maximum number of concurrently running commands.
+     */
+    public void setDefaultMaxConcurrent(final int maxConcurrent) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException();
+        }
+        defaultMaxConcurrent = maxConcurrent;
+    }
+
+    /**
+     * Set maximum number of concurrently running commands for given GlassFish server.
+     * <p/>
+     *
+     * @param server GlassFish server entity object.
+     * @param maxConcurrent Maximum number of concurrently running commands or value lower than 1 to
+     * use default value.
+     */
+    public void setMaxConcurrent(final GlassFishServer server, final int maxConcurrent) {
+        synchronized (queues) {
+            if (maxConcurrent < 1) {
+                limits.remove(server);
+            } else {
+                limits.put(server, maxConcurrent);
+            }
+            ServerQueue queue = queues.get(server);
+            if (queue != null) {
+                queue.maxConcurrent = maxConcurrent(server);
+                startNext(queue);
+            }
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Submit administration command into server queue.
+     * <p/>
+     *
+     * @param server GlassFish server entity object.
+     * @param priority Command priority class.
+     * @param call Command execution.
+     * @return <code>Future</code> object to retrieve result of asynchronous execution.
+     */
+    public Future<Result> submit(final GlassFishServer server, final CommandPriority priority,
+            final Callable<Result> call) {
+        final String METHOD = "submit";
+        FutureTask<Result> task = new FutureTask<>(call);
+        synchronized (queues) {
+            ServerQueue queue = queues.get(server);
+            if (queue == null) {
+                queue = new ServerQueue(maxConcurrent(server));
+                queues.put(server, queue);
+            }
+            queue.queued[priority.ordinal()].add(new Entry(priority, task));
+            LOGGER.log(Level.FINEST, METHOD, "queued",
+                    new Object[] { server.getName(), priority, Integer.toString(queue.running) });
+            startNext(queue);
+        }
+        return task;
+    }
+
+    /**
+     * Get maximum number of concurrently running commands for given GlassFish server.
+     * <p/>
+     * Must be called while holding <code>queues</code> lock.
+     * <p/>
+     *
+     * @param server GlassFish server entity object.
+     * @return Maximum number of concurrently running commands.
+     */
+    private int maxConcurrent(final GlassFishServer server) {
+        Integer limit = limits.get(server);
+        return limit != null ? limit : defaultMaxConcurrent;
+    }
+
+    /**
+     * Start as many queued commands of server queue as allowed.
+     * <p/>
+     * Must be called while holding <code>queues</code> lock.
+     * <p/>
+     *
+     * @param queue Server commands queue.
+     */
+    private void startNext(final ServerQueue queue) {
+        Entry entry;
+        while ((entry = queue.next()) != null) {
+            queue.running++;
+            if (entry.priority == CommandPriority.DEPLOY) {
+                queue.runningDeploy++;
+            }
+            final Entry started = entry;
+            workers.execute(() -> run(queue, started));
+        }
+    }
+
+    /**
+     * Run command and start next queued command of the same server when finished.
+     * <p/>
+     *
+     * @param queue Server commands queue.
+     * @param entry Command to be executed.
+     */
+    private void run(final ServerQueue queue, final Entry entry) {
+        try {
+            entry.task.run();
+        } finally {
+            synchronized (queues) {
+                queue.running--;
+                if (entry.priority == CommandPriority.DEPLOY) {
+                    queue.runningDeploy--;
+                }
+                if (queue.isIdle()) {
+                    queues.values().remove(queue);
+                } else {
+                    startNext(queue);
+                }
+            }
+        }
+    }
+
+}
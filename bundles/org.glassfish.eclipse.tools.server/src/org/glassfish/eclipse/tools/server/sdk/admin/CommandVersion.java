@@ -138,4 +138,19 @@ public class CommandVersion extends Command {
         super(COMMAND);
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get scheduling priority class of this command.
+     * <p/>
+     *
+     * @return Scheduling priority class of status check command.
+     */
+    @Override
+    public CommandPriority getPriority() {
+        return CommandPriority.STATUS;
+    }
+
 }
@@ -0,0 +1,95 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.sdk.admin;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.Locale;
+import java.util.jar.Manifest;
+import java.util.logging.Level;
+
+import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
+
+/**
+ * GlassFish server HTTP administration interface response processing.
+ * <p/>
+ * HTTP administration commands return <code>Manifest</code> with command exit code and message in
+ * its main attributes. Processing does not depend on server entity, so it is shared by
+ * {@link RunnerHttp} and its subclasses and can be used without Eclipse platform.
+ * <p/>
+ */
+public class ManifestResponse {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** End of line sequence in Manifest. */
+    public static final String MANIFEST_EOL = "%%%EOL%%%";
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Check <code>Manifest</code> <i>exit-code<i> attribute for result. Missing value or any value
+     * differed to< code>"FAILED"</code> is considered as success.
+     * <p/>
+     * Response processing helper method. Manifest must contain valid data.
+     * <p/>
+     *
+     * @param manifest Manifest from server response.
+     * @return <code>true</code> for success and <code>false</code> for failure.
+     */
+    public static boolean successExitCode(final Manifest manifest) {
+        String exitCode = manifest.getMainAttributes().getValue("exit-code");
+        return exitCode == null
+                || !"FAILURE".equals(exitCode.toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Retrieve <i>message<i> from <code>Manifest</code> object.
+     * <p/>
+     * Response processing helper method. Manifest must contain valid data.
+     * <p/>
+     *
+     * @param manifest Manifest from server response.
+     * @return Value of <i>message<i> attribute or <code>null</code> if no such attribute exists.
+     */
+    public static String getMessage(final Manifest manifest) {
+        String message = null;
+        String tmp = manifest.getMainAttributes().getValue("message");
+        if (null != tmp) {
+            try {
+                message = URLDecoder.decode(decode(tmp), "UTF-8");
+            } catch (UnsupportedEncodingException uee) {
+                Logger.log(Level.WARNING, "Could not URL decode with UTF-8", uee);
+            } catch (IllegalArgumentException iae) {
+                Logger.log(Level.FINE, "Caught IllegalArgumentException", iae);
+                message = tmp;
+            }
+        }
+        return message;
+    }
+
+    /**
+     * Decode <code>Manifest</code> string to remove EOL sequences.
+     * <p/>
+     *
+     * @param str String to be decoded.
+     */
+    public static String decode(final String str) {
+        if (str == null) {
+            return null;
+        }
+        return str.replaceAll(MANIFEST_EOL, "\n");
+    }
+
+}
@@ -26,37 +26,29 @@ import java.io.InputStream;
 import java.net.Authenticator;
 import java.net.ConnectException;
 import java.net.HttpURLConnection;
-import java.net.InetAddress;
 import java.net.MalformedURLException;
 import java.net.ProtocolException;
-import java.net.Proxy;
 import java.net.URL;
 import java.net.URLConnection;
-import java.net.UnknownHostException;
-import java.security.KeyManagementException;
-import java.security.NoSuchAlgorithmException;
-import java.security.cert.CertificateException;
-import java.security.cert.X509Certificate;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 
 import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
+import javax.net.ssl.SSLException;
 
 import org.glassfish.eclipse.tools.server.GlassFishServer;
-import org.glassfish.eclipse.tools.server.sdk.GlassFishToolsConfig;
 import org.glassfish.eclipse.tools.server.sdk.TaskEvent;
 import org.glassfish.eclipse.tools.server.sdk.TaskState;
 import org.glassfish.eclipse.tools.server.sdk.TaskStateListener;
 import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
-import org.glassfish.eclipse.tools.server.sdk.utils.ServerUtils;
 
 /**
  * Abstract GlassFish server administration command execution.
@@ -161,11 +153,6 @@ public abstract class Runner implements Callable<Result> {
     /** <code>String</code> value for <code>false</code>. */
     static final String FALSE_VALUE = "false";
 
-    /**
-     * Executor used to serialize administration commands passed to GlassFish server.
-     */
-    private static volatile ExecutorService executor;
-
     /* Global password authenticator for GlassFish servers. */
     private static volatile Authenticator authenticator;
 
@@ -173,27 +160,6 @@ public abstract class Runner implements Callable<Result> {
     // Static methods //
     ////////////////////////////////////////////////////////////////////////////
 
-    /**
-     * Returns shared <code>Executor</code> instance to serialize administration commands passed to
-     * GlassFish server.
-     * <p/>
-     * <code>Executor</code> instance is handled internally.
-     * <p/>
-     *
-     * @return Shared <code>Executor</code> instance.
-     */
-    static ExecutorService serializedExecutor() {
-        if (executor != null) {
-            return executor;
-        }
-        synchronized (Runner.class) {
-            if (executor == null) {
-                executor = Executors.newFixedThreadPool(1);
-            }
-        }
-        return executor;
-    }
-
     /**
      * Allows to initialize this class to use external <code>Authenticator</code>.
      * <p/>
@@ -321,6 +287,15 @@ public abstract class Runner implements Callable<Result> {
     /** Listeners that want to know about command state. */
     protected TaskStateListener[] stateListeners;
 
+    /** Administration connection pool of GlassFish server. */
+    private AdminConnectionPool connectionPool;
+
+    /** Command execution was cancelled. */
+    private volatile boolean cancelled;
+
+    /** Administration interface circuit breaker of GlassFish server. */
+    private AdminCircuitBreaker circuitBreaker;
+
     ////////////////////////////////////////////////////////////////////////////
     // Abstract methods //
     ////////////////////////////////////////////////////////////////////////////
@@ -483,6 +458,17 @@ public abstract class Runner implements Callable<Result> {
         this.silentFailureAllowed = silentFailureAllowed;
     }
 
+    /**
+     * Check whether command execution was cancelled.
+     * <p/>
+     *
+     * @return Value of <code>true</code> when command execution was cancelled or <code>false</code>
+     * otherwise.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
     /**
      * Set listeners to notify about task state changes.
      * <p/>
@@ -529,6 +515,32 @@ public abstract class Runner implements Callable<Result> {
         }
     }
 
+    /**
+     * Get administration connection pool of GlassFish server this command is executed on.
+     * <p/>
+     *
+     * @return Administration connection pool of GlassFish server.
+     */
+    AdminConnectionPool connectionPool() {
+        if (connectionPool == null) {
+            connectionPool = AdminConnectionPool.get(server);
+        }
+        return connectionPool;
+    }
+
+    /**
+     * Get administration interface circuit breaker of GlassFish server this command is executed on.
+     * <p/>
+     *
+     * @return Administration interface circuit breaker of GlassFish server.
+     */
+    AdminCircuitBreaker circuitBreaker() {
+        if (circuitBreaker == null) {
+            circuitBreaker = AdminCircuitBreaker.get(server);
+        }
+        return circuitBreaker;
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Methods //
     ////////////////////////////////////////////////////////////////////////////
@@ -607,12 +619,15 @@ public abstract class Runner implements Callable<Result> {
     /**
      * Execute an arbitrary server command.
      * <p/>
+     * Command is queued in server's queue of shared {@link CommandScheduler} using command priority
+     * class.
+     * <p/>
      *
      * @return <code>Future</code> object to retrieve receiveResult of asynchronous execution.
      */
     Future<? extends Result> execute() {
         setReadyState();
-        return serializedExecutor().submit(this);
+        return CommandScheduler.getInstance().submit(server, command.getPriority(), this);
     }
 
     /**
@@ -627,6 +642,53 @@ public abstract class Runner implements Callable<Result> {
         return executor.submit(this);
     }
 
+    /**
+     * Execute an arbitrary server command asynchronously.
+     * <p/>
+     * Command is queued the same way as in {@link #execute()}. Returned <code>CompletableFuture</code>
+     * is completed with command execution result. When it is cancelled or completed with
+     * <code>TimeoutException</code> (e.g. using <code>orTimeout</code>), command is removed from the
+     * queue or its running execution is cancelled including open HTTP connection.
+     * <p/>
+     *
+     * @return <code>CompletableFuture</code> object to retrieve result of asynchronous execution.
+     */
+    CompletableFuture<Result> executeAsync() {
+        setReadyState();
+        final CompletableFuture<Result> promise = new CompletableFuture<>();
+        final Future<Result> task = CommandScheduler.getInstance().submit(server, command.getPriority(), () -> {
+            try {
+                Result callResult = call();
+                promise.complete(callResult);
+                return callResult;
+            } catch (RuntimeException | Error ex) {
+                promise.completeExceptionally(ex);
+                throw ex;
+            }
+        });
+        promise.whenComplete((value, thrown) -> {
+            if (thrown instanceof CancellationException || thrown instanceof TimeoutException) {
+                task.cancel(false);
+                cancel();
+            }
+        });
+        return promise;
+    }
+
+    /**
+     * Cancel command execution.
+     * <p/>
+     * Open HTTP connection is disconnected so blocked I/O operation of running command fails
+     * immediately. Command which has not been started yet fails without connecting to server.
+     */
+    public void cancel() {
+        cancelled = true;
+        URLConnection activeConn = conn;
+        if (activeConn instanceof HttpURLConnection) {
+            ((HttpURLConnection) activeConn).disconnect();
+        }
+    }
+
     /**
      * Prepare headers for HTTP connection. This handles all common headers for all implemented command
      * interfaces (REST, HTTP, ...).
@@ -641,11 +703,16 @@ public abstract class Runner implements Callable<Result> {
         conn.setAllowUserInteraction(false);
         conn.setDoInput(true);
         conn.setUseCaches(false);
-        conn.setConnectTimeout(HTTP_CONNECTION_TIMEOUT);
+        int connectTimeout = circuitBreaker().getConnectTimeout();
+        conn.setConnectTimeout(connectTimeout);
+        // Status commands should not block on unresponsive server.
+        if (command.getPriority() == CommandPriority.STATUS) {
+            conn.setReadTimeout(circuitBreaker().getReadTimeout());
+        }
         String adminUser = server.getAdminUser();
         String adminPassword = server.getAdminPassword();
         LOGGER.log(Level.FINEST, METHOD, "setting",
-                new Object[] { new Integer(HTTP_CONNECTION_TIMEOUT), adminUser, adminPassword });
+                new Object[] { Integer.valueOf(connectTimeout), adminUser, adminPassword });
         try {
             conn.setRequestMethod(getRequestMethod());
         } catch (ProtocolException pe) {
@@ -658,63 +725,46 @@ public abstract class Runner implements Callable<Result> {
             conn.setChunkedStreamingMode(0);
         }
         if (adminPassword != null && adminPassword.length() > 0) {
-            String authString = ServerUtils.basicAuthCredentials(adminUser, adminPassword);
             LOGGER.log(Level.FINEST, METHOD, "using");
-            conn.setRequestProperty("Authorization", "Basic " + authString);
+            conn.setRequestProperty("Authorization", connectionPool().authorization(adminUser, adminPassword));
         }
         if (acceptsGzip()) {
             conn.setRequestProperty("Accept-Encoding", "gzip");
         }
     }
 
+    /**
+     * Configure HTTPS connection to use TLS configuration shared by all administration commands of
+     * GlassFish server.
+     * <p/>
+     *
+     * @param conn Target HTTPS connection.
+     */
     protected void handleSecureConnection(final HttpsURLConnection conn) {
         final String METHOD = "handleSecureConnection";
-        // let's just trust any server that we connect to...
-        // we aren't send them money or secrets...
-        TrustManager[] tm = new TrustManager[] { new X509TrustManager() {
-
-            @Override
-            public void checkClientTrusted(X509Certificate[] arg0, String arg1) throws CertificateException {
-            }
-
-            @Override
-            public void checkServerTrusted(X509Certificate[] arg0, String arg1) throws CertificateException {
-            }
-
-            @Override
-            public X509Certificate[] getAcceptedIssuers() {
-                return null;
-            }
-        } };
-
-        SSLContext context;
-        try {
-            context = SSLContext.getInstance("SSL");
-            context.init(null, tm, null);
-            conn.setSSLSocketFactory(context.getSocketFactory());
-            conn.setHostnameVerifier((string, ssls) -> true);
-        } catch (NoSuchAlgorithmException | KeyManagementException ex) {
+        AdminTlsConfig tlsConfig = connectionPool().getTlsConfig(server);
+        if (tlsConfig != null) {
+            tlsConfig.configure(conn);
+        } else {
             // if there is an issue here... there will be another exception
             // later which will take care of the user interaction...
             LOGGER.log(Level.INFO, METHOD, "issue", conn.getURL());
-            LOGGER.log(Level.INFO, METHOD, "exception", ex);
         }
     }
 
+    /**
+     * Read response of HTTP connection.
+     * <p/>
+     * Response stream is not closed here. It is drained and closed when connection is released to
+     * server's connection pool, so unread rest of response does not prevent keeping connection alive.
+     * <p/>
+     *
+     * @param hconn HTTP connection with successful response.
+     * @return Result of {@link #readResponse(InputStream, HttpURLConnection)}.
+     * @throws IOException when response could not be read.
+     */
     protected boolean handleReceive(final HttpURLConnection hconn) throws IOException {
-        final String METHOD = "handleReceive";
-        boolean receiveResult = false;
-        InputStream httpInputStream = hconn.getInputStream();
-        try {
-            receiveResult = readResponse(httpInputStream, hconn);
-        } finally {
-            try {
-                httpInputStream.close();
-            } catch (IOException ioe) {
-                LOGGER.log(Level.WARNING, METHOD, "exception", ioe);
-            }
-        }
-        return receiveResult;
+        return readResponse(hconn.getInputStream(), hconn);
     }
 
     ////////////////////////////////////////////////////////////////////////////
@@ -726,11 +776,20 @@ public abstract class Runner implements Callable<Result> {
     private URL urlToConnectTo;
 
     /** GlassFish server administration interface URL connection. */
-    private URLConnection conn;
+    private volatile URLConnection conn;
 
     /** GlassFish server administration interface HTTP URL connection. */
     private HttpURLConnection hconn;
 
+    /** Metrics of executed command. */
+    private CommandMetrics.CommandStats stats;
+
+    /** Connection to server was established. */
+    private boolean connected;
+
+    /** Server responded to HTTP request. */
+    private boolean responded;
+
     ////////////////////////////////////////////////////////////////////////////
     // ExecutorService call() method helpers //
     // Do not use those methods outside call() method execution context! //
@@ -743,33 +802,35 @@ public abstract class Runner implements Callable<Result> {
         urlToConnectTo = null;
         conn = null;
         hconn = null;
+        connected = false;
+        responded = false;
     }
 
     /**
-     * Creates {@link URLConnection} instance that represents a connection to GlassFish server
-     * administration interface.
-     * <p/>
-     * Depending on GlassFisg Tooling Library configuration proxy usage for loopback addresses may be
-     * suppressed.
+     * Lease {@link URLConnection} to GlassFish server administration interface from server's
+     * connection pool.
      * <p/>
      *
-     * @param urlToConnectTo GlassFish server administration interface URL.
-     * @return lassFish server administration interface URL connection.
+     * @return GlassFish server administration interface URL connection.
      * @throws IOException IOException if an I/O error occurs while opening the connection.
      */
-    private static URLConnection openURLConnection(final URL urlToConnectTo) throws IOException {
-        if (!GlassFishToolsConfig.getProxyForLoopback()) {
-            InetAddress addr;
-            try {
-                addr = InetAddress.getByName(urlToConnectTo.getHost());
-            } catch (UnknownHostException ex) {
-                addr = null;
-            }
-            if (addr != null && addr.isLoopbackAddress()) {
-                return urlToConnectTo.openConnection(Proxy.NO_PROXY);
-            }
+    private URLConnection openConnection() throws IOException {
+        AdminCircuitBreaker breaker = circuitBreaker();
+        return connectionPool().open(urlToConnectTo, breaker.getConnectTimeout() + breaker.getReadTimeout());
+    }
+
+    /**
+     * Return currently leased connection to server's connection pool.
+     * <p/>
+     *
+     * @param reusable Value of <code>true</code> when request and response exchange was finished and
+     * connection may be kept alive.
+     */
+    private void releaseConnection(final boolean reusable) {
+        if (conn != null) {
+            connectionPool().release(conn, reusable);
+            conn = null;
         }
-        return urlToConnectTo.openConnection();
     }
 
     /**
@@ -795,11 +856,20 @@ public abstract class Runner implements Callable<Result> {
             if (extAuth != null) {
                 Authenticator.setDefault(extAuth);
             }
-            // Connect to server.
+            // Connect to server. Only connecting new socket tells connection latency.
+            boolean newSocket = !connectionPool().isReused(conn);
+            long connectStart = System.nanoTime();
             hconn.connect();
+            connected = true;
+            long sendStart = stats.record(CommandMetrics.Phase.CONNECT, connectStart);
             // Send data to server if necessary.
             handleSend(hconn);
+            long waitStart = stats.record(CommandMetrics.Phase.SEND, sendStart);
             int respCode = hconn.getResponseCode();
+            long waitEnd = stats.record(CommandMetrics.Phase.WAIT, waitStart);
+            responded = true;
+            circuitBreaker().success(newSocket ? sendStart - connectStart : -1,
+                    command.getPriority() == CommandPriority.STATUS ? waitEnd - waitStart : -1);
             StateChange change = handleHTTPResponse(respCode);
             if (change != null) {
                 return change;
@@ -831,9 +901,10 @@ public abstract class Runner implements Callable<Result> {
                 LOGGER.log(Level.SEVERE, METHOD, "invalidRedirect", urlToConnectTo.toString());
             } else {
                 LOGGER.log(Level.FINE, METHOD, "locationMoved", newUrl);
+                stats.redirect();
                 urlToConnectTo = new URL(newUrl);
-                conn = openURLConnection(urlToConnectTo);
-                hconn.disconnect();
+                releaseConnection(false);
+                conn = openConnection();
             }
         }
         return null;
@@ -875,18 +946,43 @@ public abstract class Runner implements Callable<Result> {
      * GlassFish server administration command execution call. This is an entry point from
      * <code>executor<code>'s serialization queue.
      * <p/>
+     * Execution time and outcome are recorded in server's {@link CommandMetrics}.
+     * <p/>
      *
      * @return Task execution state.
      */
-    @SuppressWarnings("SleepWhileInLoop")
     @Override
     public Result call() {
+        stats = CommandMetrics.get(server).getStats(command.getCommand());
+        long start = System.nanoTime();
+        Result callResult = callHttp();
+        stats.finish(start, callResult != null && callResult.getState() == TaskState.COMPLETED);
+        return callResult;
+    }
+
+    /**
+     * Execute command using HTTP connection to GlassFish server administration interface.
+     * <p/>
+     *
+     * @return Task execution state.
+     */
+    @SuppressWarnings("SleepWhileInLoop")
+    private Result callHttp() {
         final String METHOD = "call";
         boolean httpSucceeded = false;
         boolean commandSucceeded = false;
         String commandUrl;
         initCallAttributes();
 
+        if (cancelled) {
+            return handleStateChange(TaskState.FAILED, TaskEvent.CMD_FAILED, stateChangeArgs(null));
+        }
+        // Fail fast when server administration interface is known to be unreachable.
+        if (!circuitBreaker().allowRequest()) {
+            LOGGER.log(Level.FINE, METHOD, "circuitOpen", new Object[] { command.getCommand(), server.getName() });
+            return handleStateChange(TaskState.FAILED, TaskEvent.EXCEPTION,
+                    stateChangeArgs(LOGGER.excMsg(METHOD, "unreachable", server.getName())));
+        }
         handleStateChange(TaskState.RUNNING, TaskEvent.CMD_RUNNING, stateChangeArgs(null));
         try {
             commandUrl = constructCommandUrl();
@@ -899,9 +995,10 @@ public abstract class Runner implements Callable<Result> {
         LOGGER.log(Level.FINEST, METHOD, "thread", new Object[] { commandUrl, Thread.currentThread().getName() });
         try {
             urlToConnectTo = new URL(commandUrl);
-            while (!httpSucceeded && retries-- > 0) {
+            while (!httpSucceeded && !cancelled && retries-- > 0) {
+                boolean reusable = false;
                 try {
-                    conn = openURLConnection(urlToConnectTo);
+                    conn = openConnection();
                     if (conn instanceof HttpURLConnection) {
                         StateChange change = handleHTTPConnection();
                         if (change != null) {
@@ -912,9 +1009,13 @@ public abstract class Runner implements Callable<Result> {
                         // can only be found in readResponse() method where
                         // response message contains
                         // "javax.security.auth.login.LoginException".
+                        long phaseStart = System.nanoTime();
                         boolean receiveResult = handleReceive(hconn);
+                        phaseStart = stats.record(CommandMetrics.Phase.RECEIVE, phaseStart);
                         boolean processResult = processResponse();
+                        stats.record(CommandMetrics.Phase.PROCESS, phaseStart);
                         commandSucceeded = receiveResult && processResult;
+                        reusable = true;
                         if (!auth) {
                             return handleStateChange(TaskState.FAILED, TaskEvent.AUTH_FAILED,
                                     stateChangeArgs(null, true));
@@ -930,20 +1031,37 @@ public abstract class Runner implements Callable<Result> {
                             stateChangeArgs(ex.getLocalizedMessage(), true));
                     retries = 0;
                 } catch (ConnectException ce) {
+                    connectionPool().invalidate();
+                    circuitBreaker().failure();
                     return handleStateChange(TaskState.FAILED, TaskEvent.EXCEPTION,
                             stateChangeArgs(ce.getLocalizedMessage()));
                 } catch (IOException ex) {
+                    if (cancelled) {
+                        LOGGER.log(Level.FINE, METHOD, "cancelled", command.getCommand());
+                        return handleStateChange(TaskState.FAILED, TaskEvent.CMD_FAILED,
+                                stateChangeArgs(ex.getLocalizedMessage()));
+                    }
+                    // Secure admin may have been switched, other failures do not change protocol.
+                    if (ex instanceof SSLException) {
+                        connectionPool().invalidate();
+                    }
+                    // Status command read timeout is short, server which accepted
+                    // connection and is slow to respond is not unreachable.
+                    // Connection not leased in time did not reach the server at all.
+                    if (!responded && !(connected && command.getPriority() == CommandPriority.STATUS)
+                            && !(ex instanceof AdminConnectionPool.LeaseTimeoutException)) {
+                        circuitBreaker().failure();
+                    }
                     if (retries <= 0) {
                         return handleStateChange(TaskState.FAILED, TaskEvent.EXCEPTION,
                                 stateChangeArgs(ex.getLocalizedMessage()));
                     }
                 } finally {
-                    if (null != hconn) {
-                        hconn.disconnect();
-                    }
+                    releaseConnection(reusable);
                 }
 
                 if (!httpSucceeded && retries > 0) {
+                    stats.retry();
                     try {
                         Thread.sleep(HTTP_RETRY_DELAY);
                     } catch (InterruptedException ie) {
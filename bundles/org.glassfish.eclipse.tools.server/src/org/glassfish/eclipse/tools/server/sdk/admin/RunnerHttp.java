@@ -22,15 +22,12 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.UnsupportedEncodingException;
 import java.net.ConnectException;
 import java.net.HttpURLConnection;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.URLDecoder;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -40,7 +37,6 @@ import java.util.logging.Level;
 import org.glassfish.eclipse.tools.server.GlassFishServer;
 import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
 import org.glassfish.eclipse.tools.server.sdk.utils.NetUtils;
-import org.glassfish.eclipse.tools.server.sdk.utils.ServerUtils;
 
 /**
  * GlassFish server administration command execution using HTTP interface.
@@ -195,28 +191,21 @@ public class RunnerHttp extends Runner {
     }
 
     /**
-     * Check <code>Manifest</code> <i>exit-code<i> attribute for result. Missing value or any value
-     * differed to< code>"FAILED"</code> is considered as success.
-     * <p/>
-     * Response processing helper method. Manifest must contain valid data.
+     * Probe administration interface port to find out whether it is secure.
      * <p/>
      *
-     * @param manifest Manifest from server response.
-     * @return <code>true</code> for success and <code>false</code> for failure.
+     * @param hostname Administration interface host.
+     * @param port Administration interface port.
+     * @param url Command URL description used in log messages.
+     * @return <code>"https"</code> for secure port, <code>"http"</code> otherwise or
+     * <code>null</code> when port could not be probed.
      */
-    private static boolean successExitCode(Manifest manifest) {
-        String exitCode = manifest.getMainAttributes().getValue("exit-code");
-        return exitCode == null
-                || !"FAILURE".equals(exitCode.toUpperCase(Locale.ENGLISH));
-    }
-
     private static String getHttpListenerProtocol(String hostname, int port,
             String url) {
-        String retVal = "http"; // NOI18N
+        String retVal = null;
         try {
-            if (NetUtils.isSecurePort(hostname, port)) {
-                retVal = "https"; // NOI18N
-            }
+            retVal = NetUtils.isSecurePort(hostname, port)
+                    ? "https" : "http"; // NOI18N
         } catch (ConnectException ex) {
             Logger.log(Level.INFO, hostname + ":" + port + "::" + url, ex);
         } catch (SocketException ex) {
@@ -355,10 +344,10 @@ public class RunnerHttp extends Runner {
         String url = server.getUrl();
         String domainsDir = server.getDomainsFolder();
         if (null == url) {
-            protocol = getHttpListenerProtocol(host, port, ":::"
+            protocol = detectProtocol(host, port, ":::"
                     + command.getCommand() + "?" + query);
         } else if (!(url.contains("ee6wc"))) {
-            protocol = getHttpListenerProtocol(host, port, url + ":::"
+            protocol = detectProtocol(host, port, url + ":::"
                     + command.getCommand() + "?" + query);
         } else if (url.contains("ee6wc") && (null == domainsDir
                 || "".equals(domainsDir))) {
@@ -421,11 +410,11 @@ public class RunnerHttp extends Runner {
             throw new CommandException(CommandException.HTTP_RESP_IO_EXCEPTION,
                     ioe);
         }
-        if (successExitCode(manifest)) {
+        if (ManifestResponse.successExitCode(manifest)) {
             readResult = true;
         } else {
             readResult = false;
-            String message = getMessage(manifest);
+            String message = ManifestResponse.getMessage(manifest);
             if (message != null) {
                 if (message.contains("please wait")) {
                     retry = true;
@@ -449,7 +438,7 @@ public class RunnerHttp extends Runner {
      */
     @Override
     protected boolean processResponse() {
-        result.value = getMessage(manifest);
+        result.value = ManifestResponse.getMessage(manifest);
         result.auth = auth;
         Logger.log(Level.FINEST, "Manifest message: {0}",
                 new Object[] { result.value });
@@ -475,31 +464,29 @@ public class RunnerHttp extends Runner {
     ////////////////////////////////////////////////////////////////////////////
 
     /**
-     * Retrieve <i>message<i> from <code>Manifest</code> object.
+     * Get administration interface protocol for given host and port.
      * <p/>
-     * Response processing helper method. Manifest must contain valid data. <code>Manifest</code>
-     * instance is always created in <code>readResponse</code> method so no <code>null</code> check is
-     * required here.
+     * Protocol cached in server's connection pool is used when available. Otherwise port is probed
+     * and successfully detected protocol is cached for following commands.
      * <p/>
      *
-     * @param manifest Manifest from server response.
-     * @return Value of <i>message<i> attribute or <code>null</code> if no such attribute exists.
+     * @param host Administration interface host.
+     * @param port Administration interface port.
+     * @param url Command URL description used in log messages.
+     * @return Administration interface protocol.
      */
-    private String getMessage(Manifest manifest) {
-        String message = null;
-        String tmp = manifest.getMainAttributes().getValue("message");
-        if (null != tmp) {
-            try {
-                message = URLDecoder.decode(
-                        ServerUtils.manifestDecode(tmp), "UTF-8");
-            } catch (UnsupportedEncodingException uee) {
-                Logger.log(Level.WARNING, "Could not URL decode with UTF-8", uee);
-            } catch (IllegalArgumentException iae) {
-                Logger.log(Level.FINE, "Caught IllegalArgumentException", iae);
-                message = tmp;
+    private String detectProtocol(final String host, final int port,
+            final String url) {
+        AdminConnectionPool pool = connectionPool();
+        String protocol = pool.getProtocol(host, port);
+        if (protocol == null) {
+            protocol = getHttpListenerProtocol(host, port, url);
+            if (protocol == null) {
+                return "http"; // NOI18N
             }
+            pool.setProtocol(host, port, protocol);
         }
-        return message;
+        return protocol;
     }
 
     /**
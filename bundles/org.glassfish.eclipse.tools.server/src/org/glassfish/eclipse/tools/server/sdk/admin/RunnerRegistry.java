@@ -0,0 +1,230 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.sdk.admin;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.glassfish.eclipse.tools.server.sdk.admin.CommandException.RUNNER_INIT;
+import static org.glassfish.eclipse.tools.server.sdk.admin.CommandException.UNKNOWN_ADMIN_INTERFACE;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.logging.Level;
+
+import org.glassfish.eclipse.tools.server.GlassFishServer;
+import org.glassfish.eclipse.tools.server.sdk.data.GlassFishAdminInterface;
+import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
+
+/**
+ * Registry of GlassFish server administration command runner factories.
+ * <p/>
+ * Runner class and command name override of every <code>Command</code> child class are resolved
+ * from {@link RunnerHttpClass} and {@link RunnerRestClass} annotations only once per command class
+ * and administration interface. Resolved factory invokes runner constructor through cached method
+ * handle, so no annotation lookup nor reflection is done when command is executed.
+ * <p/>
+ * Registry is shared by all <code>AdminFactory</code> implementations.
+ * <p/>
+ */
+public final class RunnerRegistry {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Factory creating runner of single <code>Command</code> child class.
+     */
+    @FunctionalInterface
+    public interface RunnerFactory {
+
+        /**
+         * Build runner for command execution and connect it with provided <code>Command</code>
+         * instance.
+         * <p/>
+         *
+         * @param server GlassFish server entity object.
+         * @param command GlassFish server administration command entity.
+         * @return GlassFish server administration command execution object.
+         */
+        Runner newRunner(GlassFishServer server, Command command);
+    }
+
+    /**
+     * Runner constructor invoked through method handle.
+     */
+    private static final class HandleFactory implements RunnerFactory {
+
+        /** Runner constructor with <code>(GlassFishServer, Command)Runner</code> type. */
+        private final MethodHandle constructor;
+
+        /**
+         * Constructs an instance of method handle based runner factory.
+         * <p/>
+         *
+         * @param constructor Runner constructor method handle.
+         */
+        private HandleFactory(final MethodHandle constructor) {
+            this.constructor = constructor;
+        }
+
+        @Override
+        public Runner newRunner(final GlassFishServer server, final Command command) {
+            final String METHOD = "newRunner";
+            try {
+                return (Runner) constructor.invokeExact(server, command);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable t) {
+                LOGGER.log(Level.WARNING, METHOD, "exception", t.getMessage());
+                throw new CommandException(RUNNER_INIT, t);
+            }
+        }
+    }
+
+    /**
+     * Runner factory setting command name override after runner is created.
+     */
+    private static final class CommandNameFactory implements RunnerFactory {
+
+        /** Runner factory. */
+        private final RunnerFactory factory;
+
+        /** Command name override. */
+        private final String command;
+
+        /**
+         * Constructs an instance of runner factory with command name override.
+         * <p/>
+         *
+         * @param factory Runner factory.
+         * @param command Command name override.
+         */
+        private CommandNameFactory(final RunnerFactory factory, final String command) {
+            this.factory = factory;
+            this.command = command;
+        }
+
+        @Override
+        public Runner newRunner(final GlassFishServer server, final Command cmd) {
+            Runner runner = factory.newRunner(server, cmd);
+            cmd.command = command;
+            return runner;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(RunnerRegistry.class);
+
+    /** Lookup used to resolve runner constructors. */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /** Default HTTP command interface runner factory. */
+    private static final RunnerFactory HTTP_DEFAULT = RunnerHttp::new;
+
+    /** Default REST command interface runner factory. */
+    private static final RunnerFactory REST_DEFAULT = RunnerRest::new;
+
+    /** HTTP command interface runner factories of individual command classes. */
+    private static final ClassValue<RunnerFactory> HTTP_FACTORIES = new ClassValue<>() {
+        @Override
+        protected RunnerFactory computeValue(final Class<?> commandClass) {
+            RunnerHttpClass annotation = commandClass.getAnnotation(RunnerHttpClass.class);
+            return annotation != null
+                    ? resolve(commandClass, annotation.runner(), annotation.command())
+                    : HTTP_DEFAULT;
+        }
+    };
+
+    /** REST command interface runner factories of individual command classes. */
+    private static final ClassValue<RunnerFactory> REST_FACTORIES = new ClassValue<>() {
+        @Override
+        protected RunnerFactory computeValue(final Class<?> commandClass) {
+            RunnerRestClass annotation = commandClass.getAnnotation(RunnerRestClass.class);
+            return annotation != null
+                    ? resolve(commandClass, annotation.runner(), annotation.command())
+                    : REST_DEFAULT;
+        }
+    };
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get runner factory of given command class and administration interface.
+     * <p/>
+     * Factory is resolved on first request and cached for the lifetime of command class.
+     * <p/>
+     *
+     * @param adminInterface GlassFish server administration interface type.
+     * @param commandClass <code>Command</code> child class.
+     * @return Runner factory of given command class.
+     * @throws CommandException when runner constructor could not be resolved or administration
+     * interface is unknown.
+     */
+    public static RunnerFactory getFactory(final GlassFishAdminInterface adminInterface,
+            final Class<? extends Command> commandClass) {
+        switch (adminInterface) {
+        case REST:
+            return REST_FACTORIES.get(commandClass);
+        case HTTP:
+            return HTTP_FACTORIES.get(commandClass);
+        default:
+            throw new CommandException(UNKNOWN_ADMIN_INTERFACE);
+        }
+    }
+
+    /**
+     * Build runner for command execution using given administration interface and connect it with
+     * provided <code>Command</code> instance.
+     * <p/>
+     *
+     * @param adminInterface GlassFish server administration interface type.
+     * @param server GlassFish server entity object.
+     * @param command GlassFish server administration command entity.
+     * @return GlassFish server administration command execution object.
+     */
+    public static Runner newRunner(final GlassFishAdminInterface adminInterface,
+            final GlassFishServer server, final Command command) {
+        return getFactory(adminInterface, command.getClass()).newRunner(server, command);
+    }
+
+    /**
+     * Resolve runner factory from runner class and command name override.
+     * <p/>
+     *
+     * @param commandClass <code>Command</code> child class.
+     * @param runnerClass Runner class to be instantiated.
+     * @param command Command name override, empty value means no override.
+     * @return Runner factory.
+     * @throws CommandException when runner constructor could not be resolved.
+     */
+    private static RunnerFactory resolve(final Class<?> commandClass,
+            final Class<? extends Runner> runnerClass, final String command) {
+        final String METHOD = "resolve";
+        MethodHandle constructor;
+        try {
+            constructor = LOOKUP.findConstructor(runnerClass,
+                    methodType(void.class, GlassFishServer.class, Command.class))
+                    .asType(methodType(Runner.class, GlassFishServer.class, Command.class));
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            throw new CommandException(RUNNER_INIT, ex);
+        }
+        LOGGER.log(Level.FINEST, METHOD, "resolved",
+                new Object[] { commandClass.getName(), runnerClass.getName() });
+        RunnerFactory factory = new HandleFactory(constructor);
+        return command != null && !command.isEmpty() ? new CommandNameFactory(factory, command) : factory;
+    }
+
+}
@@ -31,7 +31,6 @@ import org.glassfish.eclipse.tools.server.sdk.admin.response.ResponseContentType
 import org.glassfish.eclipse.tools.server.sdk.admin.response.ResponseParserFactory;
 import org.glassfish.eclipse.tools.server.sdk.admin.response.RestActionReport;
 import org.glassfish.eclipse.tools.server.sdk.admin.response.RestResponseParser;
-import org.glassfish.eclipse.tools.server.sdk.utils.ServerUtils;
 
 /**
  * GlassFish server administration command execution using REST interface.
@@ -291,10 +290,8 @@ public class RunnerRest extends Runner {
         if (adminUser != null && adminUser.length() > 0) {
             adminPassword = (adminPassword != null
                     && adminPassword.length() > 0) ? adminPassword : "";
-            String authCredentials = ServerUtils.basicAuthCredentials(
-                    adminUser, adminPassword);
-            conn.setRequestProperty(
-                    "Authorization", "Basic " + authCredentials);
+            conn.setRequestProperty("Authorization",
+                    connectionPool().authorization(adminUser, adminPassword));
         }
         conn.setRequestProperty("Accept", getResponseType().toString());
         conn.addRequestProperty("X-Requested-By",
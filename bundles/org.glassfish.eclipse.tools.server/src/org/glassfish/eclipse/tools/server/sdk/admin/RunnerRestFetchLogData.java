@@ -21,11 +21,12 @@ package org.glassfish.eclipse.tools.server.sdk.admin;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.zip.GZIPInputStream;
@@ -44,6 +45,13 @@ import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
  */
 public class RunnerRestFetchLogData extends RunnerRest {
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Size of response read buffers. */
+    private static final int READ_BUFFER_SIZE = 8192;
+
     ////////////////////////////////////////////////////////////////////////////
     // Static methods //
     ////////////////////////////////////////////////////////////////////////////
@@ -77,6 +85,9 @@ public class RunnerRestFetchLogData extends RunnerRest {
      */
     private List<String> lines;
 
+    /** Number of log lines read from server, including lines passed to line consumer. */
+    private int lineCount;
+
     /**
      * Content of HTTP header <code>X-Text-Append-Next</code>.
      * <p/>
@@ -140,18 +151,21 @@ public class RunnerRestFetchLogData extends RunnerRest {
     /**
      * Inform whether this runner implementation accepts gzip format.
      * <p/>
+     * Log text compresses well, compressed response is decoded in <code>readResponse</code>.
+     * <p/>
      *
      * @return <code>true</code> when gzip format is accepted, <code>false</code> otherwise.
      */
     @Override
     public boolean acceptsGzip() {
-        return false;
+        return true;
     }
 
     /**
      * Reads response from server and stores it into internal objects.
      * <p/>
-     * Retrieved lines of server log are stored in internal <code>lines</code> <code>List</code>.
+     * Retrieved lines of server log are passed to line consumer of the command as they are read or
+     * stored in internal <code>lines</code> <code>List</code> when the command has no consumer.
      * Content of HTTP header <code>X-Text-Append-Next</code> is stored in internal
      * <code>headerAppendNext</code> variable.
      * <p/>
@@ -167,23 +181,32 @@ public class RunnerRestFetchLogData extends RunnerRest {
      */
     @Override
     public boolean readResponse(InputStream in, HttpURLConnection hconn) {
-        lines = new LinkedList<>();
+        CommandFetchLogData.LineConsumer consumer = ((CommandFetchLogData) command).lineConsumer;
+        lines = new ArrayList<>();
+        lineCount = 0;
         String ce = hconn.getContentEncoding();
         BufferedReader br = null;
         String line = null;
         try {
             InputStream cooked = null != ce && ce.contains("gzip")
-                    ? new GZIPInputStream(in)
+                    ? new GZIPInputStream(in, READ_BUFFER_SIZE)
                     : in;
-            br = new BufferedReader(new java.io.InputStreamReader(cooked));
+            br = new BufferedReader(new InputStreamReader(cooked, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
             while ((line = br.readLine()) != null) {
-                if (line != null) {
+                if (consumer != null) {
+                    consumer.accept(line);
+                } else {
                     lines.add(line);
                 }
+                lineCount++;
             }
         } catch (IOException ioe) {
             throw new CommandException(CommandException.HTTP_RESP_IO_EXCEPTION,
                     ioe);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(CommandException.HTTP_RESP_INTERRUPTED,
+                    ie);
         } finally {
             try {
                 if (br != null) {
@@ -206,23 +229,15 @@ public class RunnerRestFetchLogData extends RunnerRest {
     }
 
     /**
-     * Extracts result value from internal <code>Manifest</code> object. Value of <i>message</i>
-     * attribute in <code>Manifest</code> object is stored as <i>value</i> into
-     * <code>ResultString</code> result object.
+     * Extracts result value from internal <code>lines</code> list and <code>X-Text-Append-Next</code>
+     * header and stores it as <i>value</i> into <code>ResultLog</code> result object.
      * <p/>
      *
-     * @return true if result was extracted correctly. <code>null</code> <i>message</i>value is
-     * considered as failure.
+     * @return Always returns <code>true</code>.
      */
     @Override
     protected boolean processResponse() {
-        // Make ArrayList copy of stored lines. ArrayList allows better access
-        // to log values.
-        List logLines = new ArrayList(lines.size());
-        for (String line : lines) {
-            logLines.add(line);
-        }
-        result.value = new ValueLog(logLines, headerAppendNext.getQuery());
+        result.value = new ValueLog(lines, lineCount, headerAppendNext.getQuery());
         return true;
     }
 
@@ -22,12 +22,15 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.glassfish.eclipse.tools.server.sdk.TaskState.COMPLETED;
 
 import java.net.Authenticator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.glassfish.eclipse.tools.server.GlassFishServer;
 import org.glassfish.eclipse.tools.server.sdk.TaskStateListener;
@@ -74,7 +77,8 @@ public class ServerAdmin {
     /**
      * Execute remote administration command on GlassFish server.
      * <p>
-     * Execution of administration command is serialized using internal executor.
+     * Administration command is queued in server's queue of internal command scheduler using
+     * command priority class.
      * <p>
      *
      * @param glassfishServer Target GlassFish server.
@@ -86,6 +90,66 @@ public class ServerAdmin {
                 .execute();
     }
 
+    /**
+     * Execute remote administration command on GlassFish server asynchronously.
+     * <p>
+     * Administration command is queued in server's queue of internal command scheduler using
+     * command priority class. Returned <code>CompletableFuture</code> may be composed with other
+     * stages without blocking calling thread. Cancelling it or completing it with
+     * <code>TimeoutException</code> (e.g. using <code>orTimeout</code>) cancels command execution
+     * including open HTTP connection to the server.
+     * <p>
+     *
+     * @param glassfishServer Target GlassFish server.
+     * @param command Server administration command to me executed.
+     * @return <code>CompletableFuture</code> completed with command execution result.
+     */
+    public static <E extends Result<?>> CompletableFuture<E> execAsync(GlassFishServer glassfishServer, Command command) {
+        return (CompletableFuture<E>) (CompletableFuture<?>) AdminFactory.getInstance(glassfishServer.getAdminInterface())
+                .getRunner(glassfishServer, command)
+                .executeAsync();
+    }
+
+    /**
+     * Execute remote administration command on GlassFish server asynchronously.
+     * <p>
+     * Same as {@link #execAsync(GlassFishServer, Command)} with listeners that are called when
+     * command execution status changes.
+     * <p>
+     *
+     * @param glassfishServer Target GlassFish server.
+     * @param cmd Server administration command to me executed.
+     * @param listeners Listeners that are called when command execution status changes.
+     * @return <code>CompletableFuture</code> completed with command execution result.
+     */
+    public static <E extends Result<?>> CompletableFuture<E> execAsync(GlassFishServer glassfishServer, Command cmd, TaskStateListener... listeners) {
+        Runner runner = AdminFactory.getInstance(glassfishServer.getAdminInterface()).getRunner(glassfishServer, cmd);
+        runner.stateListeners = listeners;
+        return (CompletableFuture<E>) (CompletableFuture<?>) runner.executeAsync();
+    }
+
+    /**
+     * Transform result of asynchronously executed command.
+     * <p>
+     * Unlike <code>CompletableFuture.thenApply</code>, cancelling returned
+     * <code>CompletableFuture</code> cancels the source future too, so command execution is
+     * cancelled when the transformed result is no longer needed.
+     * <p>
+     *
+     * @param future <code>CompletableFuture</code> returned by command execution.
+     * @param function Function transforming command execution result.
+     * @return <code>CompletableFuture</code> completed with transformed result.
+     */
+    public static <T, U> CompletableFuture<U> thenApply(CompletableFuture<T> future, Function<? super T, ? extends U> function) {
+        CompletableFuture<U> transformed = future.thenApply(function);
+        transformed.whenComplete((value, thrown) -> {
+            if (thrown instanceof CancellationException) {
+                future.cancel(false);
+            }
+        });
+        return transformed;
+    }
+
     public static CommandBuilder executeOn(GlassFishServer server) {
         return new CommandBuilder(server);
     }
@@ -141,12 +205,37 @@ public class ServerAdmin {
             return (T) result;
         }
 
+        /**
+         * Execute command asynchronously.
+         * <p>
+         * Returned <code>CompletableFuture</code> is completed exceptionally with
+         * <code>TimeoutException</code> when command does not finish within configured timeout and
+         * command execution is cancelled. Cancelling returned <code>CompletableFuture</code> cancels
+         * command execution too.
+         * <p>
+         *
+         * @return <code>CompletableFuture</code> completed with command execution result.
+         */
+        @SuppressWarnings("unchecked")
+        public <T extends Result<?>> CompletableFuture<T> async() {
+            CompletableFuture<Result<?>> future = ServerAdmin.execAsync(server, cmd);
+            if (onNotCompleted != null) {
+                future.thenAccept(result -> {
+                    if (result instanceof ResultString && !COMPLETED.equals(((ResultString) result).getState())) {
+                        onNotCompleted.accept((ResultString) result);
+                    }
+                });
+            }
+            return (CompletableFuture<T>) (CompletableFuture<?>) future.orTimeout(timeout, timeUnit);
+        }
+
     }
 
     /**
      * Execute remote administration command on GlassFish server.
      * <p>
-     * Execution of administration command is serialized using internal executor.
+     * Administration command is queued in server's queue of internal command scheduler using
+     * command priority class.
      * <p>
      *
      * @param glassfishServer Target GlassFish server.
@@ -37,6 +37,9 @@ public class ValueLog {
     /** GlassFish server log lines. */
     final List<String> lines;
 
+    /** Number of log lines read from server, including lines streamed to consumer. */
+    final int lineCount;
+
     /**
      * URL parameters from HTTP header <code>X-Text-Append-Next</code>.
      * <p/>
@@ -62,7 +65,23 @@ public class ValueLog {
      * @param paramsAppendNext URL parameters from HTTP header <code>X-Text-Append-Next</code>
      */
     ValueLog(List<String> lines, String paramsAppendNext) {
+        this(lines, lines.size(), paramsAppendNext);
+    }
+
+    /**
+     * Creates an instance of GlassFish server log entity.
+     * <p/>
+     * Entity is initialized with values stored in <code>Runner</code> internal attributes in
+     * <code>processResponse</code> method.
+     * <p/>
+     *
+     * @param lines GlassFish server log lines, empty when lines were streamed to consumer.
+     * @param lineCount Number of log lines read from server.
+     * @param paramsAppendNext URL parameters from HTTP header <code>X-Text-Append-Next</code>
+     */
+    ValueLog(List<String> lines, int lineCount, String paramsAppendNext) {
         this.lines = lines;
+        this.lineCount = lineCount;
         this.paramsAppendNext = paramsAppendNext;
     }
 
@@ -80,6 +99,16 @@ public class ValueLog {
         return lines;
     }
 
+    /**
+     * Get number of log lines read from server, including lines streamed to consumer.
+     * <p/>
+     *
+     * @return Number of log lines read from server.
+     */
+    public int getLineCount() {
+        return lineCount;
+    }
+
     /**
      * Get URL parameters from HTTP header <code>X-Text-Append-Next</code>.
      * <p/>
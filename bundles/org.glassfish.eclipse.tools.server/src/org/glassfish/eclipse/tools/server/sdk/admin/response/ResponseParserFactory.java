@@ -29,16 +29,14 @@ import org.glassfish.eclipse.tools.server.sdk.GlassFishIdeException;
  */
 public class ResponseParserFactory {
 
-    private static RestXMLResponseParser xmlParser;
+    /** Parsers are stateless so single instance is shared without synchronization. */
+    private static final RestXMLResponseParser xmlParser = new RestXMLResponseParser();
 
     // private static RestJSONResponseParser jsonParser;
 
-    public static synchronized RestResponseParser getRestParser(ResponseContentType contentType) {
+    public static RestResponseParser getRestParser(ResponseContentType contentType) {
         switch (contentType) {
         case APPLICATION_XML:
-            if (xmlParser == null) {
-                xmlParser = new RestXMLResponseParser();
-            }
             return xmlParser;
         case APPLICATION_JSON:
             // RestJSONResponseParser is not used in Eclipse GlassFish Tools and has dependency on
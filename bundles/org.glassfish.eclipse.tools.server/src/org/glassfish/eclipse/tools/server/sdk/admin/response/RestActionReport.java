@@ -20,6 +20,7 @@ package org.glassfish.eclipse.tools.server.sdk.admin.response;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Properties;
 
 /**
  * Object representation of the response returned by REST administration service.
@@ -77,4 +78,24 @@ public class RestActionReport implements ActionReport {
         return topMessagePart;
     }
 
+    /**
+     * Get properties of top message part.
+     * <p>
+     *
+     * @return Properties of top message part or <code>null</code> when response contains none.
+     */
+    public Properties getProperties() {
+        return topMessagePart.getProperties();
+    }
+
+    /**
+     * Get child message parts of top message part.
+     * <p>
+     *
+     * @return Child message parts or <code>null</code> when response contains none.
+     */
+    public List<MessagePart> getChildren() {
+        return topMessagePart.getChildren();
+    }
+
 }
@@ -18,27 +18,27 @@
 
 package org.glassfish.eclipse.tools.server.sdk.admin.response;
 
+import static javax.xml.stream.XMLStreamConstants.END_DOCUMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Properties;
 
-import javax.xml.stream.EventFilter;
-import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.Attribute;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
+import javax.xml.stream.XMLStreamReader;
 
 import org.glassfish.eclipse.tools.server.sdk.GlassFishIdeException;
 
 /**
  * Response parser implementation that can parse XML responses returned by REST admin interface.
  * <p>
+ * Response is read in single pass using StAX cursor API. Entry attributes are read directly from
+ * the reader, so no intermediate event objects nor maps are created. Unknown entries are skipped.
+ * <p>
  *
  * @author Tomas Kraus, Peter Benedikovic
  */
@@ -46,14 +46,36 @@ public class RestXMLResponseParser extends RestResponseParser {
 
     private static final String ENTRY = "entry";
     private static final String MAP = "map";
+    private static final String LIST = "list";
+    private static final String KEY = "key";
+    private static final String VALUE = "value";
 
-    private static final XMLInputFactory factory = XMLInputFactory.newInstance();
-    private static final RestXMLResponseFilter filter = new RestXMLResponseFilter();
+    /**
+     * StAX factories cached per thread. Administration commands are executed by pooled worker
+     * threads, so each of them creates its factory only once.
+     */
+    private static final ThreadLocal<XMLInputFactory> factory = ThreadLocal.withInitial(RestXMLResponseParser::newFactory);
 
     public RestXMLResponseParser() {
 
     }
 
+    /**
+     * Create StAX factory for REST responses.
+     * <p>
+     * REST responses never contain DTD so DTD and external entities support is disabled.
+     * <p>
+     *
+     * @return New StAX factory.
+     */
+    private static XMLInputFactory newFactory() {
+        XMLInputFactory newFactory = XMLInputFactory.newInstance();
+        newFactory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        newFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        newFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.FALSE);
+        return newFactory;
+    }
+
     /**
      * Parse implementation for XML REST response.
      * <p>
@@ -67,150 +89,216 @@ public class RestXMLResponseParser extends RestResponseParser {
      */
     @Override
     public RestActionReport parse(InputStream in) {
-        // System.out.println("FACTORY: " + factory);
+        XMLStreamReader reader = null;
         try {
-            XMLEventReader reader = factory.createFilteredReader(factory.createXMLEventReader(in), filter);
-            if (reader.hasNext() && MAP.equals(reader.nextEvent().asStartElement().getName().getLocalPart())) {
+            reader = factory.get().createXMLStreamReader(in);
+            if (nextElement(reader) == START_ELEMENT && MAP.equals(reader.getLocalName())) {
                 return parseReport(reader);
             } else {
                 return null;
             }
-        } catch (XMLStreamException ex) {
+        } catch (XMLStreamException | IllegalArgumentException ex) {
             throw new GlassFishIdeException("Unable to parse XML Rest response.", ex);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ex) {
+                    // Underlying stream is closed by caller.
+                }
+            }
         }
     }
 
-    private RestActionReport parseReport(XMLEventReader reader) throws XMLStreamException {
-        int level = 0;
+    /**
+     * Parse action report.
+     * <p>
+     * Reader must be positioned on report <code>map</code> start element. Reader is positioned on
+     * its end element on return.
+     * <p>
+     */
+    private RestActionReport parseReport(XMLStreamReader reader) throws XMLStreamException {
         RestActionReport report = new RestActionReport();
-        while (reader.hasNext() && (level > -1)) {
-            XMLEvent event = reader.nextEvent();
-            if (event.isStartElement()) {
-
-                if (level++ == 0) {
-                    StartElement element = event.asStartElement();
-                    String elementName = element.getName().getLocalPart();
-                    if (ENTRY.equals(elementName)) {
-                        Map<String, String> m = getMapEntry(element);
-                        String key = m.get("key");
-                        String value = m.get("value");
-                        switch (key) {
-                        case "message":
-                            report.setMessage(value);
-                            break;
-                        case "exit_code":
-                            report.setExitCode(ActionReport.ExitCode.valueOf(value));
-                            break;
-                        case "command":
-                            report.setActionDescription(value);
-                            break;
-                        case "children":
-                            report.topMessagePart.children = parseChildrenMessages(reader);
-                            level--;
-                            break;
-                        case "subReports":
-                            report.subActions = parseSubReports(reader);
-                            break;
-                        }
-                    }
-                }
-
+        while (nextElement(reader) == START_ELEMENT) {
+            String key = ENTRY.equals(reader.getLocalName()) ? reader.getAttributeValue(null, KEY) : null;
+            if (key == null) {
+                skipElement(reader);
+                continue;
             }
-
-            if (event.isEndElement()) {
-                level--;
+            switch (key) {
+            case "message":
+                report.setMessage(reader.getAttributeValue(null, VALUE));
+                skipElement(reader);
+                break;
+            case "exit_code":
+                report.setExitCode(ActionReport.ExitCode.valueOf(reader.getAttributeValue(null, VALUE)));
+                skipElement(reader);
+                break;
+            case "command":
+                report.setActionDescription(reader.getAttributeValue(null, VALUE));
+                skipElement(reader);
+                break;
+            case "properties":
+                report.topMessagePart.props = parseProperties(reader);
+                break;
+            case "children":
+                report.topMessagePart.children = parseChildrenMessages(reader);
+                break;
+            case "subReports":
+                report.subActions = parseSubReports(reader);
+                break;
+            default:
+                skipElement(reader);
             }
         }
         return report;
     }
 
-    private HashMap<String, String> getMapEntry(StartElement entry) {
-        HashMap<String, String> entryMap = new HashMap<>();
-        Iterator iter = entry.getAttributes();
-        while (iter.hasNext()) {
-            Attribute att = (Attribute) iter.next();
-            entryMap.put(att.getName().getLocalPart(), att.getValue());
+    /**
+     * Parse child message part.
+     * <p>
+     * Reader must be positioned on message <code>map</code> start element. Reader is positioned on
+     * its end element on return.
+     * <p>
+     */
+    private MessagePart parseChildMessage(XMLStreamReader reader) throws XMLStreamException {
+        MessagePart msg = new MessagePart();
+        while (nextElement(reader) == START_ELEMENT) {
+            String key = ENTRY.equals(reader.getLocalName()) ? reader.getAttributeValue(null, KEY) : null;
+            if (key == null) {
+                skipElement(reader);
+                continue;
+            }
+            switch (key) {
+            case "message":
+                msg.setMessage(reader.getAttributeValue(null, VALUE));
+                skipElement(reader);
+                break;
+            case "properties":
+                msg.props = parseProperties(reader);
+                break;
+            case "children":
+                msg.children = parseChildrenMessages(reader);
+                break;
+            default:
+                skipElement(reader);
+            }
         }
-        return entryMap;
+        return msg;
     }
 
-    private List<MessagePart> parseChildrenMessages(XMLEventReader reader) throws XMLStreamException {
-        ArrayList<MessagePart> messages = new ArrayList<>();
-        int level = 0;
-        while (reader.hasNext() && (level > -1)) {
-            XMLEvent event = reader.nextEvent();
-            if (event.isStartElement()) {
-                if (level++ == 1) {
-                    StartElement element = event.asStartElement();
-                    String elementName = element.getName().getLocalPart();
-                    if (MAP.equals(elementName)) {
+    /**
+     * Parse list of child message parts.
+     * <p>
+     * Reader must be positioned on <code>children</code> entry start element. Reader is positioned on
+     * its end element on return.
+     * <p>
+     */
+    private List<MessagePart> parseChildrenMessages(XMLStreamReader reader) throws XMLStreamException {
+        List<MessagePart> messages = new ArrayList<>();
+        while (nextElement(reader) == START_ELEMENT) {
+            if (LIST.equals(reader.getLocalName())) {
+                while (nextElement(reader) == START_ELEMENT) {
+                    if (MAP.equals(reader.getLocalName())) {
                         messages.add(parseChildMessage(reader));
-                        level--;
+                    } else {
+                        skipElement(reader);
                     }
                 }
             } else {
-                level--;
+                skipElement(reader);
             }
-
         }
         return messages;
     }
 
-    private MessagePart parseChildMessage(XMLEventReader reader) throws XMLStreamException {
-        MessagePart msg = new MessagePart();
-        int level = 0;
-        while (reader.hasNext() && (level > -1)) {
-            XMLEvent event = reader.nextEvent();
-            if (event.isStartElement()) {
-                if (level++ == 0) {
-                    StartElement element = event.asStartElement();
-                    String elementName = element.getName().getLocalPart();
-                    if (ENTRY.equals(elementName)) {
-                        Map<String, String> m = getMapEntry(element);
-                        String key = m.get("key");
-                        String value = m.get("value");
-                        switch (key) {
-                        case "message":
-                            msg.setMessage(value);
-                            break;
-                        case "properties":
-                            msg.props = parseProperties(reader);
-                            break;
-                        case "children":
-                            msg.children = parseChildrenMessages(reader);
-                            break;
+    /**
+     * Parse properties.
+     * <p>
+     * Reader must be positioned on <code>properties</code> entry start element. Reader is positioned
+     * on its end element on return. Properties with nested values are skipped.
+     * <p>
+     */
+    private Properties parseProperties(XMLStreamReader reader) throws XMLStreamException {
+        Properties props = new Properties();
+        while (nextElement(reader) == START_ELEMENT) {
+            if (MAP.equals(reader.getLocalName())) {
+                while (nextElement(reader) == START_ELEMENT) {
+                    if (ENTRY.equals(reader.getLocalName())) {
+                        String key = reader.getAttributeValue(null, KEY);
+                        String value = reader.getAttributeValue(null, VALUE);
+                        if (key != null && value != null) {
+                            props.setProperty(key, value);
                         }
                     }
+                    skipElement(reader);
                 }
             } else {
-                level--;
+                skipElement(reader);
             }
         }
-        return msg;
-    }
-
-    private Properties parseProperties(XMLEventReader reader) {
-        Properties props = new Properties();
-        // TODO parsing of properties
         return props;
     }
 
-    private List<? extends ActionReport> parseSubReports(XMLEventReader reader) {
-        ArrayList<RestActionReport> subReports = new ArrayList<>();
+    /**
+     * Parse list of nested reports.
+     * <p>
+     * Reader must be positioned on <code>subReports</code> entry start element. Reader is positioned
+     * on its end element on return.
+     * <p>
+     */
+    private List<RestActionReport> parseSubReports(XMLStreamReader reader) throws XMLStreamException {
+        List<RestActionReport> subReports = new ArrayList<>();
+        while (nextElement(reader) == START_ELEMENT) {
+            if (LIST.equals(reader.getLocalName())) {
+                while (nextElement(reader) == START_ELEMENT) {
+                    if (MAP.equals(reader.getLocalName())) {
+                        subReports.add(parseReport(reader));
+                    } else {
+                        skipElement(reader);
+                    }
+                }
+            } else {
+                skipElement(reader);
+            }
+        }
         return subReports;
     }
 
-    static private class RestXMLResponseFilter implements EventFilter {
+    /**
+     * Move reader to next start or end element.
+     * <p>
+     *
+     * @return Type of current event: start element, end element or end of document.
+     */
+    private static int nextElement(XMLStreamReader reader) throws XMLStreamException {
+        int event;
+        do {
+            event = reader.next();
+        } while (event != START_ELEMENT && event != END_ELEMENT && event != END_DOCUMENT);
+        return event;
+    }
 
-        @Override
-        public boolean accept(XMLEvent event) {
-            if (event.isStartElement() || event.isEndElement()) {
-                return true;
-            } else {
-                return false;
+    /**
+     * Skip current element including its content.
+     * <p>
+     * Reader must be positioned on start element. Reader is positioned on its end element on return.
+     * <p>
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int level = 1;
+        while (level > 0) {
+            switch (nextElement(reader)) {
+            case START_ELEMENT:
+                level++;
+                break;
+            case END_ELEMENT:
+                level--;
+                break;
+            default:
+                return;
             }
         }
-
     }
 
 }
@@ -18,8 +18,13 @@
 
 package org.glassfish.eclipse.tools.server.sdk.server;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Collection;
 import java.util.logging.Level;
 
 import org.glassfish.eclipse.tools.server.GlassFishServer;
@@ -53,6 +58,9 @@ public abstract class FetchLog {
     /** Request to skip to the end of log. */
     final boolean skip;
 
+    /** Reader decoding log lines from input stream, created with first line being read. */
+    private BufferedReader reader;
+
     ////////////////////////////////////////////////////////////////////////////
     // Abstract methods //
     ////////////////////////////////////////////////////////////////////////////
@@ -119,6 +127,43 @@ public abstract class FetchLog {
     // Methods //
     ////////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Read next log line.
+     * <p/>
+     * Waits until the line is available. Lines are decoded from input stream as UTF-8.
+     * <p/>
+     *
+     * @return Log line without line separator or <code>null</code> when end of log was reached.
+     * @throws IOException when log could not be read.
+     */
+    public String readLine() throws IOException {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(in, UTF_8));
+        }
+        return reader.readLine();
+    }
+
+    /**
+     * Read all log lines available at once.
+     * <p/>
+     * Waits until at least one line is available. Log fetchers producing decoded lines pass all lines
+     * received so far, lines decoded from input stream are passed one by one.
+     * <p/>
+     *
+     * @param lines Collection where log lines without line separators are added.
+     * @return Value of <code>true</code> when lines were added or <code>false</code> when end of log
+     * was reached.
+     * @throws IOException when log could not be read.
+     */
+    public boolean readLines(final Collection<? super String> lines) throws IOException {
+        String line = readLine();
+        if (line == null) {
+            return false;
+        }
+        lines.add(line);
+        return true;
+    }
+
     /**
      * Close input stream used to access log lines received from server.
      * <p/>
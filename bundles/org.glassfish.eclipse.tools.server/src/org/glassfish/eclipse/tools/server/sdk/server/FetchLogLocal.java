@@ -18,12 +18,14 @@
 
 package org.glassfish.eclipse.tools.server.sdk.server;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.concurrent.ExecutorService;
 import java.util.logging.Level;
 
@@ -35,6 +37,10 @@ import org.glassfish.eclipse.tools.server.sdk.utils.ServerUtils;
 /**
  * Fetch GlassFish log from local server.
  * <p/>
+ * Log file is read through <code>FileChannel</code> from last read position in steps of bounded size.
+ * Reading task waits for change notification from shared {@link LogFileWatcher} and detects log
+ * rotation by file key (inode) change or by file size being smaller than read position.
+ * <p/>
  *
  * @author Tomas Kraus, Peter Benedikovic
  */
@@ -47,6 +53,43 @@ public class FetchLogLocal extends FetchLogPiped {
     /** Logger instance for this class. */
     private static final Logger LOGGER = new Logger(FetchLogLocal.class);
 
+    /**
+     * Maximal wait for change notification [ms]. Covers changes missed by watcher, e.g. file replaced
+     * in unexpected way.
+     */
+    private static final int WATCH_REFRESH_DELAY = 5000;
+
+    /** Size of log file read buffer. */
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    /** Maximal number of read buffers processed in one step. */
+    private static final int STEP_READS = 8;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Server log file. */
+    private Path logFile;
+
+    /** Log file change notifications registration. */
+    private LogFileWatcher.Registration registration;
+
+    /** Delay between log file checks [ms]. */
+    private int delay;
+
+    /** Channel of log file being read, <code>null</code> before the first step. */
+    private FileChannel fIn;
+
+    /** File key of log file being read. */
+    private Object fileKey;
+
+    /** Log file read buffer. */
+    private ByteBuffer buff;
+
+    /** Log file content decoder. */
+    private LogLineDecoder decoder;
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors //
     ////////////////////////////////////////////////////////////////////////////
@@ -91,30 +134,29 @@ public class FetchLogLocal extends FetchLogPiped {
     ////////////////////////////////////////////////////////////////////////////
 
     /**
-     * Initializes active log file <code>InputStream</code> as <code>FileInputStream</code> sending data
-     * from local server log file.
+     * Opens active log file channel.
      * <p/>
      *
-     * @return <code>FileInputStream</code> where log lines from server active log file will be
-     * available to read.
+     * @param logFile Server log file.
+     * @param skipToEnd Skip to the end of the log file.
+     * @return Channel positioned where log lines should be read from or <code>null</code> when log
+     * file does not exist.
      */
-    private InputStream initInputFile() {
+    private FileChannel initInputFile(final Path logFile, final boolean skipToEnd) {
         final String METHOD = "initInputFile";
-        File logFile = ServerUtils.getServerLogFile(server);
-        InputStream log;
+        FileChannel log;
         try {
-            log = new FileInputStream(logFile);
-        } catch (FileNotFoundException fnfe) {
-            LOGGER.log(Level.INFO, METHOD,
-                    "fileNotFound", logFile.getAbsolutePath());
+            log = FileChannel.open(logFile, StandardOpenOption.READ);
+        } catch (NoSuchFileException nsfe) {
+            LOGGER.log(Level.INFO, METHOD, "fileNotFound", logFile.toString());
             return null;
+        } catch (IOException ioe) {
+            throw new FetchLogException(
+                    LOGGER.excMsg(METHOD, "cantInit"), ioe);
         }
-        if (skip) {
-            int count;
+        if (skipToEnd) {
             try {
-                while ((count = log.available()) > 0) {
-                    log.skip(count);
-                }
+                log.position(log.size());
             } catch (IOException ioe) {
                 try {
                     log.close();
@@ -128,89 +170,166 @@ public class FetchLogLocal extends FetchLogPiped {
         return log;
     }
 
+    /**
+     * Get file key (inode) of log file.
+     * <p/>
+     *
+     * @param logFile Server log file.
+     * @return File key or <code>null</code> when file does not exist or file system does not provide
+     * file keys.
+     */
+    private static Object fileKey(final Path logFile) {
+        try {
+            return Files.readAttributes(logFile, BasicFileAttributes.class).fileKey();
+        } catch (IOException ioe) {
+            return null;
+        }
+    }
+
+    /**
+     * Check if log file was rotated since the channel was opened.
+     * <p/>
+     *
+     * @param logFile Server log file.
+     * @param fIn Channel of log file being read.
+     * @param fileKey File key of log file being read.
+     * @return Value of <code>true</code> when log file was replaced or truncated.
+     * @throws IOException when channel position could not be read.
+     */
+    private static boolean isRotated(final Path logFile, final FileChannel fIn,
+            final Object fileKey) throws IOException {
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(logFile, BasicFileAttributes.class);
+        } catch (IOException ioe) {
+            // New log file does not exist yet.
+            return false;
+        }
+        return attrs.size() < fIn.position()
+                || (fileKey != null && !fileKey.equals(attrs.fileKey()));
+    }
+
+    /**
+     * Open log file and register for its change notifications.
+     * <p/>
+     *
+     * @return Value of <code>true</code> when log file was opened.
+     */
+    private boolean open() {
+        logFile = ServerUtils.getServerLogFile(server).toPath();
+        LogFileWatcher watcher = LogFileWatcher.getInstance();
+        registration = watcher.register(logFile, this::wakeUp);
+        delay = registration != null && watcher.isNative()
+                ? WATCH_REFRESH_DELAY : LOG_REFRESH_DELAY;
+        try {
+            fIn = initInputFile(logFile, skip);
+        } finally {
+            if (fIn == null && registration != null) {
+                registration.cancel();
+            }
+        }
+        if (fIn == null) {
+            return false;
+        }
+        fileKey = fileKey(logFile);
+        buff = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        decoder = new LogLineDecoder(READ_BUFFER_SIZE);
+        return true;
+    }
+
+    /**
+     * Cancel log file change notifications and close log file.
+     * <p/>
+     *
+     * @param state Final task state.
+     * @return Step result of finished task.
+     */
+    private long finish(final TaskState state) {
+        final String METHOD = "finish";
+        if (registration != null) {
+            registration.cancel();
+        }
+        try {
+            fIn.close();
+        } catch (IOException ioe) {
+            LOGGER.log(Level.INFO, METHOD, "cantClose", ioe);
+        }
+        return done(state);
+    }
+
     ////////////////////////////////////////////////////////////////////////////
-    // Runnable call() Method //
+    // Log reading step //
     ////////////////////////////////////////////////////////////////////////////
 
     /**
-     * Remote server log lines reading task.
+     * Local server log lines reading step.
      * <p/>
-     * Reads new log lines from server using GlassFish remote administration API and sends them into
-     * pipe (<code>PipedInputStream</code>).
+     * Reads up to {@link #STEP_READS} buffers of new log content from local server log file and
+     * passes decoded lines into lines queue. When there is no new content, log rotation is checked and
+     * the next step waits for log file change notification.
      * <p/>
      *
-     * @return <code>TaskState.COMPLETED</code> when remote administration API stopped responding or
-     * <code>TaskState.FAILED</code> when exception was caught.
+     * @return Step result.
      */
-    @SuppressWarnings("SleepWhileInLoop")
     @Override
-    public TaskState call() {
-        final String METHOD = "call";
-        notifyListeners(TaskState.RUNNING);
-        InputStream fIn = initInputFile();
-        byte[] buff = new byte[PIPE_BUFFER_SIZE];
-        File logFile = ServerUtils.getServerLogFile(server);
-        int inCount;
-        long lastModified;
+    long step() {
+        final String METHOD = "step";
         if (fIn == null) {
-            return notifyListeners(TaskState.FAILED);
+            if (!taksExecute) {
+                return done(TaskState.COMPLETED);
+            }
+            if (!open()) {
+                return done(TaskState.FAILED);
+            }
         }
-        while (taksExecute) {
-            try {
-                inCount = fIn.available();
-                lastModified = logFile.lastModified();
-                // Nothing to read. Check log rotation after delay.
-                if (inCount <= 0) {
-                    Thread.sleep(LOG_REFRESH_DELAY);
-                    inCount = fIn.available();
-                    if (inCount <= 0 && logFile.lastModified() > lastModified) {
-                        LOGGER.log(Level.FINER, METHOD, "rotation");
-                        fIn.close();
-                        out.flush();
-
-                        fIn = initInputFile();
-                    }
-                }
-                if (inCount > 0) {
-                    while (inCount > 0) {
-                        int count = fIn.read(buff);
-                        LOGGER.log(Level.FINEST, METHOD, "read",
-                                new Object[] { new Integer(count) });
-                        if (count > 0) {
-                            out.write(buff, 0, count);
-                            inCount -= count;
-                        } else {
-                            // Return -1: If log file is rotated, the original file handle is no longer valid
-                            break;
-                        }
-                        if (inCount <= 0) {
-                            inCount = fIn.available();
-                        }
-                    }
-                    out.flush();
+        try {
+            if (!taksExecute) {
+                return finish(TaskState.COMPLETED);
+            }
+            int reads = 0;
+            int count;
+            while (reads < STEP_READS && lines.hasCapacity()
+                    && (count = fIn.read(buff)) > 0) {
+                LOGGER.log(Level.FINEST, METHOD, "read",
+                        new Object[] { count });
+                buff.flip();
+                decoder.decode(buff, lines);
+                buff.compact();
+                reads++;
+            }
+            if (reads > 0) {
+                return 0;
+            }
+            if (!lines.hasCapacity()) {
+                return LogTaskExecutor.WAIT;
+            }
+            if (isRotated(logFile, fIn, fileKey)) {
+                // Old file was read up to its end, continue with new one.
+                FileChannel newIn = initInputFile(logFile, false);
+                if (newIn != null) {
+                    LOGGER.log(Level.FINER, METHOD, "rotation");
+                    buff.clear();
+                    decoder.flush(lines);
+                    fIn.close();
+                    fIn = newIn;
+                    fileKey = fileKey(logFile);
+                    return 0;
                 }
-            } catch (InterruptedException ie) {
-                LOGGER.log(Level.INFO, METHOD, "interrupted", ie.getMessage());
-                Thread.currentThread().interrupt();
-                return notifyListeners(TaskState.COMPLETED);
-            } catch (InterruptedIOException ie) {
+            }
+            return delay;
+        } catch (IOException ioe) {
+            if (taksExecute) {
+                LOGGER.log(Level.INFO, METHOD, "ioException", ioe);
+                return finish(TaskState.FAILED);
+            } else {
                 LOGGER.log(Level.INFO, METHOD,
-                        "interruptedIO", ie.getMessage());
-                Thread.currentThread().interrupt();
-                return notifyListeners(TaskState.COMPLETED);
-            } catch (IOException ioe) {
-                if (taksExecute) {
-                    LOGGER.log(Level.INFO, METHOD, "ioException", ioe);
-                    return notifyListeners(TaskState.FAILED);
-                } else {
-                    LOGGER.log(Level.INFO, METHOD,
-                            "ioExceptionMsg", ioe.getMessage());
-                    return notifyListeners(TaskState.COMPLETED);
-                }
+                        "ioExceptionMsg", ioe.getMessage());
+                return finish(TaskState.COMPLETED);
             }
-
+        } catch (RuntimeException re) {
+            finish(TaskState.FAILED);
+            throw re;
         }
-        return notifyListeners(TaskState.COMPLETED);
     }
 
 }
@@ -18,18 +18,18 @@
 
 package org.glassfish.eclipse.tools.server.sdk.server;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
+import java.io.InterruptedIOException;
+import java.util.Collection;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
@@ -38,11 +38,15 @@ import org.glassfish.eclipse.tools.server.sdk.TaskState;
 import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
 import org.glassfish.eclipse.tools.server.sdk.utils.LinkedList;
 import org.glassfish.eclipse.tools.server.sdk.utils.NetUtils;
+import org.glassfish.eclipse.tools.server.sdk.utils.OsUtils;
 
 /**
  * Fetch GlassFish log from local or remote server.
  * <p/>
- * Data are fetched in service thread and passed into <code>PipedOutputStream</code>.
+ * Data are fetched by a cooperative task of shared {@link LogTaskExecutor} or in external executor
+ * and passed as decoded lines into bounded queue. Consumer reads them with
+ * {@link #readLines(Collection)} or, without blocking, with {@link #pollLines(Collection)}. Fetching
+ * task pauses while the queue is full.
  * <p/>
  *
  * @author Tomas Kraus, Peter Benedikovic
@@ -50,6 +54,76 @@ import org.glassfish.eclipse.tools.server.sdk.utils.NetUtils;
 public abstract class FetchLogPiped
         extends FetchLog implements Callable<TaskState> {
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Log lines queue content encoded as UTF-8 stream for consumers reading log through
+     * {@link #getInputStream()}.
+     */
+    private final class LinesInputStream extends InputStream {
+
+        /** Line separator. */
+        private final byte[] separator = OsUtils.LINES_SEPARATOR.getBytes(UTF_8);
+
+        /** Encoded line being read, including line separator. */
+        private byte[] buffer = new byte[0];
+
+        /** Position in encoded line. */
+        private int position;
+
+        /**
+         * Make sure that encoded line has unread data.
+         * <p/>
+         *
+         * @return Value of <code>true</code> when data are available or <code>false</code> at the end
+         * of log.
+         * @throws IOException when interrupted while waiting for log line.
+         */
+        private boolean fill() throws IOException {
+            if (position < buffer.length) {
+                return true;
+            }
+            String line;
+            try {
+                line = lines.take();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(ie.getMessage());
+            }
+            if (line == null) {
+                return false;
+            }
+            byte[] bytes = line.getBytes(UTF_8);
+            buffer = new byte[bytes.length + separator.length];
+            System.arraycopy(bytes, 0, buffer, 0, bytes.length);
+            System.arraycopy(separator, 0, buffer, bytes.length, separator.length);
+            position = 0;
+            return true;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return fill() ? buffer[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.length - position);
+            System.arraycopy(buffer, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Class attributes //
     ////////////////////////////////////////////////////////////////////////////
@@ -57,8 +131,8 @@ public abstract class FetchLogPiped
     /** Logger instance for this class. */
     private static final Logger LOGGER = new Logger(FetchLogPiped.class);
 
-    /** Size of internal buffer in pipe input stream. */
-    static final int PIPE_BUFFER_SIZE = 8192;
+    /** Maximal number of log lines waiting for consumer. */
+    static final int QUEUE_CAPACITY = 4096;
 
     /** Log refresh delay in miliseconds. */
     static final int LOG_REFRESH_DELAY = 1000;
@@ -148,17 +222,26 @@ public abstract class FetchLogPiped
     // Instance attributes //
     ////////////////////////////////////////////////////////////////////////////
 
-    /** Output stream where to write retrieved remote server log. */
-    final PipedOutputStream out;
+    /** Queue where retrieved server log lines are passed to consumer. */
+    final LogLineQueue lines;
+
+    /** Running cooperative task that reads log lines, used without external executor. */
+    private LogTaskExecutor.Task task;
 
-    /** Running task that reads log lines from remote server. */
-    Future<TaskState> task;
+    /** Running task that reads log lines in external executor. */
+    private Future<TaskState> future;
 
-    /** <code>ExecutorService</code> used to run read remote server log tasks. */
-    private ExecutorService executor;
+    /** External <code>ExecutorService</code> used to run read log task or <code>null</code>. */
+    private final ExecutorService executor;
 
-    /** Internal <code>ExecutorService</code> was used. */
-    private final boolean internalExecutor;
+    /** Wake up signal of task running in external executor. */
+    private final Semaphore wakeUps = new Semaphore(0);
+
+    /** Task state notified to listeners when task finished. */
+    private volatile TaskState finalState;
+
+    /** Task started running. */
+    private boolean running;
 
     /** Indicate whether log lines reading task should continue or exit. */
     volatile boolean taksExecute;
@@ -173,10 +256,7 @@ public abstract class FetchLogPiped
     /**
      * Constructs an instance of GlassFish remote server log fetcher.
      * <p/>
-     * Super class constructor will call <code>initInputStream</code> method which initializes
-     * <code>InputStream</code> as <code>PipedInputStream</code> before this constructor code is being
-     * executed. Here we can simply connect already initialized <code>PipedInputStream</code> with newly
-     * created <code>PipedInputStream</code>.
+     * Fetched log lines are passed to consumer through bounded lines queue.
      * <p/>
      *
      * @param server GlassFish server for fetching server log.
@@ -184,34 +264,18 @@ public abstract class FetchLogPiped
      */
     FetchLogPiped(final GlassFishServer server, boolean skip) {
         super(server, skip);
-        final String METHOD = "init";
         this.eventListeners = new LinkedList();
-        try {
-            out = new PipedOutputStream((PipedInputStream) this.in);
-        } catch (IOException ioe) {
-            super.close();
-            throw new FetchLogException(LOGGER.excMsg(METHOD, "cantInit"), ioe);
-        }
+        this.lines = new LogLineQueue(QUEUE_CAPACITY);
         taksExecute = true;
-        // Create internal executor to run log reader task.
-        executor = new ThreadPoolExecutor(0, 1, 0L, TimeUnit.MILLISECONDS,
-                new LinkedBlockingQueue<Runnable>(), (ThreadFactory) r -> {
-                    Thread t = new Thread(r, FetchLogPiped.class.getName()
-                            + server.getUrl() != null ? " (Localhost)" : server.getUrl());
-                    t.setDaemon(true);
-                    return t;
-                });
-        internalExecutor = true;
+        // Run log reader task in shared log processing executor.
+        this.executor = null;
     }
 
     /**
      * Constructs an instance of GlassFish remote server log fetcher with external
      * {@link ExecutorService}.
      * <p/>
-     * Super class constructor will call <code>initInputStream</code> method which initializes
-     * <code>InputStream</code> as <code>PipedInputStream</code> before this constructor code is being
-     * executed. Here we can simply connect already initialized <code>PipedInputStream</code> with newly
-     * created <code>PipedInputStream</code>.
+     * Fetched log lines are passed to consumer through bounded lines queue.
      * <p/>
      *
      * @param executor Executor service used to start task.
@@ -222,18 +286,11 @@ public abstract class FetchLogPiped
     FetchLogPiped(final ExecutorService executor, final GlassFishServer server,
             boolean skip) {
         super(server, skip);
-        final String METHOD = "init";
         this.eventListeners = new LinkedList();
-        try {
-            out = new PipedOutputStream((PipedInputStream) this.in);
-        } catch (IOException ioe) {
-            super.close();
-            throw new FetchLogException(LOGGER.excMsg(METHOD, "cantInit"), ioe);
-        }
+        this.lines = new LogLineQueue(QUEUE_CAPACITY);
         taksExecute = true;
         // Use external executor to run log reader task.
         this.executor = executor;
-        internalExecutor = false;
     }
 
     ////////////////////////////////////////////////////////////////////////////
@@ -241,26 +298,86 @@ public abstract class FetchLogPiped
     ////////////////////////////////////////////////////////////////////////////
 
     /**
-     * Constructor callback which initializes log <code>InputStream</code> as
-     * <code>PipedInputStream</code> sending data from remote server log reader.
+     * Constructor callback which initializes log <code>InputStream</code> reading lines from lines
+     * queue.
      * <p/>
-     * This initialization is called form <code>FetchLog</code> super class constructor. It already
-     * exists when <code>FetchLogRemote</code> constructor is running so it may be used as argument for
-     * local <code>PipedOutputStream</code> initialization.
+     * Stream is provided for consumers which can't process lines. Log lines are encoded back to UTF-8
+     * with platform line separator.
      * <p/>
      *
-     * @return <code>PipedInputStream</code> where log lines received from server will be available to
-     * read.
+     * @return <code>InputStream</code> where log lines received from server will be available to read.
      */
     @Override
     InputStream initInputStream() {
-        return new PipedInputStream(PIPE_BUFFER_SIZE);
+        return new LinesInputStream();
     }
 
     ////////////////////////////////////////////////////////////////////////////
     // Methods //
     ////////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Read next log line from lines queue.
+     * <p/>
+     *
+     * @return Log line without line separator or <code>null</code> when end of log was reached.
+     * @throws IOException when interrupted while waiting for log line.
+     */
+    @Override
+    public String readLine() throws IOException {
+        try {
+            return lines.take();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ie.getMessage());
+        }
+    }
+
+    /**
+     * Read all log lines waiting in lines queue.
+     * <p/>
+     *
+     * @param target Collection where log lines without line separators are added.
+     * @return Value of <code>true</code> when lines were added or <code>false</code> when end of log
+     * was reached.
+     * @throws IOException when interrupted while waiting for log lines.
+     */
+    @Override
+    public boolean readLines(final Collection<? super String> target) throws IOException {
+        try {
+            return lines.drainTo(target);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ie.getMessage());
+        }
+    }
+
+    /**
+     * Move all log lines waiting in lines queue to given collection without waiting.
+     * <p/>
+     * Used by cooperative consumers running on {@link LogTaskExecutor}, see
+     * {@link #setLinesListener(Runnable)}.
+     * <p/>
+     *
+     * @param target Collection where log lines without line separators are added.
+     * @return Number of added lines or <code>-1</code> when end of log was reached.
+     */
+    public int pollLines(final Collection<? super String> target) {
+        return lines.poll(target);
+    }
+
+    /**
+     * Set listener called when new log lines are available or end of log was reached.
+     * <p/>
+     * Listener is called by producing thread, it shall not block.
+     * <p/>
+     *
+     * @param listener Listener called when log lines are available.
+     */
+    public void setLinesListener(final Runnable listener) {
+        lines.setLinesListener(listener);
+    }
+
     /**
      * Add GlassFish log fetcher state change listener at the end of listeners list.
      * <p/>
@@ -338,11 +455,110 @@ public abstract class FetchLogPiped
     }
 
     /**
-     * Start task.
+     * Read next part of log.
+     * <p/>
+     * Step shall not block and shall read a bounded amount of log. Step shall check
+     * <code>taksExecute</code> flag and finish when it was cleared. Producer shall not add more lines
+     * when {@link LogLineQueue#hasCapacity()} is <code>false</code>, it's woken up when consumer takes
+     * lines.
+     * <p/>
+     *
+     * @return Delay before next step in milliseconds, <code>0</code> to continue as soon as other tasks
+     * had their turn, {@link LogTaskExecutor#WAIT} to continue when woken up or value returned by
+     * {@link #done(TaskState)} when finished.
+     */
+    abstract long step();
+
+    /**
+     * Finish reading task.
+     * <p/>
+     *
+     * @param state Final task state.
+     * @return Step result {@link LogTaskExecutor#DONE}.
+     */
+    final long done(final TaskState state) {
+        finalState = state;
+        return LogTaskExecutor.DONE;
+    }
+
+    /**
+     * Wake up reading task, e.g. when log was changed or task is being stopped.
+     */
+    final void wakeUp() {
+        if (task != null) {
+            task.wakeUp();
+        } else {
+            wakeUps.release();
+        }
+    }
+
+    /**
+     * Run one step of reading task. Lines queue is closed when task finishes, so consumer receives end
+     * of log.
+     * <p/>
+     *
+     * @return Step result.
+     */
+    private long runStep() {
+        final String METHOD = "runStep";
+        if (!running) {
+            running = true;
+            notifyListeners(TaskState.RUNNING);
+        }
+        long next;
+        try {
+            next = step();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.INFO, METHOD, "failed", e);
+            next = done(TaskState.FAILED);
+        }
+        if (next == LogTaskExecutor.DONE) {
+            lines.close();
+            notifyListeners(finalState);
+        }
+        return next;
+    }
+
+    /**
+     * Log lines reading task running in external executor.
+     * <p/>
+     * Steps of the task are run in calling thread, waiting between steps.
+     * <p/>
+     *
+     * @return <code>TaskState.COMPLETED</code> when task was stopped or <code>TaskState.FAILED</code>
+     * when log could not be read.
+     */
+    @Override
+    public TaskState call() {
+        final String METHOD = "call";
+        long next;
+        while ((next = runStep()) != LogTaskExecutor.DONE) {
+            if (next != 0) {
+                try {
+                    wakeUps.tryAcquire(next == LogTaskExecutor.WAIT
+                            ? LOG_REFRESH_DELAY : next, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ie) {
+                    LOGGER.log(Level.INFO, METHOD, "interrupted", ie.getMessage());
+                    Thread.currentThread().interrupt();
+                    taksExecute = false;
+                }
+                wakeUps.drainPermits();
+            }
+        }
+        return finalState;
+    }
+
+    /**
+     * Start task in shared log processing executor or in external executor.
      */
     private void start() {
-        task = executor.submit(this);
         notifyListeners(TaskState.READY);
+        lines.setSpaceListener(this::wakeUp);
+        if (executor != null) {
+            future = executor.submit(this);
+        } else {
+            task = LogTaskExecutor.getInstance().submit(this::runStep);
+        }
     }
 
     /**
@@ -354,18 +570,14 @@ public abstract class FetchLogPiped
     private TaskState stop() {
         final String METHOD = "stop";
         taksExecute = false;
-        if (this.out != null) {
-            try {
-                this.out.close();
-            } catch (IOException ioe) {
-                LOGGER.log(Level.INFO, METHOD, "cantClose", ioe);
-            }
-        } else {
-            LOGGER.log(Level.INFO, METHOD, "isNull");
-        }
-        TaskState result;
+        lines.close();
+        wakeUp();
         try {
-            result = task.get();
+            if (task != null) {
+                task.await();
+                return finalState;
+            }
+            return future.get();
         } catch (InterruptedException ie) {
             throw new FetchLogException(
                     LOGGER.excMsg(METHOD, "interrupted"), ie);
@@ -376,22 +588,17 @@ public abstract class FetchLogPiped
             throw new FetchLogException(
                     LOGGER.excMsg(METHOD, "cancelled"), ce);
         }
-        return result;
     }
 
     /**
-     * Stop log lines reading task and close input and output streams used to access log lines received
-     * from server.
+     * Stop log lines reading task and close lines queue and input stream used to access log lines
+     * received from server.
      */
     @Override
     public void close() {
         final String METHOD = "close";
         TaskState result = stop();
         super.close();
-        // Clean up internal executor.
-        if (internalExecutor) {
-            executor.shutdownNow();
-        }
         // We may possibly change this to throw an exception when needed.
         // But streams must be cleaned up first.
         if (result != TaskState.COMPLETED) {
@@ -406,6 +613,6 @@ public abstract class FetchLogPiped
      * @return Returns <code>true</code> when task is still running or <code>false></code> otherwise.
      */
     public boolean isRunning() {
-        return !task.isDone();
+        return task != null ? !task.isDone() : !future.isDone();
     }
 }
@@ -18,11 +18,11 @@
 
 package org.glassfish.eclipse.tools.server.sdk.server;
 
-import java.io.IOException;
-import java.io.InterruptedIOException;
-import java.util.concurrent.ExecutionException;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.logging.Level;
 
 import org.glassfish.eclipse.tools.server.GlassFishServer;
@@ -31,7 +31,6 @@ import org.glassfish.eclipse.tools.server.sdk.admin.CommandFetchLogData;
 import org.glassfish.eclipse.tools.server.sdk.admin.ResultLog;
 import org.glassfish.eclipse.tools.server.sdk.admin.ServerAdmin;
 import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
-import org.glassfish.eclipse.tools.server.sdk.utils.OsUtils;
 
 /**
  * Fetch GlassFish log from remote server.
@@ -46,7 +45,31 @@ public class FetchLogRemote extends FetchLogPiped {
     ////////////////////////////////////////////////////////////////////////////
 
     /** Logger instance for this class. */
-    private static final Logger LOGGER = new Logger(FetchLogPiped.class);
+    private static final Logger LOGGER = new Logger(FetchLogRemote.class);
+
+    /** Delay between log requests while log is growing [ms]. */
+    private static final int MIN_REFRESH_DELAY = 250;
+
+    /** Maximal delay between log requests while log is idle [ms]. */
+    private static final int MAX_REFRESH_DELAY = 5000;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Running log request or <code>null</code>. */
+    private CompletableFuture<ResultLog> request;
+
+    /** First log request was not completed yet. */
+    private boolean first = true;
+
+    /**
+     * Query parameters of next log request, content of HTTP header <code>X-Text-Append-Next</code>.
+     */
+    private String paramsAppendNext;
+
+    /** Delay before next log request [ms]. */
+    private int delay = MIN_REFRESH_DELAY;
 
     ////////////////////////////////////////////////////////////////////////////
     // Constructors //
@@ -55,10 +78,7 @@ public class FetchLogRemote extends FetchLogPiped {
     /**
      * Constructs an instance of GlassFish remote server log fetcher.
      * <p/>
-     * Super class constructor will call <code>initInputStream</code> method which initializes
-     * <code>InputStream</code> as <code>PipedInputStream</code> before this constructor code is being
-     * executed. Here we can simply connect already initialized <code>PipedInputStream</code> with newly
-     * created <code>PipedInputStream</code>.
+     * Fetched log lines are passed to consumer through bounded lines queue.
      * <p/>
      *
      * @param server GlassFish server for fetching server log.
@@ -72,10 +92,7 @@ public class FetchLogRemote extends FetchLogPiped {
      * Constructs an instance of GlassFish remote server log fetcher with external
      * {@link ExecutorService}.
      * <p/>
-     * Super class constructor will call <code>initInputStream</code> method which initializes
-     * <code>InputStream</code> as <code>PipedInputStream</code> before this constructor code is being
-     * executed. Here we can simply connect already initialized <code>PipedInputStream</code> with newly
-     * created <code>PipedInputStream</code>.
+     * Fetched log lines are passed to consumer through bounded lines queue.
      * <p/>
      *
      * @param executor Executor service used to start task.
@@ -88,79 +105,71 @@ public class FetchLogRemote extends FetchLogPiped {
     }
 
     ////////////////////////////////////////////////////////////////////////////
-    // Runnable call() Method //
+    // Log reading step //
     ////////////////////////////////////////////////////////////////////////////
 
     /**
-     * Remote server log lines reading task.
+     * Remote server log lines reading step.
      * <p/>
-     * Reads new log lines from server using GlassFish remote administration API and sends them into
-     * pipe (<code>PipedInputStream</code>).
+     * Sends request for new log lines using GlassFish remote administration API. Lines are passed
+     * into lines queue while HTTP response is being read without waiting for consumer, so the
+     * request never holds administration command thread for a slow consumer. Next request is sent
+     * only when lines queue has capacity again. The task is woken up when the request is completed.
+     * Delay before next request is adapted to log activity: it's kept short while
+     * <code>X-Text-Append-Next</code> cursor moves and doubled up to {@link #MAX_REFRESH_DELAY}
+     * while log is idle.
      * <p/>
      *
-     * @return <code>TaskState.COMPLETED</code> when remote administration API stopped responding or
-     * <code>TaskState.FAILED</code> when exception was caught.
+     * @return Step result.
      */
-    @SuppressWarnings("SleepWhileInLoop")
     @Override
-    public TaskState call() {
-        final String METHOD = "call";
-        notifyListeners(TaskState.RUNNING);
-        String paramsAppendNext = null;
-        Future<ResultLog> future = ServerAdmin.<ResultLog>exec(server,
-                new CommandFetchLogData());
-        try {
-            ResultLog result = future.get();
-            if (!skip && result.getState() == TaskState.COMPLETED) {
-                paramsAppendNext = result.getValue().getParamsAppendNext();
-                for (String line : result.getValue().getLines()) {
-                    out.write(line.getBytes());
-                    out.write(OsUtils.LINES_SEPARATOR.getBytes());
-                }
-                out.flush();
-            }
-            byte[] lineSeparatorOut = OsUtils.LINES_SEPARATOR.getBytes();
-            while (taksExecute && result.getState() == TaskState.COMPLETED) {
-                future = ServerAdmin.<ResultLog>exec(server,
-                        new CommandFetchLogData(
-                                paramsAppendNext));
-                result = future.get();
-                if (result.getState() == TaskState.COMPLETED) {
-                    paramsAppendNext = result.getValue().getParamsAppendNext();
-                    for (String line : result.getValue().getLines()) {
-                        byte[] lineOut = line.getBytes();
-                        LOGGER.log(Level.FINEST, METHOD, "read", new Object[] {
-                                new Integer(lineOut.length
-                                        + lineSeparatorOut.length) });
-                        out.write(lineOut);
-                        out.write(lineSeparatorOut);
-                    }
-                    out.flush();
-                }
-                Thread.sleep(LOG_REFRESH_DELAY);
+    long step() {
+        final String METHOD = "step";
+        if (request == null) {
+            if (!taksExecute) {
+                return done(TaskState.COMPLETED);
             }
-        } catch (InterruptedException ie) {
-            LOGGER.log(Level.INFO, METHOD, "interrupted", ie.getMessage());
-            Thread.currentThread().interrupt();
-            return notifyListeners(TaskState.COMPLETED);
-        } catch (ExecutionException ee) {
-            LOGGER.log(Level.INFO, METHOD, "exception", ee);
-            return notifyListeners(TaskState.FAILED);
-        } catch (InterruptedIOException ie) {
-            LOGGER.log(Level.INFO, METHOD, "interruptedIO", ie.getMessage());
-            Thread.currentThread().interrupt();
-            return notifyListeners(TaskState.COMPLETED);
-        } catch (IOException ioe) {
-            if (taksExecute) {
-                LOGGER.log(Level.INFO, METHOD, "ioException", ioe);
-                return notifyListeners(TaskState.FAILED);
-            } else {
-                LOGGER.log(Level.INFO, METHOD,
-                        "ioExceptionMsg", ioe.getMessage());
-                return notifyListeners(TaskState.COMPLETED);
+            if (!lines.hasCapacity()) {
+                return LogTaskExecutor.WAIT;
             }
+            CommandFetchLogData.LineConsumer consumer = first && skip
+                    ? line -> {} : lines::add;
+            request = ServerAdmin.<ResultLog>execAsync(server,
+                    new CommandFetchLogData(paramsAppendNext, consumer));
+            request.whenComplete((result, t) -> wakeUp());
+            return LogTaskExecutor.WAIT;
+        }
+        if (!taksExecute) {
+            request.cancel(true);
+            return done(TaskState.COMPLETED);
+        }
+        if (!request.isDone()) {
+            return LogTaskExecutor.WAIT;
+        }
+        ResultLog result;
+        try {
+            result = request.join();
+        } catch (CompletionException | CancellationException e) {
+            LOGGER.log(Level.INFO, METHOD, "exception", e);
+            return done(TaskState.FAILED);
+        } finally {
+            request = null;
+        }
+        if (result.getState() != TaskState.COMPLETED) {
+            return done(TaskState.COMPLETED);
+        }
+        String next = result.getValue().getParamsAppendNext();
+        int count = result.getValue().getLineCount();
+        LOGGER.log(Level.FINEST, METHOD, "read",
+                new Object[] { count });
+        if (!first) {
+            delay = count > 0 || !Objects.equals(next, paramsAppendNext)
+                    ? MIN_REFRESH_DELAY
+                    : Math.min(delay * 2, MAX_REFRESH_DELAY);
         }
-        return notifyListeners(TaskState.COMPLETED);
+        first = false;
+        paramsAppendNext = next;
+        return delay;
     }
 
 }
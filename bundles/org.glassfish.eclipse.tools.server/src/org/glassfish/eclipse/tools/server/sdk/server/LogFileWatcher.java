@@ -0,0 +1,286 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.sdk.server;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+
+import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
+
+/**
+ * Change notifications for local log files.
+ * <p/>
+ * All watched files share single {@link WatchService} served by one daemon thread. Listener of a file
+ * is notified whenever the file is created, modified or deleted in its directory, which covers
+ * appended lines as well as log rotation.
+ * <p/>
+ */
+final class LogFileWatcher {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Watched file with its change listener.
+     */
+    final class Registration {
+
+        /** Watched file name without directory. */
+        private final Path fileName;
+
+        /** Watched directory. */
+        private final Directory directory;
+
+        /** Change listener. */
+        private final Runnable listener;
+
+        /**
+         * Creates an instance of watched file registration.
+         * <p/>
+         *
+         * @param fileName Watched file name without directory.
+         * @param directory Watched directory.
+         * @param listener Change listener.
+         */
+        private Registration(final Path fileName, final Directory directory,
+                final Runnable listener) {
+            this.fileName = fileName;
+            this.directory = directory;
+            this.listener = listener;
+        }
+
+        /**
+         * Stop watching the file. Directory is no longer watched after its last file is removed.
+         */
+        void cancel() {
+            synchronized (LogFileWatcher.this) {
+                directory.registrations.remove(this);
+                if (directory.registrations.isEmpty()) {
+                    directory.key.cancel();
+                    directories.remove(directory.path);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Watched directory.
+     */
+    private static final class Directory {
+
+        /** Directory path. */
+        private final Path path;
+
+        /** Watch key of directory. */
+        private final WatchKey key;
+
+        /** Files watched in directory. */
+        private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+
+        /**
+         * Creates an instance of watched directory.
+         * <p/>
+         *
+         * @param path Directory path.
+         * @param key Watch key of directory.
+         */
+        private Directory(final Path path, final WatchKey key) {
+            this.path = path;
+            this.key = key;
+        }
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(LogFileWatcher.class);
+
+    /** Watcher thread name. */
+    private static final String THREAD_NAME = "GlassFish Log Watcher";
+
+    /** Singleton instance. */
+    private static final LogFileWatcher INSTANCE = new LogFileWatcher();
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get log file watcher singleton instance.
+     * <p/>
+     *
+     * @return Log file watcher instance.
+     */
+    static LogFileWatcher getInstance() {
+        return INSTANCE;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Watched directories. */
+    private final Map<Path, Directory> directories = new HashMap<>();
+
+    /** Watch service, created with watcher thread. */
+    private WatchService watchService;
+
+    /** Watch service is backed by native file system events, not by polling. */
+    private boolean nativeEvents;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of log file watcher. Watcher thread is started with first registration.
+     */
+    private LogFileWatcher() {
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Start watching given file.
+     * <p/>
+     * Listener is called from watcher thread and must not block.
+     * <p/>
+     *
+     * @param file File to be watched.
+     * @param listener Listener called when the file was changed.
+     * @return File registration or <code>null</code> when the file can't be watched.
+     */
+    synchronized Registration register(final Path file, final Runnable listener) {
+        final String METHOD = "register";
+        Path path = file.toAbsolutePath();
+        Path dir = path.getParent();
+        if (dir == null) {
+            return null;
+        }
+        try {
+            if (watchService == null) {
+                watchService = FileSystems.getDefault().newWatchService();
+                // JDK falls back to polling the file system every few seconds where no native
+                // notification is available.
+                nativeEvents = !watchService.getClass().getName().endsWith("PollingWatchService");
+                Thread thread = new Thread(this::run, THREAD_NAME);
+                thread.setDaemon(true);
+                thread.start();
+            }
+            Directory directory = directories.get(dir);
+            if (directory == null) {
+                directory = new Directory(dir, dir.register(watchService,
+                        ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE));
+                directories.put(dir, directory);
+            }
+            Registration registration = new Registration(path.getFileName(), directory, listener);
+            directory.registrations.add(registration);
+            return registration;
+        } catch (IOException ioe) {
+            LOGGER.log(Level.INFO, METHOD, "cantWatch", new Object[] { dir, ioe.getMessage() });
+            return null;
+        }
+    }
+
+    /**
+     * Check if changes are reported by native file system events.
+     * <p/>
+     *
+     * @return Value of <code>true</code> when changes are reported immediately or <code>false</code>
+     * when they are detected by polling.
+     */
+    synchronized boolean isNative() {
+        return nativeEvents;
+    }
+
+    /**
+     * Find watched directory of given watch key.
+     * <p/>
+     *
+     * @param key Watch key.
+     * @return Watched directory or <code>null</code> when the directory is no longer watched.
+     */
+    private synchronized Directory directory(final WatchKey key) {
+        Directory directory = directories.get((Path) key.watchable());
+        return directory != null && directory.key == key ? directory : null;
+    }
+
+    /**
+     * Watcher thread main loop.
+     */
+    private void run() {
+        final String METHOD = "run";
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                LOGGER.log(Level.INFO, METHOD, "stopped", e.getMessage());
+                return;
+            }
+            Directory directory = directory(key);
+            if (directory != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    Object context = event.context();
+                    for (Registration registration : directory.registrations) {
+                        if (event.kind() == OVERFLOW
+                                || registration.fileName.equals(context)) {
+                            notifyListener(registration);
+                        }
+                    }
+                }
+            }
+            if (!key.reset() && directory != null) {
+                // Directory was removed, let listeners find out themselves.
+                for (Registration registration : directory.registrations) {
+                    notifyListener(registration);
+                }
+            }
+        }
+    }
+
+    /**
+     * Call file change listener, exceptions are logged and ignored.
+     * <p/>
+     *
+     * @param registration Watched file registration.
+     */
+    private void notifyListener(final Registration registration) {
+        final String METHOD = "notifyListener";
+        try {
+            registration.listener.run();
+        } catch (RuntimeException re) {
+            LOGGER.log(Level.WARNING, METHOD, "failed", re);
+        }
+    }
+
+}
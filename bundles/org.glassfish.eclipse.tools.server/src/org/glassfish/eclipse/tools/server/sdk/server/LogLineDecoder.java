@@ -0,0 +1,129 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.sdk.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Splits UTF-8 encoded log file content into lines.
+ * <p/>
+ * Content is passed in chunks as it's read from the file. Incomplete character at the end of a chunk
+ * is left in input buffer and incomplete line is kept until its line terminator arrives. Line is
+ * terminated by <code>'\n'</code>, <code>'\r'</code> or <code>"\r\n"</code>, the same way as in
+ * <code>BufferedReader</code>.
+ * <p/>
+ */
+final class LogLineDecoder {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** UTF-8 decoder, malformed input is replaced. */
+    private final CharsetDecoder decoder = UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    /** Decoded characters. */
+    private final CharBuffer chars;
+
+    /** Incomplete line. */
+    private final StringBuilder line = new StringBuilder();
+
+    /** Last character was <code>'\r'</code>, following <code>'\n'</code> shall be skipped. */
+    private boolean skipLF;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of log lines decoder.
+     * <p/>
+     *
+     * @param bufferSize Size of decoded characters buffer.
+     */
+    LogLineDecoder(final int bufferSize) {
+        chars = CharBuffer.allocate(bufferSize);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Decode content and add complete lines to queue. Lines are added without waiting for space in
+     * queue, caller shall limit size of content.
+     * <p/>
+     *
+     * @param bytes Content ready to be read. Bytes of incomplete character remain in the buffer.
+     * @param lines Queue where complete lines are added.
+     */
+    void decode(final ByteBuffer bytes, final LogLineQueue lines) {
+        CoderResult result;
+        do {
+            result = decoder.decode(bytes, chars, false);
+            chars.flip();
+            split(lines);
+            chars.clear();
+        } while (result.isOverflow());
+    }
+
+    /**
+     * Add incomplete line to queue and forget decoder state. Called when the rest of content won't be
+     * available, e.g. after log rotation.
+     * <p/>
+     *
+     * @param lines Queue where incomplete line is added.
+     */
+    void flush(final LogLineQueue lines) {
+        decoder.reset();
+        skipLF = false;
+        if (line.length() > 0) {
+            lines.add(line.toString());
+            line.setLength(0);
+        }
+    }
+
+    /**
+     * Split decoded characters into lines.
+     * <p/>
+     *
+     * @param lines Queue where complete lines are added.
+     */
+    private void split(final LogLineQueue lines) {
+        int start = chars.position();
+        int end = chars.limit();
+        char[] array = chars.array();
+        for (int i = start; i < end; i++) {
+            char c = array[i];
+            if (c == '\n' && skipLF) {
+                skipLF = false;
+                start = i + 1;
+            } else if (c == '\n' || c == '\r') {
+                line.append(array, start, i - start);
+                lines.add(line.toString());
+                line.setLength(0);
+                skipLF = c == '\r';
+                start = i + 1;
+            } else {
+                skipLF = false;
+            }
+        }
+        line.append(array, start, end - start);
+    }
+
+}
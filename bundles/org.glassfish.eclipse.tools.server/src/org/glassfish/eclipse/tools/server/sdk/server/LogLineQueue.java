@@ -0,0 +1,281 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.sdk.server;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded queue of decoded log lines passed from log fetcher task to log consumer.
+ * <p/>
+ * Producer waits while the queue is full, so fast log source is slowed down to the speed of its
+ * consumer instead of buffering unlimited amount of lines. Consumer takes all available lines at
+ * once. Closed queue accepts no more lines, lines already queued are still delivered to consumer.
+ * <p/>
+ * Cooperative producer and consumer running on {@link LogTaskExecutor} don't wait. Producer checks
+ * {@link #hasCapacity()} before reading next chunk of log and adds its lines using
+ * {@link #add(String)}, consumer takes lines using {@link #poll(Collection)}. Both are woken up by
+ * queue listeners when lines or space become available.
+ * <p/>
+ */
+final class LogLineQueue {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Maximal number of queued lines. */
+    private final int capacity;
+
+    /** Queued lines. */
+    private final ArrayDeque<String> lines;
+
+    /** Queue access lock. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Signaled when line was added or queue was closed. */
+    private final Condition notEmpty = lock.newCondition();
+
+    /** Signaled when lines were taken or queue was closed. */
+    private final Condition notFull = lock.newCondition();
+
+    /** Queue was closed. Guarded by <code>lock</code>. */
+    private boolean closed;
+
+    /** Called when lines were added to empty queue or queue was closed. */
+    private volatile Runnable linesListener;
+
+    /** Called when full queue got space for more lines or queue was closed. */
+    private volatile Runnable spaceListener;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of log lines queue.
+     * <p/>
+     *
+     * @param capacity Maximal number of queued lines.
+     */
+    LogLineQueue(final int capacity) {
+        this.capacity = capacity;
+        this.lines = new ArrayDeque<>(capacity);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Add line at the end of queue, waiting while the queue is full.
+     * <p/>
+     *
+     * @param line Log line without line separator.
+     * @return Value of <code>true</code> when line was added or <code>false</code> when queue was
+     * closed.
+     * @throws InterruptedException when interrupted while waiting.
+     */
+    boolean put(final String line) throws InterruptedException {
+        boolean wasEmpty;
+        lock.lockInterruptibly();
+        try {
+            while (lines.size() >= capacity && !closed) {
+                notFull.await();
+            }
+            if (closed) {
+                return false;
+            }
+            wasEmpty = lines.isEmpty();
+            lines.addLast(line);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (wasEmpty) {
+            fire(linesListener);
+        }
+        return true;
+    }
+
+    /**
+     * Add line at the end of queue without waiting. Queue may exceed its capacity, producer shall
+     * check {@link #hasCapacity()} before producing more lines.
+     * <p/>
+     *
+     * @param line Log line without line separator.
+     * @return Value of <code>true</code> when line was added or <code>false</code> when queue was
+     * closed.
+     */
+    boolean add(final String line) {
+        boolean wasEmpty;
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            wasEmpty = lines.isEmpty();
+            lines.addLast(line);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (wasEmpty) {
+            fire(linesListener);
+        }
+        return true;
+    }
+
+    /**
+     * Check if the queue has space for more lines.
+     * <p/>
+     *
+     * @return Value of <code>true</code> when the queue is not full or was closed.
+     */
+    boolean hasCapacity() {
+        lock.lock();
+        try {
+            return closed || lines.size() < capacity;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take first line from queue, waiting while the queue is empty.
+     * <p/>
+     *
+     * @return Log line or <code>null</code> when queue was closed and all lines were taken.
+     * @throws InterruptedException when interrupted while waiting.
+     */
+    String take() throws InterruptedException {
+        boolean freed;
+        String line;
+        lock.lockInterruptibly();
+        try {
+            while (lines.isEmpty() && !closed) {
+                notEmpty.await();
+            }
+            freed = lines.size() == capacity;
+            line = lines.pollFirst();
+            if (line != null) {
+                notFull.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (freed && line != null) {
+            fire(spaceListener);
+        }
+        return line;
+    }
+
+    /**
+     * Move all queued lines to given collection, waiting while the queue is empty.
+     * <p/>
+     *
+     * @param target Collection where lines are added.
+     * @return Value of <code>true</code> when lines were added or <code>false</code> when queue was
+     * closed and all lines were taken.
+     * @throws InterruptedException when interrupted while waiting.
+     */
+    boolean drainTo(final Collection<? super String> target) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (lines.isEmpty() && !closed) {
+                notEmpty.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return poll(target) >= 0;
+    }
+
+    /**
+     * Move all queued lines to given collection without waiting.
+     * <p/>
+     *
+     * @param target Collection where lines are added.
+     * @return Number of lines added or <code>-1</code> when queue was closed and all lines were taken.
+     */
+    int poll(final Collection<? super String> target) {
+        boolean freed;
+        int count;
+        lock.lock();
+        try {
+            count = lines.size();
+            if (count == 0) {
+                return closed ? -1 : 0;
+            }
+            freed = count >= capacity;
+            target.addAll(lines);
+            lines.clear();
+            notFull.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (freed) {
+            fire(spaceListener);
+        }
+        return count;
+    }
+
+    /**
+     * Set listener of cooperative consumer.
+     * <p/>
+     *
+     * @param linesListener Called when lines were added to empty queue or queue was closed.
+     */
+    void setLinesListener(final Runnable linesListener) {
+        this.linesListener = linesListener;
+    }
+
+    /**
+     * Set listener of cooperative producer.
+     * <p/>
+     *
+     * @param spaceListener Called when full queue got space for more lines or queue was closed.
+     */
+    void setSpaceListener(final Runnable spaceListener) {
+        this.spaceListener = spaceListener;
+    }
+
+    /**
+     * Call queue listener when it's set.
+     * <p/>
+     *
+     * @param listener Queue listener.
+     */
+    private static void fire(final Runnable listener) {
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Close the queue. Waiting producer is released, consumer receives remaining lines followed by end
+     * of log.
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        fire(linesListener);
+        fire(spaceListener);
+    }
+
+}
@@ -0,0 +1,292 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.sdk.server;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
+
+/**
+ * Shared executor of cooperative log processing tasks.
+ * <p/>
+ * Log fetchers and log readers of all servers and consoles run as tasks on a small, fixed number of
+ * daemon threads. Task is a sequence of steps. Each step does a bounded amount of work without
+ * blocking and returns when the next step shall run: immediately, after a delay, when the task is
+ * woken up or never. Steps ready to run are queued in FIFO order, so a busy log of one server can't
+ * starve the others.
+ * <p/>
+ * Number of threads is set by <code>glassfish.log.threads</code> system property, default is
+ * {@link #DEFAULT_THREADS}.
+ * <p/>
+ */
+public final class LogTaskExecutor {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Cooperative task step.
+     */
+    @FunctionalInterface
+    public interface Step {
+
+        /**
+         * Do a bounded amount of work without blocking.
+         * <p/>
+         *
+         * @return Delay before next step in milliseconds, <code>0</code> to run next step after
+         * already queued steps of other tasks, {@link LogTaskExecutor#WAIT} to run next step when the
+         * task is woken up or {@link LogTaskExecutor#DONE} when the task is finished.
+         */
+        long run();
+
+    }
+
+    /**
+     * Handle of submitted task.
+     * <p/>
+     * Step of a task never runs concurrently with another step of the same task.
+     * <p/>
+     */
+    public final class Task {
+
+        /** Task step. */
+        private final Step step;
+
+        /** Step is running. Guarded by this. */
+        private boolean running;
+
+        /** Task was woken up while its step was running. Guarded by this. */
+        private boolean woken;
+
+        /** Step is queued to run without delay. Guarded by this. */
+        private boolean queued;
+
+        /** Task is finished. Guarded by this. */
+        private boolean finished;
+
+        /**
+         * Scheduled step run, runs with other generation are ignored. Guarded by this.
+         */
+        private int generation;
+
+        /** Delayed step run. Guarded by this. */
+        private ScheduledFuture<?> timer;
+
+        /**
+         * Creates an instance of task handle.
+         * <p/>
+         *
+         * @param step Task step.
+         */
+        private Task(final Step step) {
+            this.step = step;
+        }
+
+        /**
+         * Run next step as soon as possible. Task waiting for delay or for wake up is queued, running
+         * step is followed by another step.
+         */
+        public synchronized void wakeUp() {
+            if (finished || queued) {
+                return;
+            }
+            if (running) {
+                woken = true;
+                return;
+            }
+            queue();
+        }
+
+        /**
+         * Wait until the task is finished. Queued step is run by calling thread, so a task may wait for
+         * another task even when all executor threads are busy.
+         * <p/>
+         * Task shall finish soon, e.g. it was asked to stop and woken up.
+         * <p/>
+         *
+         * @throws InterruptedException when interrupted while waiting.
+         */
+        public void await() throws InterruptedException {
+            while (true) {
+                int runGeneration;
+                synchronized (this) {
+                    while (!finished && (running || !queued)) {
+                        wait();
+                    }
+                    if (finished) {
+                        return;
+                    }
+                    runGeneration = generation;
+                }
+                runStep(runGeneration);
+            }
+        }
+
+        /**
+         * Check if the task is finished.
+         * <p/>
+         *
+         * @return Value of <code>true</code> when the task is finished.
+         */
+        public synchronized boolean isDone() {
+            return finished;
+        }
+
+        /**
+         * Queue next step run. Called with lock held.
+         */
+        private void queue() {
+            cancelTimer();
+            queued = true;
+            int runGeneration = ++generation;
+            executor.execute(() -> runStep(runGeneration));
+            notifyAll();
+        }
+
+        /**
+         * Cancel delayed step run. Called with lock held.
+         */
+        private void cancelTimer() {
+            if (timer != null) {
+                timer.cancel(false);
+                timer = null;
+            }
+        }
+
+        /**
+         * Run one step when it was not already run or replaced by newer schedule.
+         * <p/>
+         *
+         * @param runGeneration Generation of scheduled step run.
+         */
+        private void runStep(final int runGeneration) {
+            final String METHOD = "runStep";
+            synchronized (this) {
+                if (finished || running || runGeneration != generation) {
+                    return;
+                }
+                generation++;
+                cancelTimer();
+                queued = false;
+                running = true;
+                woken = false;
+            }
+            long next = DONE;
+            try {
+                next = step.run();
+            } catch (RuntimeException | Error e) {
+                LOGGER.log(Level.WARNING, METHOD, "failed", e);
+            } finally {
+                synchronized (this) {
+                    running = false;
+                    if (next == DONE) {
+                        finished = true;
+                    } else if (next == 0 || woken) {
+                        queue();
+                    } else if (next != WAIT) {
+                        int delayedGeneration = ++generation;
+                        timer = executor.schedule(() -> runStep(delayedGeneration),
+                                next, TimeUnit.MILLISECONDS);
+                    }
+                    notifyAll();
+                }
+            }
+        }
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(LogTaskExecutor.class);
+
+    /** Step result: run next step when the task is woken up. */
+    public static final long WAIT = -1;
+
+    /** Step result: task is finished. */
+    public static final long DONE = -2;
+
+    /** Default number of log processing threads. */
+    public static final int DEFAULT_THREADS = 2;
+
+    /** System property with number of log processing threads. */
+    private static final String THREADS_PROPERTY = "glassfish.log.threads";
+
+    /** Shared executor instance. */
+    private static final LogTaskExecutor INSTANCE = new LogTaskExecutor(
+            Math.max(Integer.getInteger(THREADS_PROPERTY, DEFAULT_THREADS), 1));
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get shared log processing executor.
+     * <p/>
+     *
+     * @return Shared log processing executor.
+     */
+    public static LogTaskExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Executor running task steps. */
+    private final ScheduledThreadPoolExecutor executor;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of log processing executor.
+     * <p/>
+     *
+     * @param threads Number of log processing threads.
+     */
+    private LogTaskExecutor(final int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ScheduledThreadPoolExecutor(threads, r -> {
+            Thread thread = new Thread(r, "GlassFish Log Worker " + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Submit task. First step is queued immediately.
+     * <p/>
+     *
+     * @param step Task step.
+     * @return Handle of submitted task.
+     */
+    public Task submit(final Step step) {
+        Task task = new Task(step);
+        task.wakeUp();
+        return task;
+    }
+
+}
@@ -21,11 +21,9 @@ package org.glassfish.eclipse.tools.server.sdk.server;
 import java.io.Closeable;
 import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.net.Socket;
 import java.text.MessageFormat;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -43,13 +41,16 @@ import org.glassfish.eclipse.tools.server.sdk.admin.ResultMap;
 import org.glassfish.eclipse.tools.server.sdk.admin.ResultString;
 import org.glassfish.eclipse.tools.server.sdk.admin.ServerAdmin;
 import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
+import org.glassfish.eclipse.tools.server.sdk.utils.PortProbe;
 import org.glassfish.eclipse.tools.server.utils.Version;
 
 /**
  * Check server status using administration commands <code>__locations</code> and
  * <code>version</code> and also verify if server is at least listening on its administration port.
  * <p/>
- * Administration commands and port check are run in parallel to reduce delay.
+ * Administration commands and port check are run in parallel to reduce delay. Commands are queued
+ * in shared {@link org.glassfish.eclipse.tools.server.sdk.admin.CommandScheduler}, so no threads are
+ * owned by status check instance.
  * <p/>
  *
  * @author Tomas Kraus
@@ -661,21 +662,6 @@ public class ServerStatus implements Closeable {
         // Methods //
         ////////////////////////////////////////////////////////////////////////
 
-        /**
-         * Close socket and handle <code>IOException</code> that could be thrown.
-         * <p/>
-         *
-         * @param socket Socket to be closed.
-         */
-        private void closeSocket(final Socket socket) {
-            try {
-                socket.close();
-            } catch (IOException ioe) {
-                handleIOException(ioe, host, port,
-                        "Socket closing failed when connecting to {0}:{1}: {2}");
-            }
-        }
-
         /**
          * Handle IO Exception caught in server administration port verification task.
          * <p/>
@@ -718,10 +704,8 @@ public class ServerStatus implements Closeable {
             }
             this.tmStart = System.currentTimeMillis();
             InetSocketAddress sa = new InetSocketAddress(host, port);
-            Socket socket = new Socket();
             try {
-                socket.connect(sa, timeout);
-                socket.setSoTimeout(timeout);
+                PortProbe.getInstance().check(sa, timeout);
             } catch (java.net.ConnectException ce) {
                 handleIOException(ce, host, port,
                         "[{0}] Port check could not connect to {1}:{2}: {3}");
@@ -737,8 +721,6 @@ public class ServerStatus implements Closeable {
                         "[{0}] Port check caught IO exception when connecting to {1}:{2}: {3}");
                 result = new Result(Status.EXCEPTION, ioe);
                 return result;
-            } finally {
-                closeSocket(socket);
             }
             if (tmStart >= 0 && LOGGER.isLoggable(Level.FINE)) {
                 long tm = System.currentTimeMillis() - tmStart;
@@ -824,10 +806,10 @@ public class ServerStatus implements Closeable {
         /**
          * Start server Location task.
          */
-        void start(final ExecutorService executor) {
+        void start() {
             final String METHOD = "start";
             this.tmStart = System.currentTimeMillis();
-            future = ServerAdmin.<ResultMap<String, String>>exec(executor, server, command, this);
+            future = ServerAdmin.<ResultMap<String, String>>exec(server, command, this);
             if (tmStart >= 0 && LOGGER.isLoggable(Level.FINE)) {
                 long tm = System.currentTimeMillis() - tmStart;
                 LOGGER.log(Level.FINE, METHOD, "started", tm(tm));
@@ -888,7 +870,7 @@ public class ServerStatus implements Closeable {
          * Attempt to cancel execution of this task.
          */
         void cancel() {
-            if (!future.isDone()) {
+            if (future != null && !future.isDone()) {
                 future.cancel(true);
             }
         }
@@ -967,10 +949,10 @@ public class ServerStatus implements Closeable {
         /**
          * Start server Version task.
          */
-        void start(final ExecutorService executor) {
+        void start() {
             final String METHOD = "start";
             this.tmStart = System.currentTimeMillis();
-            future = ServerAdmin.<ResultString>exec(executor, server, command, this);
+            future = ServerAdmin.<ResultString>exec(server, command, this);
             if (tmStart >= 0 && LOGGER.isLoggable(Level.FINE)) {
                 long tm = System.currentTimeMillis() - tmStart;
                 LOGGER.log(Level.FINE, METHOD, "started", tm(tm));
@@ -1031,7 +1013,7 @@ public class ServerStatus implements Closeable {
          * Attempt to cancel execution of this task.
          */
         void cancel() {
-            if (!future.isDone()) {
+            if (future != null && !future.isDone()) {
                 future.cancel(true);
             }
         }
@@ -1044,9 +1026,6 @@ public class ServerStatus implements Closeable {
     /** Logger instance for this class. */
     private static final Logger LOGGER = new Logger(ServerStatus.class);
 
-    /** Executor thread pool size (amount of threads to run in parallel). */
-    private static final int EXECUTOR_POOL_SIZE = 2;
-
     /** Administration port connect timeout [ms]. */
     private static final int CONNECT_TIMEOUT = 15000;
 
@@ -1063,9 +1042,6 @@ public class ServerStatus implements Closeable {
     // Instance attributes //
     ////////////////////////////////////////////////////////////////////////////
 
-    /** Executor used to run asynchronous server status checks in parallel. */
-    private final ExecutorService executor;
-
     /**
      * Server status check task to verify if server administration port is alive.
      */
@@ -1093,7 +1069,7 @@ public class ServerStatus implements Closeable {
     /**
      * Creates an instance of server status check.
      * <p/>
-     * Method {@link #close()} must be called at the end to release system resources.
+     * Method {@link #close()} must be called at the end to cancel unfinished administration commands.
      * <p/>
      *
      * @param server GlassFish server to be checked.
@@ -1101,7 +1077,6 @@ public class ServerStatus implements Closeable {
      * when <code>true</code>.
      */
     public ServerStatus(final GlassFishServer server, final boolean startup) {
-        this.executor = ServerAdmin.executor(EXECUTOR_POOL_SIZE);
         this.adminPortTask = new AdminPortTask(server, CONNECT_TIMEOUT);
         this.versionTask = new VersionTask(server, startup);
         this.locationsTask = new LocationsTask(server, startup);
@@ -1174,8 +1149,8 @@ public class ServerStatus implements Closeable {
      * been available, remaining command tasks are canceled.
      */
     public void check() {
-        versionTask.start(executor);
-        locationsTask.start(executor);
+        versionTask.start();
+        locationsTask.start();
         Result result = adminPortTask.check();
         if (result.status != Status.SUCCESS) {
             versionTask.cancel();
@@ -1188,12 +1163,13 @@ public class ServerStatus implements Closeable {
     /**
      * Clean up all resources.
      * <p/>
-     * Removes internal thread pool.
+     * Cancels administration commands which are still queued or running.
      *
      */
     @Override
     public void close() {
-        executor.shutdownNow();
+        versionTask.cancel();
+        locationsTask.cancel();
     }
 
 }
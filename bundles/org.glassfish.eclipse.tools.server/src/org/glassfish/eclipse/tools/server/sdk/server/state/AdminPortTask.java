@@ -19,8 +19,11 @@
 package org.glassfish.eclipse.tools.server.sdk.server.state;
 
 import java.io.IOException;
+import java.net.ConnectException;
 import java.net.InetSocketAddress;
-import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 
 import org.glassfish.eclipse.tools.server.sdk.TaskEvent;
@@ -28,10 +31,14 @@ import org.glassfish.eclipse.tools.server.sdk.TaskState;
 import org.glassfish.eclipse.tools.server.sdk.data.GlassFishStatusCheck;
 import org.glassfish.eclipse.tools.server.sdk.data.GlassFishStatusCheckResult;
 import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
+import org.glassfish.eclipse.tools.server.sdk.utils.PortProbe;
 
 /**
  * Individual server status check task to verify if server administration port is alive.
  * <p/>
+ * Port is checked by non-blocking {@link PortProbe} connection attempt. Task thread is not blocked
+ * while waiting for connection, result is processed by supplied executor.
+ * <p/>
  *
  * @author Tomas Kraus
  */
@@ -77,6 +84,12 @@ class AdminPortTask extends AbstractTask {
     /** Socked connecting timeout [ms]. */
     int timeout;
 
+    /** Executor processing connection attempt result. */
+    private final Executor executor;
+
+    /** Connection attempt is running. Next run is skipped until it finishes. */
+    private volatile boolean inProgress;
+
     /** Server administration port status check result. */
     private StatusResult result;
 
@@ -97,11 +110,14 @@ class AdminPortTask extends AbstractTask {
      * @param job Server status check job internal data.
      * @param task Individual status check task data.
      * @param timeout Socked connecting timeout.
+     * @param executor Executor processing connection attempt result.
      */
     AdminPortTask(final StatusJob job, final StatusJob.Task task,
-            final int timeout) {
+            final int timeout, final Executor executor) {
         super(job, task, GlassFishStatusCheck.PORT);
         this.timeout = timeout;
+        this.executor = executor;
+        this.inProgress = false;
         this.result = null;
         this.tmStart = -1;
     }
@@ -141,23 +157,6 @@ class AdminPortTask extends AbstractTask {
         };
     }
 
-    /**
-     * Close socket and handle <code>IOException</code> that could be thrown.
-     * <p/>
-     *
-     * @param socket Socket to be closed.
-     */
-    private void closeSocket(final Socket socket) {
-        final String METHOD = "closeSocket";
-        try {
-            socket.close();
-        } catch (IOException ioe) {
-            handleIOException(ioe, job.getStatus().getServer().getHost(),
-                    job.getStatus().getServer().getAdminPort(),
-                    METHOD, "failed");
-        }
-    }
-
     /**
      * Handle IO Exception caught in server administration port verification task.
      * <p/>
@@ -214,24 +213,54 @@ class AdminPortTask extends AbstractTask {
             result = new StatusResult(GlassFishStatusCheckResult.FAILED);
             handleStateChange(TaskState.FAILED,
                     TaskEvent.CMD_FAILED, stateChangeArgs(null));
+            return;
+        }
+        if (inProgress) {
+            LOGGER.log(Level.FINEST, METHOD, "inProgress",
+                    job.getStatus().getServer().getName());
+            return;
         }
+        inProgress = true;
         this.tmStart = System.currentTimeMillis();
         InetSocketAddress sa = new InetSocketAddress(host, port);
-        Socket socket = new Socket();
-        try {
-            socket.connect(sa, timeout);
-            socket.setSoTimeout(timeout);
-        } catch (java.net.ConnectException ce) {
-            handleIOException(ce, host, port, METHOD, "connect");
+        PortProbe.getInstance().connect(sa, timeout).whenCompleteAsync(
+                (ignored, t) -> {
+                    try {
+                        handleResult(t, host, port);
+                    } finally {
+                        inProgress = false;
+                    }
+                }, executor);
+    }
+
+    /**
+     * Process result of administration port connection attempt.
+     * <p/>
+     *
+     * @param t Connection failure or <code>null</code> when connection was established.
+     * @param host Server administration host.
+     * @param port Server administration port.
+     */
+    private void handleResult(final Throwable t, final String host,
+            final int port) {
+        final String METHOD = "run";
+        Throwable cause = t instanceof CompletionException
+                ? t.getCause() : t;
+        if (cause instanceof ConnectException) {
+            handleIOException((IOException) cause, host, port, METHOD, "connect");
+            return;
+        }
+        if (cause instanceof SocketTimeoutException) {
+            handleIOException((IOException) cause, host, port, METHOD, "timeout");
             return;
-        } catch (java.net.SocketTimeoutException ste) {
-            handleIOException(ste, host, port, METHOD, "timeout");
+        }
+        if (cause instanceof IOException) {
+            handleIOException((IOException) cause, host, port, METHOD, "ioException");
             return;
-        } catch (IOException ioe) {
-            handleIOException(ioe, host, port, METHOD, "ioException");
+        }
+        if (cause != null) {
+            handleIOException(new IOException(cause), host, port, METHOD, "ioException");
             return;
-        } finally {
-            closeSocket(socket);
         }
         if (tmStart >= 0 && LOGGER.isLoggable(Level.FINEST)) {
             long tm = System.currentTimeMillis() - tmStart;
@@ -531,7 +531,7 @@ public class StatusScheduler {
      */
     private ScheduledFuture scheduleAdminPortTask(final StatusJob job) {
         AdminPortTask portTask = new AdminPortTask(job,
-                job.getPortCheck(), CONNECT_TIMEOUT);
+                job.getPortCheck(), CONNECT_TIMEOUT, executor);
         long delay = selectDelay(job.getState());
         long initialDelay = selectInitialDelay(job.getState());
         ScheduledFuture scheduledFuture = executor.scheduleWithFixedDelay(
@@ -150,26 +150,14 @@ public class NetUtils {
      */
     public static boolean isPortListeningRemote(final String host,
             final int port, final int timeout) {
-        final String METHOD = "isPortListeningRemote";
         if (null == host) {
             return false;
         }
-        Socket socket = null;
         try {
-            socket = new Socket();
-            socket.connect(new InetSocketAddress(host, port), timeout);
+            PortProbe.getInstance().check(new InetSocketAddress(host, port), timeout);
             return true;
         } catch (IOException ex) {
             return false;
-        } finally {
-            if (socket != null) {
-                try {
-                    socket.close();
-                } catch (IOException ioe) {
-                    LOGGER.log(Level.INFO, METHOD,
-                            "closeError", ioe.getLocalizedMessage());
-                }
-            }
         }
     }
 
@@ -0,0 +1,346 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.sdk.utils;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+
+import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
+
+/**
+ * Non-blocking TCP port reachability checks.
+ * <p/>
+ * All pending connection attempts are registered with single {@link Selector} served by one daemon
+ * thread. Every attempt has its own deadline, so any number of servers may be probed at the same
+ * time without occupying a thread per server while waiting for connection or timeout.
+ * <p/>
+ */
+public final class PortProbe {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Single pending connection attempt.
+     */
+    private static final class Probe {
+
+        /** Address being connected. */
+        private final InetSocketAddress address;
+
+        /** Absolute deadline in nanoseconds or <code>0</code> for no deadline. */
+        private final long deadline;
+
+        /** Result of connection attempt. */
+        private final CompletableFuture<Void> result;
+
+        /** Channel used to connect. */
+        private SocketChannel channel;
+
+        /**
+         * Creates an instance of pending connection attempt.
+         * <p/>
+         *
+         * @param address Address to connect.
+         * @param timeout Connection timeout [ms], <code>0</code> means no timeout.
+         */
+        private Probe(final InetSocketAddress address, final int timeout) {
+            this.address = address;
+            this.deadline = timeout > 0
+                    ? Math.max(System.nanoTime() + timeout * 1000000L, 1) : 0;
+            this.result = new CompletableFuture<>();
+        }
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(PortProbe.class);
+
+    /** Selector thread name. */
+    private static final String THREAD_NAME = "GlassFish Port Probe";
+
+    /** Time added to connection timeout when waiting for result [ms]. */
+    private static final int CHECK_SLACK = 1000;
+
+    /** Singleton instance. */
+    private static final PortProbe INSTANCE = new PortProbe();
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get port probe singleton instance.
+     * <p/>
+     *
+     * @return Port probe instance.
+     */
+    public static PortProbe getInstance() {
+        return INSTANCE;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Connection attempts waiting for registration with selector. */
+    private final Queue<Probe> pending = new ConcurrentLinkedQueue<>();
+
+    /** Selector serving all connection attempts, created with selector thread. */
+    private Selector selector;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of port probe. Selector thread is started with first connection attempt.
+     */
+    private PortProbe() {
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Start asynchronous connection attempt to given address.
+     * <p/>
+     * Returned future completes normally when connection was established or exceptionally with
+     * {@link ConnectException}, {@link SocketTimeoutException} or another {@link IOException} when
+     * connection failed. Connection is closed immediately after being established.
+     * <p/>
+     *
+     * @param address Address to connect. Unresolved address fails immediately.
+     * @param timeout Connection timeout [ms], <code>0</code> means no timeout.
+     * @return Result of connection attempt.
+     */
+    public CompletableFuture<Void> connect(final InetSocketAddress address, final int timeout) {
+        Probe probe = new Probe(address, timeout);
+        if (address.isUnresolved()) {
+            probe.result.completeExceptionally(
+                    new ConnectException("Unresolved address " + address.getHostString()));
+            return probe.result;
+        }
+        try {
+            Selector sel = selector();
+            pending.add(probe);
+            sel.wakeup();
+        } catch (IOException ioe) {
+            probe.result.completeExceptionally(ioe);
+        }
+        return probe.result;
+    }
+
+    /**
+     * Connect to given address and wait for result.
+     * <p/>
+     * Waiting is bounded by connection timeout extended by {@link #CHECK_SLACK}, so caller is
+     * never blocked by a stuck selector thread.
+     * <p/>
+     *
+     * @param address Address to connect.
+     * @param timeout Connection timeout [ms], <code>0</code> means no timeout.
+     * @throws IOException when connection could not be established.
+     */
+    public void check(final InetSocketAddress address, final int timeout)
+            throws IOException {
+        CompletableFuture<Void> result = connect(address, timeout);
+        try {
+            if (timeout > 0) {
+                result.get(timeout + CHECK_SLACK, TimeUnit.MILLISECONDS);
+            } else {
+                result.get();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ie.getMessage());
+        } catch (TimeoutException te) {
+            result.cancel(false);
+            throw new SocketTimeoutException("Connect result not received in time");
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    /**
+     * Get selector, opening it and starting selector thread when called for the first time.
+     * <p/>
+     *
+     * @return Selector serving all connection attempts.
+     * @throws IOException when selector could not be opened.
+     */
+    private synchronized Selector selector() throws IOException {
+        if (selector == null) {
+            Selector sel = Selector.open();
+            Thread thread = new Thread(() -> run(sel), THREAD_NAME);
+            thread.setDaemon(true);
+            thread.start();
+            selector = sel;
+        }
+        return selector;
+    }
+
+    /**
+     * Selector thread main loop.
+     * <p/>
+     *
+     * @param sel Selector serving all connection attempts.
+     */
+    private void run(final Selector sel) {
+        final String METHOD = "run";
+        while (true) {
+            try {
+                register(sel);
+                sel.select(nextTimeout(sel));
+                Iterator<SelectionKey> keys = sel.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    finish(key);
+                }
+                expire(sel);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(Level.WARNING, METHOD, "selectError", e);
+            }
+        }
+    }
+
+    /**
+     * Register pending connection attempts with selector.
+     * <p/>
+     * Any failure of single attempt, including runtime exceptions thrown for unsupported
+     * addresses, fails just that attempt.
+     * <p/>
+     *
+     * @param sel Selector serving all connection attempts.
+     */
+    private void register(final Selector sel) {
+        Probe probe;
+        while ((probe = pending.poll()) != null) {
+            try {
+                probe.channel = SocketChannel.open();
+                probe.channel.configureBlocking(false);
+                if (probe.channel.connect(probe.address)) {
+                    complete(probe, null);
+                } else {
+                    probe.channel.register(sel, SelectionKey.OP_CONNECT, probe);
+                }
+            } catch (IOException ioe) {
+                complete(probe, ioe);
+            } catch (RuntimeException re) {
+                complete(probe, new IOException(re));
+            }
+        }
+    }
+
+    /**
+     * Finish connection attempt which channel is ready.
+     * <p/>
+     *
+     * @param key Selection key of ready channel.
+     */
+    private void finish(final SelectionKey key) {
+        Probe probe = (Probe) key.attachment();
+        try {
+            if (probe.channel.finishConnect()) {
+                complete(probe, null);
+            }
+        } catch (IOException ioe) {
+            complete(probe, ioe);
+        } catch (RuntimeException re) {
+            complete(probe, new IOException(re));
+        }
+    }
+
+    /**
+     * Fail all connection attempts with passed deadline.
+     * <p/>
+     *
+     * @param sel Selector serving all connection attempts.
+     */
+    private void expire(final Selector sel) {
+        long now = System.nanoTime();
+        for (SelectionKey key : sel.keys()) {
+            Probe probe = (Probe) key.attachment();
+            if (key.isValid() && probe.deadline != 0 && now - probe.deadline >= 0) {
+                complete(probe, new SocketTimeoutException("Connect timed out"));
+            }
+        }
+    }
+
+    /**
+     * Compute selector waiting time until nearest deadline.
+     * <p/>
+     *
+     * @param sel Selector serving all connection attempts.
+     * @return Selector waiting time [ms], <code>0</code> when there is no deadline.
+     */
+    private long nextTimeout(final Selector sel) {
+        long now = System.nanoTime();
+        long next = Long.MAX_VALUE;
+        for (SelectionKey key : sel.keys()) {
+            Probe probe = (Probe) key.attachment();
+            if (key.isValid() && probe.deadline != 0) {
+                next = Math.min(next, probe.deadline - now);
+            }
+        }
+        if (next == Long.MAX_VALUE) {
+            return 0;
+        }
+        return Math.max(next / 1000000L + 1, 1);
+    }
+
+    /**
+     * Close channel of connection attempt and complete its result.
+     * <p/>
+     *
+     * @param probe Connection attempt.
+     * @param ioe Connection failure or <code>null</code> when connection was established.
+     */
+    private void complete(final Probe probe, final IOException ioe) {
+        final String METHOD = "complete";
+        if (probe.channel != null) {
+            try {
+                probe.channel.close();
+            } catch (IOException closeEx) {
+                LOGGER.log(Level.INFO, METHOD, "closeError", closeEx.getLocalizedMessage());
+            }
+        }
+        if (ioe == null) {
+            probe.result.complete(null);
+        } else {
+            probe.result.completeExceptionally(ioe);
+        }
+    }
+
+}
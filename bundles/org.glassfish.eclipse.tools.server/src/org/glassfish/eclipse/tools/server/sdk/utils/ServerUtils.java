@@ -23,6 +23,7 @@ import java.io.FileFilter;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -30,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 import java.util.logging.Level;
@@ -38,6 +40,7 @@ import java.util.regex.Pattern;
 
 import org.glassfish.eclipse.tools.server.GlassFishServer;
 import org.glassfish.eclipse.tools.server.sdk.admin.CommandException;
+import org.glassfish.eclipse.tools.server.sdk.admin.ManifestResponse;
 import org.glassfish.eclipse.tools.server.sdk.data.GlassFishContainer;
 import org.glassfish.eclipse.tools.server.sdk.logging.Logger;
 import org.glassfish.eclipse.tools.server.utils.Version;
@@ -236,7 +239,7 @@ public class ServerUtils {
      */
     public static final String GF_SERVICE_NOT_YET_READY_MSG = "V3 cannot process this command at this time, please wait";
     /** End of line sequence in Manifest. */
-    public static final String MANIFEST_EOL = "%%%EOL%%%";
+    public static final String MANIFEST_EOL = ManifestResponse.MANIFEST_EOL;
 
     /**
      * REGEX expression used to split resources returned in <code>Manifest</code> object from HTTP
@@ -594,10 +597,7 @@ public class ServerUtils {
      * @param str String to be decoded.
      */
     public static String manifestDecode(final String str) {
-        if (str == null) {
-            return null;
-        }
-        return str.replaceAll(MANIFEST_EOL, "\n");
+        return ManifestResponse.decode(str);
     }
 
     /**
@@ -670,6 +670,28 @@ public class ServerUtils {
                 : NetUtils.isHttpPortListeningLocal(server.getHost(), server.getAdminPort());
     }
 
+    /**
+     * Tests if the server administrator's port is occupied without blocking calling thread.
+     * <p/>
+     * Port is tested by connection attempt of {@link PortProbe}. Local server has to accept
+     * connection within {@link NetUtils#PORT_CHECK_TIMEOUT}, remote server connection attempt is
+     * limited by operating system only, as in {@link #isAdminPortListening(GlassFishServer)}.
+     * <p/>
+     *
+     * @param server GlassFish server entity.
+     * @return Future completed with value of <code>true</code> when server administrator port is
+     * occupied or <code>false</code> otherwise. Future never completes exceptionally.
+     */
+    public static CompletableFuture<Boolean> isAdminPortListeningAsync(final GlassFishServer server) {
+        if (server.getHost() == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        int timeout = server.isRemote() ? 0 : NetUtils.PORT_CHECK_TIMEOUT;
+        return PortProbe.getInstance()
+                .connect(new InetSocketAddress(server.getHost(), server.getAdminPort()), timeout)
+                .handle((connected, thrown) -> thrown == null);
+    }
+
     /**
      * Builds command line argument containing argument identifier, space and argument value, e.g.
      * <code>--name value</code>.
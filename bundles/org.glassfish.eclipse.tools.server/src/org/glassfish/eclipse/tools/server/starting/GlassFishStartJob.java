@@ -35,6 +35,7 @@ import org.eclipse.debug.core.ILaunchConfiguration;
 import org.glassfish.eclipse.tools.server.deploying.GlassFishServerBehaviour;
 import org.glassfish.eclipse.tools.server.exceptions.GlassFishLaunchException;
 import org.glassfish.eclipse.tools.server.log.IGlassFishConsole;
+import org.glassfish.eclipse.tools.server.log.ILogLineListener;
 import org.glassfish.eclipse.tools.server.sdk.GlassFishIdeException;
 import org.glassfish.eclipse.tools.server.sdk.admin.ResultProcess;
 import org.glassfish.eclipse.tools.server.sdk.server.FetchLogSimple;
@@ -69,106 +70,116 @@ public class GlassFishStartJob implements Callable<ResultProcess> {
 
         Process glassfishProcess = process.getValue().getProcess();
 
+        // Watch logs to check server status as soon as it reports being ready
+        StartupReadinessDetector readinessDetector = new StartupReadinessDetector(
+                glassfishServerBehaviour.getGlassFishServerDelegate());
+
         // Read process std output to prevent process'es blocking
-        IGlassFishConsole startupConsole = startLogging(glassfishProcess);
+        IGlassFishConsole startupConsole = startLogging(glassfishProcess, readinessDetector);
 
         IGlassFishConsole filelogConsole = getStandardConsole(glassfishServerBehaviour.getGlassFishServerDelegate());
+        filelogConsole.addLogLineListener(readinessDetector);
 
-        synchronized (glassfishServerBehaviour) {
-
-            boolean attached = false;
-            boolean hasLogged = false;
-            boolean hasLoggedGlassFish = false;
-
-            // Query the process status in a loop
-
-            check_server_status: while (true) {
+        try {
+            synchronized (glassfishServerBehaviour) {
+
+                boolean attached = false;
+                boolean hasLogged = false;
+                boolean hasLoggedGlassFish = false;
+
+                // Query the process status in a loop
+
+                check_server_status: while (true) {
+
+                    switch (glassfishServerBehaviour.getServerStatus(false)) {
+                        case STOPPED_NOT_LISTENING:
+                            try {
+                                if (glassfishProcess.isAlive()) {
+
+                                    // Server is not (yet) listening.
+                                    // Check if we need to attach the debugger for it to continue.
+                                    // This happens when the server is started in debug with halt on start
+
+                                    if (earlyAttach && mode == DEBUG && !attached) {
+                                        try {
+                                            glassfishServerBehaviour.attach(launch, configuration.getWorkingCopy(), null, getDebugPort(process));
+                                            checkMonitorAndProgress(monitor, WORK_STEP);
+                                            attached = true;
+                                        } catch (CoreException e) {
+                                            // Process may not have reached the point where it waits for a remote connection
+                                            logMessage(e.getMessage());
+                                        }
+                                    }
+                                } else {
+                                    int exitCode = glassfishProcess.exitValue();
 
-                switch (glassfishServerBehaviour.getServerStatus(false)) {
-                    case STOPPED_NOT_LISTENING:
-                        try {
-                            if (glassfishProcess.isAlive()) {
+                                    if (exitCode != 0) {
+                                        // Something bad happened, show user startup console
 
-                                // Server is not (yet) listening.
-                                // Check if we need to attach the debugger for it to continue.
-                                // This happens when the server is started in debug with halt on start
+                                        logMessage("launch failed with exit code " + exitCode);
+                                        showConsole(startupConsole);
 
-                                if (earlyAttach && mode == DEBUG && !attached) {
-                                    try {
-                                        glassfishServerBehaviour.attach(launch, configuration.getWorkingCopy(), null, getDebugPort(process));
-                                        checkMonitorAndProgress(monitor, WORK_STEP);
-                                        attached = true;
-                                    } catch (CoreException e) {
-                                        // Process may not have reached the point where it waits for a remote connection
-                                        logMessage(e.getMessage());
+                                        throw new GlassFishLaunchException("Launch process failed with exit code " + exitCode);
                                     }
                                 }
-                            } else {
-                                int exitCode = glassfishProcess.exitValue();
-
-                                if (exitCode != 0) {
-                                    // Something bad happened, show user startup console
 
-                                    logMessage("launch failed with exit code " + exitCode);
-                                    showConsole(startupConsole);
-
-                                    throw new GlassFishLaunchException("Launch process failed with exit code " + exitCode);
-                                }
+                            } catch (IllegalThreadStateException e) { // still running, keep waiting
                             }
 
-                        } catch (IllegalThreadStateException e) { // still running, keep waiting
-                        }
-
-                        break;
-                    case RUNNING_PROXY_ERROR:
-                        startupConsole.stopLogging();
-                        glassfishProcess.destroy();
-
-                        throw new GlassFishLaunchException(
-                            "BAD GATEWAY response code returned. Check your proxy settings. Killing startup process.",
-                            glassfishProcess);
-                    case RUNNING_CREDENTIAL_PROBLEM:
-                        startupConsole.stopLogging();
-                        glassfishProcess.destroy();
-                        AdminCredentialsDialog.open(glassfishServerBehaviour.getServer());
+                            break;
+                        case RUNNING_PROXY_ERROR:
+                            startupConsole.stopLogging();
+                            glassfishProcess.destroy();
+
+                            throw new GlassFishLaunchException(
+                                "BAD GATEWAY response code returned. Check your proxy settings. Killing startup process.",
+                                glassfishProcess);
+                        case RUNNING_CREDENTIAL_PROBLEM:
+                            startupConsole.stopLogging();
+                            glassfishProcess.destroy();
+                            AdminCredentialsDialog.open(glassfishServerBehaviour.getServer());
+
+                            throw new GlassFishLaunchException("Wrong user name or password. Killing startup process.",
+                                glassfishProcess);
+                        case RUNNING_DOMAIN_MATCHING:
+                            startupConsole.stopLogging();
+                            break check_server_status;
+                        default:
+                            break;
+                    }
 
-                        throw new GlassFishLaunchException("Wrong user name or password. Killing startup process.",
-                            glassfishProcess);
-                    case RUNNING_DOMAIN_MATCHING:
-                        startupConsole.stopLogging();
-                        break check_server_status;
-                    default:
-                        break;
-                }
+                    // Wait for notification when server state changes
+                    try {
+                        checkMonitor(monitor);
 
-                // Wait for notification when server state changes
-                try {
-                    checkMonitor(monitor);
+                        // Limit waiting so we can check process exit code again
+                        glassfishServerBehaviour.wait(500);
 
-                    // Limit waiting so we can check process exit code again
-                    glassfishServerBehaviour.wait(500);
+                        if (!hasLogged && (startupConsole.hasLogged() || filelogConsole.hasLogged())) {
+                            // Something has been logged meaning the JVM of the target
+                            // process is activated. Could be JVM logging first
+                            // like "waiting for connection", or the first log line of GlassFish starting
+                            hasLogged = true;
+                            checkMonitorAndProgress(monitor, WORK_STEP / 4);
+                        }
 
-                    if (!hasLogged && (startupConsole.hasLogged() || filelogConsole.hasLogged())) {
-                        // Something has been logged meaning the JVM of the target
-                        // process is activated. Could be JVM logging first
-                        // like "waiting for connection", or the first log line of GlassFish starting
-                        hasLogged = true;
-                        checkMonitorAndProgress(monitor, WORK_STEP / 4);
-                    }
+                        if (!hasLoggedGlassFish && filelogConsole.hasLoggedGlassFish()) {
 
-                    if (!hasLoggedGlassFish && filelogConsole.hasLoggedGlassFish()) {
+                            // A GlassFish logline has been written, meaning GlassFish is now starting up.
+                            hasLoggedGlassFish = true;
+                            checkMonitorAndProgress(monitor, WORK_STEP / 4);
+                        }
 
-                        // A GlassFish logline has been written, meaning GlassFish is now starting up.
-                        hasLoggedGlassFish = true;
-                        checkMonitorAndProgress(monitor, WORK_STEP / 4);
+                    } catch (InterruptedException e) {
+                        startupConsole.stopLogging();
+                        glassfishProcess.destroy();
+                        throw e;
                     }
-
-                } catch (InterruptedException e) {
-                    startupConsole.stopLogging();
-                    glassfishProcess.destroy();
-                    throw e;
                 }
             }
+        } finally {
+            startupConsole.removeLogLineListener(readinessDetector);
+            filelogConsole.removeLogLineListener(readinessDetector);
         }
 
         return process;
@@ -184,8 +195,9 @@ public class GlassFishStartJob implements Callable<ResultProcess> {
         }
     }
 
-    private IGlassFishConsole startLogging(Process glassfishProcess) {
+    private IGlassFishConsole startLogging(Process glassfishProcess, ILogLineListener lineListener) {
         IGlassFishConsole startupConsole = getStartupProcessConsole(glassfishServerBehaviour.getGlassFishServerDelegate(), glassfishProcess);
+        startupConsole.addLogLineListener(lineListener);
 
         startupConsole.startLogging(
                 new FetchLogSimple(glassfishProcess.getInputStream()),
@@ -0,0 +1,58 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.starting;
+
+import java.util.regex.Pattern;
+
+import org.glassfish.eclipse.tools.server.GlassFishServer;
+import org.glassfish.eclipse.tools.server.internal.ServerStatusEngine;
+import org.glassfish.eclipse.tools.server.log.ILogLineListener;
+
+/**
+ * Watches log of starting server for messages telling that the server is ready and requests
+ * immediate status check when they appear, so the start is detected without waiting for next
+ * periodic check.
+ * <p>
+ * Recognized messages are the startup time record written when server startup completes and the
+ * message about network listener bound to administration port. Periodic status checks still run,
+ * they are the only way to detect start when no log is available.
+ * </p>
+ */
+public class StartupReadinessDetector implements ILogLineListener {
+
+    /** Startup time record, its message id is <code>NCLS-CORE-00017</code>. */
+    private static final Pattern STARTUP_COMPLETE = Pattern.compile("NCLS-CORE-00017|startup time\\s*:");
+
+    private final GlassFishServer server;
+
+    /** Listener bound to administration port, e.g. <code>bound to [/0.0.0.0:4848]</code>. */
+    private final Pattern adminListener;
+
+    private volatile boolean adminListenerBound;
+
+    private volatile boolean startupComplete;
+
+    public StartupReadinessDetector(GlassFishServer server) {
+        this.server = server;
+        this.adminListener = Pattern.compile("bound to \\[[^\\]]*:" + server.getAdminPort() + "\\]");
+    }
+
+    @Override
+    public void lineRead(String line) {
+        if (!startupComplete && STARTUP_COMPLETE.matcher(line).find()) {
+            startupComplete = true;
+            ServerStatusEngine.getInstance().requestCheck(server);
+        } else if (!adminListenerBound && adminListener.matcher(line).find()) {
+            adminListenerBound = true;
+            ServerStatusEngine.getInstance().requestCheck(server);
+        }
+    }
+
+}
@@ -0,0 +1,341 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.ui.log;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.layout.GridDataFactory;
+import org.eclipse.jface.layout.GridLayoutFactory;
+import org.eclipse.jface.viewers.ILazyContentProvider;
+import org.eclipse.jface.viewers.ITableLabelProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Combo;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.ui.console.ConsolePlugin;
+import org.eclipse.ui.console.IConsole;
+import org.eclipse.ui.console.IConsoleListener;
+import org.eclipse.ui.part.ViewPart;
+import org.glassfish.eclipse.tools.server.log.AbstractGlassFishConsole;
+import org.glassfish.eclipse.tools.server.log.LogRecordStore;
+
+/**
+ * View of log records of GlassFish consoles, filtered by level, logger, thread, time and message
+ * text.
+ * <p>
+ * Records are queried from {@link LogRecordStore} of selected console in background and shown in a
+ * virtual table, so only visible rows are read from the store. Records dropped from the store while
+ * shown are queried again.
+ * </p>
+ */
+public class LogRecordsView extends ViewPart {
+
+    public static final String ID = "org.glassfish.eclipse.tools.server.ui.log.LogRecordsView";
+
+    /** Delay between filter change and query in milliseconds. */
+    private static final int QUERY_DELAY = 300;
+
+    private static final String[] LEVELS = { "All levels", "SEVERE", "WARNING", "INFO", "CONFIG", "FINE",
+            "FINER", "FINEST" };
+
+    private static final int[] LEVEL_VALUES = { 0, 1000, 900, 800, 700, 500, 400, 300 };
+
+    private static final String[] PERIODS = { "Any time", "Last 5 minutes", "Last 15 minutes", "Last hour",
+            "Last 24 hours" };
+
+    private static final long[] PERIOD_MILLIS = { 0, 5 * 60_000, 15 * 60_000, 60 * 60_000, 24 * 60 * 60_000 };
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS")
+            .withZone(ZoneId.systemDefault());
+
+    private final List<AbstractGlassFishConsole> consoles = new ArrayList<>();
+
+    private final IConsoleListener consoleListener = new IConsoleListener() {
+
+        @Override
+        public void consolesAdded(IConsole[] added) {
+            asyncRun(LogRecordsView.this::updateConsoles);
+        }
+
+        @Override
+        public void consolesRemoved(IConsole[] removed) {
+            asyncRun(LogRecordsView.this::updateConsoles);
+        }
+    };
+
+    private final Runnable queryRunner = this::query;
+
+    private Combo consoleCombo;
+
+    private Combo levelCombo;
+
+    private Combo periodCombo;
+
+    private Text loggerText;
+
+    private Text threadText;
+
+    private Text messageText;
+
+    private Label statusLabel;
+
+    private TableViewer viewer;
+
+    /** Store of shown records and record numbers of shown records. */
+    private LogRecordStore shownStore;
+
+    private long[] shownRecords = new long[0];
+
+    private Job queryJob;
+
+    @Override
+    public void createPartControl(Composite parent) {
+        GridLayoutFactory.fillDefaults().margins(5, 5).applyTo(parent);
+
+        Composite filters = new Composite(parent, SWT.NONE);
+        GridLayoutFactory.fillDefaults().numColumns(7).applyTo(filters);
+        GridDataFactory.fillDefaults().grab(true, false).applyTo(filters);
+
+        consoleCombo = new Combo(filters, SWT.READ_ONLY);
+        consoleCombo.addModifyListener(e -> scheduleQuery());
+        levelCombo = createCombo(filters, LEVELS);
+        periodCombo = createCombo(filters, PERIODS);
+        loggerText = createText(filters, "Logger prefix");
+        threadText = createText(filters, "Thread");
+        messageText = createText(filters, "Message text");
+
+        Button refresh = new Button(filters, SWT.PUSH);
+        refresh.setText("Refresh");
+        refresh.addListener(SWT.Selection, e -> query());
+
+        viewer = new TableViewer(parent, SWT.VIRTUAL | SWT.FULL_SELECTION | SWT.MULTI | SWT.BORDER);
+        Table table = viewer.getTable();
+        table.setHeaderVisible(true);
+        table.setLinesVisible(true);
+        GridDataFactory.fillDefaults().grab(true, true).applyTo(table);
+        createColumn(table, "Time", 170);
+        createColumn(table, "Level", 70);
+        createColumn(table, "Logger", 200);
+        createColumn(table, "Thread", 150);
+        createColumn(table, "Message", 600);
+        viewer.setUseHashlookup(true);
+        viewer.setContentProvider(new RecordContentProvider());
+        viewer.setLabelProvider(new RecordLabelProvider());
+
+        statusLabel = new Label(parent, SWT.NONE);
+        GridDataFactory.fillDefaults().grab(true, false).applyTo(statusLabel);
+
+        ConsolePlugin.getDefault().getConsoleManager().addConsoleListener(consoleListener);
+        updateConsoles();
+    }
+
+    @Override
+    public void setFocus() {
+        viewer.getControl().setFocus();
+    }
+
+    @Override
+    public void dispose() {
+        ConsolePlugin.getDefault().getConsoleManager().removeConsoleListener(consoleListener);
+        if (queryJob != null) {
+            queryJob.cancel();
+        }
+        super.dispose();
+    }
+
+    private Combo createCombo(Composite parent, String[] items) {
+        Combo combo = new Combo(parent, SWT.READ_ONLY);
+        combo.setItems(items);
+        combo.select(0);
+        combo.addModifyListener(e -> scheduleQuery());
+        return combo;
+    }
+
+    private Text createText(Composite parent, String message) {
+        Text text = new Text(parent, SWT.BORDER | SWT.SEARCH);
+        text.setMessage(message);
+        GridDataFactory.fillDefaults().grab(true, false).hint(100, SWT.DEFAULT).applyTo(text);
+        text.addModifyListener(e -> scheduleQuery());
+        return text;
+    }
+
+    private static void createColumn(Table table, String name, int width) {
+        TableColumn column = new TableColumn(table, SWT.LEFT);
+        column.setText(name);
+        column.setWidth(width);
+    }
+
+    private void asyncRun(Runnable runnable) {
+        if (!viewer.getControl().isDisposed()) {
+            viewer.getControl().getDisplay().asyncExec(() -> {
+                if (!viewer.getControl().isDisposed()) {
+                    runnable.run();
+                }
+            });
+        }
+    }
+
+    private void updateConsoles() {
+        AbstractGlassFishConsole selected = selectedConsole();
+        consoles.clear();
+        for (IConsole console : ConsolePlugin.getDefault().getConsoleManager().getConsoles()) {
+            if (console instanceof AbstractGlassFishConsole) {
+                consoles.add((AbstractGlassFishConsole) console);
+            }
+        }
+        String[] names = new String[consoles.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = consoles.get(i).getName();
+        }
+        consoleCombo.setItems(names);
+        int index = consoles.indexOf(selected);
+        consoleCombo.select(index >= 0 ? index : 0);
+        scheduleQuery();
+    }
+
+    private AbstractGlassFishConsole selectedConsole() {
+        int index = consoleCombo.getSelectionIndex();
+        return index >= 0 && index < consoles.size() ? consoles.get(index) : null;
+    }
+
+    private void scheduleQuery() {
+        viewer.getControl().getDisplay().timerExec(-1, queryRunner);
+        viewer.getControl().getDisplay().timerExec(QUERY_DELAY, queryRunner);
+    }
+
+    /**
+     * Queries records of selected console matching filters in background job.
+     */
+    private void query() {
+        if (viewer.getControl().isDisposed()) {
+            return;
+        }
+        AbstractGlassFishConsole console = selectedConsole();
+        if (console == null) {
+            show(null, new long[0]);
+            return;
+        }
+        LogRecordStore store = console.getRecordStore();
+        int level = LEVEL_VALUES[Math.max(levelCombo.getSelectionIndex(), 0)];
+        long period = PERIOD_MILLIS[Math.max(periodCombo.getSelectionIndex(), 0)];
+        LogRecordStore.Query query = new LogRecordStore.Query(
+                level > 0 ? level : null,
+                loggerText.getText().trim(),
+                threadText.getText().trim(),
+                period > 0 ? System.currentTimeMillis() - period : null,
+                null,
+                messageText.getText());
+
+        if (queryJob != null) {
+            queryJob.cancel();
+        }
+        queryJob = new Job("Querying GlassFish log records") {
+
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                long[] records = store.query(query);
+                if (!monitor.isCanceled()) {
+                    asyncRun(() -> {
+                        if (queryJob == this) {
+                            show(store, records);
+                        }
+                    });
+                }
+                return Status.OK_STATUS;
+            }
+        };
+        queryJob.setSystem(true);
+        queryJob.schedule();
+    }
+
+    private void show(LogRecordStore store, long[] records) {
+        shownStore = store;
+        shownRecords = records;
+        viewer.setInput(records);
+        viewer.setItemCount(records.length);
+        statusLabel.setText(store == null ? "No GlassFish console"
+                : records.length + " of " + store.size() + " log records");
+    }
+
+    private class RecordContentProvider implements ILazyContentProvider {
+
+        @Override
+        public void updateElement(int index) {
+            if (index < shownRecords.length) {
+                viewer.replace(Long.valueOf(shownRecords[index]), index);
+            }
+        }
+
+    }
+
+    private class RecordLabelProvider extends LabelProvider implements ITableLabelProvider {
+
+        @Override
+        public Image getColumnImage(Object element, int columnIndex) {
+            return null;
+        }
+
+        @Override
+        public String getColumnText(Object element, int columnIndex) {
+            long record = (Long) element;
+            if (shownStore == null) {
+                return "";
+            }
+            String text = getText(record, columnIndex);
+            if (text == null) {
+                // Record was dropped from the store
+                scheduleQuery();
+                return "";
+            }
+            return text;
+        }
+
+        private String getText(long record, int columnIndex) {
+            switch (columnIndex) {
+            case 0:
+                if (record < shownStore.getFirstRecord()) {
+                    return null;
+                }
+                long time = shownStore.getTime(record);
+                return time == LogRecordStore.NO_TIME ? "" : TIME_FORMAT.format(Instant.ofEpochMilli(time));
+            case 1:
+                return shownStore.getLevel(record);
+            case 2:
+                return shownStore.getLogger(record);
+            case 3:
+                return shownStore.getThread(record);
+            default:
+                String message = shownStore.getMessage(record);
+                if (message == null) {
+                    return null;
+                }
+                int end = message.indexOf('\n');
+                return end < 0 ? message : message.substring(0, end);
+            }
+        }
+
+    }
+
+}
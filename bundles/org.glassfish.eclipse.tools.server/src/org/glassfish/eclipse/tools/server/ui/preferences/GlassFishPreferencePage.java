@@ -18,12 +18,17 @@
 
 package org.glassfish.eclipse.tools.server.ui.preferences;
 
+import static org.glassfish.eclipse.tools.server.preferences.PreferenceConstants.CONSOLE_MAX_CHARS;
+import static org.glassfish.eclipse.tools.server.preferences.PreferenceConstants.CONSOLE_MAX_LINES;
+import static org.glassfish.eclipse.tools.server.preferences.PreferenceConstants.LOG_RECORDS_MAX;
+import static org.glassfish.eclipse.tools.server.preferences.PreferenceConstants.LOG_RECORDS_MEMORY;
 import static org.glassfish.eclipse.tools.server.preferences.PreferenceConstants.ENABLE_COLORS_CONSOLE;
 import static org.glassfish.eclipse.tools.server.preferences.PreferenceConstants.ENABLE_LOG;
 import static org.glassfish.eclipse.tools.server.preferences.PreferenceConstants.ENABLE_START_VERBOSE;
 
 import org.eclipse.jface.preference.BooleanFieldEditor;
 import org.eclipse.jface.preference.FieldEditorPreferencePage;
+import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.ui.IWorkbench;
 import org.eclipse.ui.IWorkbenchPreferencePage;
 import org.glassfish.eclipse.tools.server.GlassFishServerPlugin;
@@ -69,6 +74,34 @@ public class GlassFishPreferencePage extends FieldEditorPreferencePage implement
                         ENABLE_COLORS_CONSOLE,
                         "Enable colored rendering in the GlassFish Log Viewer",
                         getFieldEditorParent()));
+
+        IntegerFieldEditor maxLines = new IntegerFieldEditor(
+                CONSOLE_MAX_LINES,
+                "Maximum number of log lines waiting for the GlassFish Log Viewer",
+                getFieldEditorParent());
+        maxLines.setValidRange(100, 1000000);
+        addField(maxLines);
+
+        IntegerFieldEditor maxChars = new IntegerFieldEditor(
+                CONSOLE_MAX_CHARS,
+                "Maximum number of characters kept in the GlassFish Log Viewer",
+                getFieldEditorParent());
+        maxChars.setValidRange(10000, 100000000);
+        addField(maxChars);
+
+        IntegerFieldEditor maxRecords = new IntegerFieldEditor(
+                LOG_RECORDS_MAX,
+                "Maximum number of log records kept for the GlassFish Log Records view",
+                getFieldEditorParent());
+        maxRecords.setValidRange(1000, 10000000);
+        addField(maxRecords);
+
+        IntegerFieldEditor recordsMemory = new IntegerFieldEditor(
+                LOG_RECORDS_MEMORY,
+                "Characters of log record messages kept in memory (older ones are moved to disk)",
+                getFieldEditorParent());
+        recordsMemory.setValidRange(10000, 100000000);
+        addField(recordsMemory);
     }
 
     /*
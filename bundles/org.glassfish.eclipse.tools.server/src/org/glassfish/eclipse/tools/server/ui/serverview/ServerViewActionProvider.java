@@ -29,11 +29,13 @@ import org.eclipse.ui.navigator.ICommonActionExtensionSite;
 import org.eclipse.ui.navigator.ICommonViewerSite;
 import org.eclipse.ui.navigator.ICommonViewerWorkbenchSite;
 import org.glassfish.eclipse.tools.server.ui.serverview.actions.OpenInBrowserAction;
+import org.glassfish.eclipse.tools.server.ui.serverview.actions.ResetMetricsAction;
 import org.glassfish.eclipse.tools.server.ui.serverview.actions.TestWebServiceAction;
 import org.glassfish.eclipse.tools.server.ui.serverview.actions.UndeployAction;
 import org.glassfish.eclipse.tools.server.ui.serverview.actions.UnregisterResourceAction;
 import org.glassfish.eclipse.tools.server.ui.serverview.actions.WSDLInfoWebServiceAction;
 import org.glassfish.eclipse.tools.server.ui.serverview.dynamicnodes.ApplicationNode;
+import org.glassfish.eclipse.tools.server.ui.serverview.dynamicnodes.CommandMetricsNode;
 import org.glassfish.eclipse.tools.server.ui.serverview.dynamicnodes.DeployedApplicationsNode;
 import org.glassfish.eclipse.tools.server.ui.serverview.dynamicnodes.ResourcesNode;
 import org.glassfish.eclipse.tools.server.ui.serverview.dynamicnodes.TreeNode;
@@ -98,6 +100,13 @@ public class ServerViewActionProvider extends GenericActionProvider {
 
                     menu.add(new TestWebServiceAction(selection));
                     menu.add(new WSDLInfoWebServiceAction(selection));
+
+                } else if (obj instanceof CommandMetricsNode) {
+
+                    // Add reset action to administration command metrics
+
+                    menu.add(new Separator());
+                    menu.add(new ResetMetricsAction(selection, actionSite));
                 }
             }
         }
@@ -27,6 +27,7 @@ import org.eclipse.wst.server.core.IServer;
 import org.eclipse.wst.server.ui.internal.viewers.BaseContentProvider;
 import org.glassfish.eclipse.tools.server.GlassFishServer;
 import org.glassfish.eclipse.tools.server.ui.serverview.dynamicnodes.ApplicationNode;
+import org.glassfish.eclipse.tools.server.ui.serverview.dynamicnodes.CommandMetricsNode;
 import org.glassfish.eclipse.tools.server.ui.serverview.dynamicnodes.DeployedApplicationsNode;
 import org.glassfish.eclipse.tools.server.ui.serverview.dynamicnodes.DeployedWebServicesNode;
 import org.glassfish.eclipse.tools.server.ui.serverview.dynamicnodes.ResourcesNode;
@@ -72,6 +73,9 @@ public class ServerViewDynamicNodeProvider extends BaseContentProvider implement
                     // Deployed web-services node
                     root.addChild(new DeployedWebServicesNode(glassfishServer));
 
+                    // Administration command metrics node
+                    root.addChild(new CommandMetricsNode(glassfishServer));
+
                     return new Object[] { root };
                 }
             }
@@ -0,0 +1,40 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.ui.serverview.actions;
+
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.TreeSelection;
+import org.eclipse.ui.navigator.ICommonActionExtensionSite;
+import org.glassfish.eclipse.tools.server.ui.serverview.dynamicnodes.CommandMetricsNode;
+
+public class ResetMetricsAction extends Action {
+
+    private ISelection selection;
+    private ICommonActionExtensionSite actionSite;
+
+    public ResetMetricsAction(ISelection selection, ICommonActionExtensionSite actionSite) {
+        setText("Reset Metrics");
+        this.selection = selection;
+        this.actionSite = actionSite;
+    }
+
+    @Override
+    public void run() {
+        if (selection instanceof TreeSelection) {
+            Object obj = ((TreeSelection) selection).getFirstElement();
+            if (obj instanceof CommandMetricsNode) {
+                ((CommandMetricsNode) obj).reset();
+                actionSite.getStructuredViewer().refresh(obj);
+            }
+        }
+    }
+
+}
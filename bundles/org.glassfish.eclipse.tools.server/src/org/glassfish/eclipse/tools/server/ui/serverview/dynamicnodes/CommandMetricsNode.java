@@ -0,0 +1,70 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.ui.serverview.dynamicnodes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.glassfish.eclipse.tools.server.GlassFishServer;
+import org.glassfish.eclipse.tools.server.sdk.admin.CommandMetrics;
+import org.glassfish.eclipse.tools.server.sdk.admin.CommandMetrics.CommandStats;
+
+/**
+ * This node is the root node below which the administration command metrics reside.
+ *
+ * <p>
+ * The following depicts this element in the "Servers" view:
+ * </p>
+ * <p>
+ *
+ * <pre>
+ * GlassFish 7 [domain1]
+ * |- GlassFish Management
+ *     |-Resources
+ *     |-Deployed Applications
+ *     |-Deployed Web Services
+ *     |-Admin Command Metrics *
+ * |- [WTP managed application]
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * Metrics are collected locally by the administration command runners, so they are available even
+ * when the server does not respond. </p>
+ *
+ */
+public class CommandMetricsNode extends TreeNode {
+
+    private GlassFishServer server;
+
+    public CommandMetricsNode(GlassFishServer server) {
+        super("Admin Command Metrics", null, null);
+        this.server = server;
+    }
+
+    public GlassFishServer getServer() {
+        return server;
+    }
+
+    @Override
+    public Object[] getChildren() {
+        List<CommandStatsNode> commands = new ArrayList<>();
+        for (CommandStats stats : CommandMetrics.get(server).getAllStats()) {
+            commands.add(new CommandStatsNode(this, stats));
+        }
+
+        return commands.toArray(new CommandStatsNode[commands.size()]);
+    }
+
+    public void reset() {
+        CommandMetrics.get(server).reset();
+    }
+
+}
@@ -0,0 +1,107 @@
+/******************************************************************************
+ * Copyright (c) 2026 OmniFish
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.glassfish.eclipse.tools.server.ui.serverview.dynamicnodes;
+
+import java.util.ArrayList;
+
+import org.eclipse.ui.views.properties.IPropertyDescriptor;
+import org.eclipse.ui.views.properties.PropertyDescriptor;
+import org.glassfish.eclipse.tools.server.sdk.admin.CommandMetrics.CommandStats;
+import org.glassfish.eclipse.tools.server.sdk.admin.CommandMetrics.Histogram;
+import org.glassfish.eclipse.tools.server.sdk.admin.CommandMetrics.Phase;
+
+/**
+ *
+ * Metrics of a single administration command in the server view. Counters and timings of
+ * individual execution phases are shown in the Properties view.
+ *
+ */
+public class CommandStatsNode extends TreeNode {
+
+    private static final String EXECUTIONS = "executions";
+    private static final String FAILURES = "failures";
+    private static final String RETRIES = "retries";
+    private static final String REDIRECTS = "redirects";
+
+    private static final String CATEGORY_COUNTERS = "Counters";
+    private static final String CATEGORY_TIMINGS = "Timings (ms)";
+
+    private CommandStats stats;
+
+    public CommandStatsNode(CommandMetricsNode root, CommandStats stats) {
+        super(stats.getCommand(), null, root);
+        this.stats = stats;
+    }
+
+    public CommandStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public String getName() {
+        return stats.getCommand() + " (" + stats.getExecutions() + ")";
+    }
+
+    @Override
+    public IPropertyDescriptor[] getPropertyDescriptors() {
+        ArrayList<IPropertyDescriptor> properties = new ArrayList<>();
+
+        properties.add(counter(EXECUTIONS, "Executions"));
+        properties.add(counter(FAILURES, "Failures"));
+        properties.add(counter(RETRIES, "Retries"));
+        properties.add(counter(REDIRECTS, "Redirects"));
+
+        for (Phase phase : Phase.values()) {
+            PropertyDescriptor descriptor = new PropertyDescriptor(phase, phase.name().toLowerCase());
+            descriptor.setCategory(CATEGORY_TIMINGS);
+            properties.add(descriptor);
+        }
+
+        return properties.toArray(new IPropertyDescriptor[0]);
+    }
+
+    @Override
+    public Object getPropertyValue(Object id) {
+        if (id instanceof Phase) {
+            Histogram histogram = stats.getHistogram((Phase) id);
+            if (histogram.getCount() == 0) {
+                return "-";
+            }
+
+            return String.format("mean %.1f, p50 %d, p95 %d, max %.1f", histogram.getMean(),
+                    histogram.getPercentile(50), histogram.getPercentile(95), histogram.getMax());
+        }
+
+        if (id.equals(EXECUTIONS)) {
+            return stats.getExecutions();
+        }
+
+        if (id.equals(FAILURES)) {
+            return stats.getFailures();
+        }
+
+        if (id.equals(RETRIES)) {
+            return stats.getRetries();
+        }
+
+        if (id.equals(REDIRECTS)) {
+            return stats.getRedirects();
+        }
+
+        return null;
+    }
+
+    private static PropertyDescriptor counter(String id, String name) {
+        PropertyDescriptor descriptor = new PropertyDescriptor(id, name);
+        descriptor.setCategory(CATEGORY_COUNTERS);
+        return descriptor;
+    }
+
+}
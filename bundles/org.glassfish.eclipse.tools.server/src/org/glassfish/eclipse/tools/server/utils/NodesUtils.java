@@ -29,6 +29,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -52,25 +53,30 @@ import org.glassfish.eclipse.tools.server.serverview.WSDesc;
 public class NodesUtils {
 
     public static List<ResourceDesc> getResources(GlassFishServer server, String type) {
-        List<String> result = Collections.emptyList();
-        LinkedList<ResourceDesc> retVal = null;
         try {
-            Command command = new CommandListResources(CommandListResources.command(type), null);
-            Future<ResultList<String>> future = ServerAdmin.<ResultList<String>>exec(server, command);
-            ResultList<String> res = future.get();
-            if (COMPLETED.equals(res.getState())) {
-                result = res.getValue();
-            }
-            retVal = new LinkedList<>();
-            for (String rsc : result) {
-                retVal.add(new ResourceDesc(rsc, type));
-            }
+            return getResourcesAsync(server, type).get();
         } catch (InterruptedException ex) {
             Logger.getLogger("glassfish").log(Level.INFO, ex.getMessage(), ex);
         } catch (Exception ex) {
             Logger.getLogger("glassfish").log(Level.INFO, ex.getMessage(), ex);
         }
-        return retVal;
+        return null;
+    }
+
+    public static CompletableFuture<List<ResourceDesc>> getResourcesAsync(GlassFishServer server, String type) {
+        Command command = new CommandListResources(CommandListResources.command(type), null);
+        // Cancelling returned future cancels the command
+        return ServerAdmin.thenApply(ServerAdmin.executeOn(server)
+                .command(command)
+                .timeOut(10, SECONDS)
+                .<ResultList<String>>async(), res -> {
+                    List<String> result = COMPLETED.equals(res.getState()) ? res.getValue() : Collections.emptyList();
+                    List<ResourceDesc> retVal = new LinkedList<>();
+                    for (String rsc : result) {
+                        retVal.add(new ResourceDesc(rsc, type));
+                    }
+                    return retVal;
+                });
     }
 
     public static Map<String, List<AppDesc>> getApplications(GlassFishServer server, String container) {
@@ -18,6 +18,7 @@
 
 package org.glassfish.eclipse.tools.server.utils;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.glassfish.eclipse.tools.server.GlassFishServerPlugin.logMessage;
 import static org.glassfish.eclipse.tools.server.ServerStatus.NOT_DEFINED;
@@ -30,23 +31,27 @@ import static org.glassfish.eclipse.tools.server.ServerStatus.STOPPED_DOMAIN_NOT
 import static org.glassfish.eclipse.tools.server.ServerStatus.STOPPED_NOT_LISTENING;
 import static org.glassfish.eclipse.tools.server.sdk.TaskEvent.AUTH_FAILED;
 import static org.glassfish.eclipse.tools.server.sdk.TaskEvent.BAD_GATEWAY;
-import static org.glassfish.eclipse.tools.server.sdk.utils.ServerUtils.isAdminPortListening;
+import static org.glassfish.eclipse.tools.server.sdk.utils.ServerUtils.isAdminPortListeningAsync;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeoutException;
 
 import org.eclipse.wst.server.core.IServer;
 import org.glassfish.eclipse.tools.server.GlassFishRuntime;
 import org.glassfish.eclipse.tools.server.GlassFishServer;
 import org.glassfish.eclipse.tools.server.ServerStatus;
-import org.glassfish.eclipse.tools.server.deploying.GlassFishServerBehaviour;
+import org.glassfish.eclipse.tools.server.internal.ServerCapabilities;
 import org.glassfish.eclipse.tools.server.sdk.TaskEvent;
 import org.glassfish.eclipse.tools.server.sdk.TaskState;
 import org.glassfish.eclipse.tools.server.sdk.TaskStateListener;
+import org.glassfish.eclipse.tools.server.sdk.admin.AdminCircuitBreaker;
+import org.glassfish.eclipse.tools.server.sdk.admin.AdminConnectionPool;
 import org.glassfish.eclipse.tools.server.sdk.admin.CommandLocation;
 import org.glassfish.eclipse.tools.server.sdk.admin.ResultMap;
 import org.glassfish.eclipse.tools.server.sdk.admin.ServerAdmin;
@@ -54,62 +59,90 @@ import org.glassfish.eclipse.tools.server.sdk.admin.ServerAdmin;
 public class ServerStatusHelper {
 
     public static ServerStatus checkServerStatus(GlassFishServer server) {
-
-        // Randomly wait for some random reason
         try {
-            Thread.sleep(Math.round(Math.random() * 1000));
+            return checkServerStatusAsync(server, NOT_DEFINED, ForkJoinPool.commonPool()).get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            return NOT_DEFINED;
-        }
-
-        if (!isAdminPortListening(server)) {
-            return STOPPED_NOT_LISTENING;
+            logMessage("ServerStatusMonitor for " + server.getName() + " interrupted");
+        } catch (ExecutionException e) {
+            logMessage("ServerStatusMonitor for " + server.getName() + " throws exception");
+            e.printStackTrace();
         }
 
-        if (server.isRemote()) {
-            IServer server1 = server.getServer();
-            String remoteServerVersion = GlassFishServerBehaviour.getVersion(server);
-            GlassFishRuntime glassfishRuntime = (GlassFishRuntime) server1.getRuntime().loadAdapter(GlassFishRuntime.class, null);
+        return NOT_DEFINED;
+    }
 
-            String thisServerVersion = glassfishRuntime.getVersion().toString();
-            int n = thisServerVersion.indexOf(".X");
+    /**
+     * Checks server status without blocking calling thread. Admin port is probed by the shared
+     * port probe and <code>__locations</code> command is executed asynchronously, so no thread waits
+     * for the server while the check is running.
+     *
+     * @param server GlassFish server to check
+     * @param previousStatus status found by previous check, admin circuit breaker is closed when server
+     * was not listening before
+     * @param executor executor continuing the check after admin port probe, so the probe thread
+     * never runs status checking code
+     * @return future completed with server status
+     */
+    public static CompletableFuture<ServerStatus> checkServerStatusAsync(GlassFishServer server,
+            ServerStatus previousStatus, Executor executor) {
+        return isAdminPortListeningAsync(server).thenComposeAsync(listening -> {
+            if (!listening) {
+                // Server may be started again as different one, e.g. with secure admin switched
+                ServerCapabilities.invalidate(server);
+                AdminConnectionPool.invalidate(server);
+                return completedFuture(STOPPED_NOT_LISTENING);
+            }
 
-            if (n > 0) {
-                thisServerVersion = thisServerVersion.substring(0, n + 1);
+            if (previousStatus == STOPPED_NOT_LISTENING) {
+                // Server is back, commands must not wait for breaker opened while it was down
+                AdminCircuitBreaker.reset(server);
             }
 
-            if (remoteServerVersion != null && remoteServerVersion.indexOf(thisServerVersion) < 0) {
-                return STOPPED_DOMAIN_NOT_MATCHING;
+            if (server.isRemote() && !remoteVersionMatching(server)) {
+                return completedFuture(STOPPED_DOMAIN_NOT_MATCHING);
             }
-        }
 
-        CommandLocation command = new CommandLocation();
-        LastTaskEventListener listener = new LastTaskEventListener();
-        ResultMap<String, String> result = null;
-        Future<ResultMap<String, String>> locationTask = null;
+            LastTaskEventListener listener = new LastTaskEventListener();
+            CompletableFuture<ResultMap<String, String>> locationTask = ServerAdmin.execAsync(server,
+                    new CommandLocation(), listener);
 
-        try {
-            locationTask = ServerAdmin.exec(server, command, listener);
-            result = locationTask.get(10, SECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logMessage("ServerStatusMonitor for " + server.getName() + " location interrupted");
-        } catch (ExecutionException e) {
-            logMessage("ServerStatusMonitor for " + server.getName() + " location throws exception");
-            e.printStackTrace();
-        } catch (TimeoutException e) {
-            logMessage("ServerStatusMonitor for " + server.getName() + " location timed out");
-        } finally {
-            if (result == null) {
-                if (locationTask != null) {
+            return locationTask.orTimeout(10, SECONDS).handle((result, thrown) -> {
+                if (thrown instanceof TimeoutException) {
+                    logMessage("ServerStatusMonitor for " + server.getName() + " location timed out");
+                } else if (thrown != null) {
+                    logMessage("ServerStatusMonitor for " + server.getName() + " location throws exception");
+                    thrown.printStackTrace();
+                }
+
+                if (result == null) {
                     locationTask.cancel(true);
+                    return RUNNING_CONNECTION_ERROR;
                 }
 
-                return RUNNING_CONNECTION_ERROR;
-            }
+                return locationStatus(server, result, listener);
+            });
+        }, executor);
+    }
+
+    private static boolean remoteVersionMatching(GlassFishServer server) {
+        IServer server1 = server.getServer();
+        ServerCapabilities capabilities = ServerCapabilities.getIfKnown(server);
+        String remoteServerVersion = capabilities != null ? capabilities.getVersionString() : null;
+        GlassFishRuntime glassfishRuntime = (GlassFishRuntime) server1.getRuntime().loadAdapter(GlassFishRuntime.class, null);
+
+        String thisServerVersion = glassfishRuntime.getVersion().toString();
+        int n = thisServerVersion.indexOf(".X");
+
+        if (n > 0) {
+            thisServerVersion = thisServerVersion.substring(0, n + 1);
         }
 
+        return remoteServerVersion == null || remoteServerVersion.indexOf(thisServerVersion) >= 0;
+    }
+
+    private static ServerStatus locationStatus(GlassFishServer server, ResultMap<String, String> result,
+            LastTaskEventListener listener) {
         ServerStatus serverStatus = null;
         switch (result.getState()) {
         case COMPLETED:
@@ -128,7 +161,7 @@ public class ServerStatusHelper {
                 serverStatus = RUNNING_CREDENTIAL_PROBLEM;
             } else if (isRemoteAdminException(result)) {
                 serverStatus = RUNNING_REMOTE_NOT_SECURE;
-            } else if (listener.getLastEvent().equals(BAD_GATEWAY)) {
+            } else if (BAD_GATEWAY.equals(listener.getLastEvent())) {
                 serverStatus = RUNNING_PROXY_ERROR;
             } else {
                 serverStatus = RUNNING_CONNECTION_ERROR;
@@ -136,7 +169,6 @@ public class ServerStatusHelper {
             break;
         case RUNNING:
             logMessage("ServerStatusMonitor for " + server.getName() + " location takes long time...");
-            locationTask.cancel(true);
             serverStatus = NOT_DEFINED;
             break;
         default: